@@ -18,6 +18,7 @@
 
 package com.navercorp.spring.data.jdbc.plus.repository.guide.article;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import java.time.Instant;
@@ -182,4 +183,13 @@ public class EnumStateArticleRepositoryTest {
 				}
 			);
 	}
+
+	@Test
+	void upsertRejectsVersionedEntity() {
+		// when
+		Throwable thrown = catchThrowable(() -> this.sut.upsert(articles.get(0)));
+
+		// then
+		then(thrown).isInstanceOf(IllegalStateException.class);
+	}
 }
@@ -18,9 +18,11 @@
 
 package com.navercorp.spring.data.jdbc.plus.repository.guide.order;
 
+import static java.util.Comparator.comparing;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +31,10 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -137,6 +143,24 @@ public class OrderRepositoryTest {
 		});
 	}
 
+	@Test
+	void insertAllAssignsIdsInInputOrder() {
+		// when
+		List<Order> actual = new ArrayList<>();
+		this.sut.insertAll(orders).forEach(actual::add);
+
+		// then
+		assertThat(actual).extracting(Order::getId).isSorted().doesNotHaveDuplicates();
+		for (int i = 0; i < orders.size(); i++) {
+			Order expected = orders.get(i);
+			Order found = this.sut.findById(actual.get(i).getId()).orElseThrow();
+			assertThat(found.getDiscount().getOriginPrice())
+				.isEqualByComparingTo(expected.getDiscount().getOriginPrice());
+			assertThat(found.getItems()).extracting(OrderItem::getName)
+				.containsExactlyElementsOf(expected.getItems().stream().map(OrderItem::getName).toList());
+		}
+	}
+
 	@Test
 	void update() {
 		// given
@@ -150,6 +174,44 @@ public class OrderRepositoryTest {
 		assertThat(actual.getStatus()).isEqualTo(OrderStatus.COMPLETED);
 	}
 
+	@Test
+	void updateAllWithItems() {
+		// given
+		List<Order> inserted = new ArrayList<>();
+		this.sut.insertAll(orders.subList(0, 2)).forEach(inserted::add);
+		List<Order> changed = inserted.stream()
+			.map(order -> Order.builder()
+				.id(order.getId())
+				.purchaserId(order.getPurchaserId())
+				.status(OrderStatus.COMPLETED)
+				.discount(order.getDiscount())
+				.items(Collections.singletonList(
+					OrderItem.builder()
+						.name("replaced-" + order.getId())
+						.productNo("9")
+						.pricing(
+							Pricing.builder()
+								.price(BigDecimal.valueOf(500))
+								.quantity(1)
+								.build())
+						.sellerId("smart-store")
+						.build()
+				))
+				.build())
+			.toList();
+
+		// when
+		this.sut.updateAll(changed);
+
+		// then
+		for (Order order : changed) {
+			Order found = this.sut.findById(order.getId()).orElseThrow();
+			assertThat(found.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+			assertThat(found.getItems()).extracting(OrderItem::getName)
+				.containsExactly("replaced-" + order.getId());
+		}
+	}
+
 	@Test
 	void findById() {
 		// given
@@ -162,4 +224,31 @@ public class OrderRepositoryTest {
 		assertThat(actual).isNotEmpty();
 		assertThat(actual.get().getId()).isEqualTo(order.getId());
 	}
+
+	@Test
+	void findAllByKeyset() {
+		// given
+		List<Order> inserted = new ArrayList<>();
+		this.sut.insertAll(orders).forEach(inserted::add);
+		List<Order> expected = inserted.stream()
+			.sorted(comparing((Order order) -> order.getStatus().name()).thenComparing(Order::getId))
+			.toList();
+		Sort sort = Sort.by("status");
+
+		// when
+		Window<Order> first = this.sut.findAll(sort, ScrollPosition.keyset(), 2);
+		Window<Order> second = this.sut.findAll(
+			sort, (KeysetScrollPosition)first.positionAt(first.size() - 1), 2);
+
+		// then
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.hasNext()).isFalse();
+
+		List<Order> actual = new ArrayList<>(first.getContent());
+		actual.addAll(second.getContent());
+		assertThat(actual).extracting(Order::getId)
+			.containsExactlyElementsOf(expected.stream().map(Order::getId).toList());
+		assertThat(actual).extracting(order -> order.getItems().size())
+			.containsExactlyElementsOf(expected.stream().map(order -> order.getItems().size()).toList());
+	}
 }
@@ -20,6 +20,7 @@ package com.navercorp.spring.data.jdbc.plus.repository.guide.shipping;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,7 +28,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -36,10 +42,14 @@ import org.springframework.transaction.annotation.Transactional;
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 public class ShippingRepositoryTest {
 	@Autowired
 	private ShippingRepository sut;
 
+	@Autowired
+	private ApplicationEvents events;
+
 	private Shipping shipping = Shipping.builder()
 		.id(UUID.randomUUID())
 		.orderId(AggregateReference.to(1L))
@@ -67,6 +77,57 @@ public class ShippingRepositoryTest {
 		assertThat(actual.getMemo()).isEqualTo("non-fragile");
 	}
 
+	@Test
+	void upsert() {
+		// given
+		this.sut.upsert(this.shipping);
+		this.shipping.changeMemo("non-fragile");
+
+		// when
+		this.sut.upsert(this.shipping);
+
+		// then
+		assertThat(this.sut.findById(this.shipping.getId())).hasValueSatisfying(actual ->
+			assertThat(actual.getMemo()).isEqualTo("non-fragile"));
+	}
+
+	@Test
+	void upsertAll() {
+		// given
+		Shipping inserted = this.sut.insert(this.shipping);
+		inserted.changeMemo("non-fragile");
+		Shipping other = Shipping.builder()
+			.id(UUID.randomUUID())
+			.orderId(AggregateReference.to(2L))
+			.receiverAddress("blue factory")
+			.memo("fragile")
+			.build();
+
+		// when
+		List<Shipping> actual = this.sut.upsertAll(List.of(inserted, other));
+
+		// then
+		assertThat(actual).containsExactly(inserted, other);
+		assertThat(this.sut.findById(inserted.getId())).hasValueSatisfying(it ->
+			assertThat(it.getMemo()).isEqualTo("non-fragile"));
+		assertThat(this.sut.findById(other.getId())).hasValueSatisfying(it ->
+			assertThat(it.getReceiverAddress()).isEqualTo("blue factory"));
+	}
+
+	@Test
+	void upsertPublishesSaveEvents() {
+		// when
+		this.sut.upsert(this.shipping);
+
+		// then
+		assertThat(this.events.stream(BeforeConvertEvent.class)).hasSize(1);
+		assertThat(this.events.stream(BeforeSaveEvent.class)).hasSize(1);
+		assertThat(this.events.stream(AfterSaveEvent.class))
+			.singleElement()
+			.extracting(AfterSaveEvent::getEntity)
+			.isEqualTo(this.shipping);
+	}
+
 	@Test
 	void findViaReferenceByOrderReference() {
 		// given
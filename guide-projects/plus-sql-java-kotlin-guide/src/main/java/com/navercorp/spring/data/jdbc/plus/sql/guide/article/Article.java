@@ -0,0 +1,129 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
+
+import static java.util.Comparator.comparing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Builder;
+
+/**
+ * Aggregate of which every entity has a single column id.
+ *
+ * @author Myeonghyeon Lee
+ */
+@Builder(toBuilder = true)
+@Table("n_article")
+public record Article(
+	@Id
+	Long id,
+
+	String title,
+
+	@Embedded.Nullable(prefix = "writer_")
+	@Nullable Writer writer,
+
+	@MappedCollection(idColumn = "article_id")
+	@Nullable Set<Tag> tags,
+
+	@MappedCollection(idColumn = "article_id", keyColumn = "article_index")
+	@Nullable List<Section> sections,
+
+	@MappedCollection(idColumn = "article_id", keyColumn = "option_key")
+	@Nullable Map<String, Option> options,
+
+	@Column("article_id")
+	@Nullable Summary summary
+) {
+	public Article {
+		tags = tags == null ? Set.of() : tags;
+		sections = sections == null ? List.of() : sections;
+		options = options == null ? Map.of() : options;
+	}
+
+	public Article sort() {
+		return toBuilder()
+			.sections(sections.stream()
+				.sorted(comparing(Section::id))
+				.toList())
+			.build();
+	}
+
+	@Builder(toBuilder = true)
+	public record Writer(
+		String name,
+
+		String email
+	) {
+	}
+
+	@Builder(toBuilder = true)
+	@Table("n_article_tag")
+	public record Tag(
+		@Id
+		Long id,
+
+		String content
+	) {
+	}
+
+	@Builder(toBuilder = true)
+	@Table("n_article_section")
+	public record Section(
+		@Id
+		Long id,
+
+		String title,
+
+		String content
+	) {
+	}
+
+	@Builder(toBuilder = true)
+	@Table("n_article_option")
+	public record Option(
+		@Id
+		Long id,
+
+		String optionKey,
+
+		String optionValue
+	) {
+	}
+
+	@Builder(toBuilder = true)
+	@Table("n_article_summary")
+	public record Summary(
+		@Id
+		Long id,
+
+		String content
+	) {
+	}
+}
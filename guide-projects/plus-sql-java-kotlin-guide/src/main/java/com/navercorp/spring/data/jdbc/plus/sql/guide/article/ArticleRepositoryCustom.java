@@ -0,0 +1,40 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+public interface ArticleRepositoryCustom {
+	List<Article> findAllGraph();
+
+	Stream<Article> findAllGraphStream();
+
+	List<SplitArticle> findAllSplitGraph();
+
+	List<JsonArticle> findAllJsonGraph();
+
+	Page<Article> findGraphPage(Pageable pageable);
+}
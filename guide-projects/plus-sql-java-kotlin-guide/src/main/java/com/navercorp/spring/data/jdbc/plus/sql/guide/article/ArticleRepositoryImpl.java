@@ -0,0 +1,66 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.sql.ArticleSql;
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityJdbcProvider;
+import com.navercorp.spring.data.jdbc.plus.sql.support.JdbcRepositorySupport;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+public class ArticleRepositoryImpl extends JdbcRepositorySupport<Article> implements ArticleRepositoryCustom {
+	private final ArticleSql sqls;
+
+	protected ArticleRepositoryImpl(EntityJdbcProvider entityJdbcProvider) {
+		super(Article.class, entityJdbcProvider);
+		this.sqls = sqls(ArticleSql::new);
+	}
+
+	@Override
+	public List<Article> findAllGraph() {
+		return find(this.sqls.selectAllGraph(), mapParameterSource());
+	}
+
+	@Override
+	public Stream<Article> findAllGraphStream() {
+		return findStream(this.sqls.selectAllGraph(), mapParameterSource());
+	}
+
+	@Override
+	public List<SplitArticle> findAllSplitGraph() {
+		return find(this.sqls.selectAllSplitGraph(), mapParameterSource(), SplitArticle.class);
+	}
+
+	@Override
+	public List<JsonArticle> findAllJsonGraph() {
+		return find(this.sqls.selectAllJsonGraph(), mapParameterSource(), JsonArticle.class);
+	}
+
+	@Override
+	public Page<Article> findGraphPage(Pageable pageable) {
+		return findPage(this.sqls.selectAll(), mapParameterSource(), pageable);
+	}
+}
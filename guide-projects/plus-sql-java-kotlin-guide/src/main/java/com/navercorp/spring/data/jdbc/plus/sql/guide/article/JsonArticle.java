@@ -0,0 +1,79 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Builder;
+
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Option;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Section;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Summary;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Tag;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Writer;
+import com.navercorp.spring.jdbc.plus.commons.annotations.SqlFetchMode;
+
+/**
+ * {@link Article} read with relations applied @SqlFetchMode(JSON).
+ *
+ * @author Myeonghyeon Lee
+ */
+@Builder(toBuilder = true)
+@Table("n_article")
+@SqlFetchMode(SqlFetchMode.Mode.JSON)
+public record JsonArticle(
+	@Id
+	Long id,
+
+	String title,
+
+	@Embedded.Nullable(prefix = "writer_")
+	@Nullable Writer writer,
+
+	@MappedCollection(idColumn = "article_id")
+	@Nullable Set<Tag> tags,
+
+	@MappedCollection(idColumn = "article_id", keyColumn = "article_index")
+	@Nullable List<Section> sections,
+
+	@MappedCollection(idColumn = "article_id", keyColumn = "option_key")
+	@Nullable Map<String, Option> options,
+
+	@Column("article_id")
+	@Nullable Summary summary
+) {
+	public JsonArticle {
+		tags = tags == null ? Set.of() : tags;
+		sections = sections == null ? List.of() : sections;
+		options = options == null ? Map.of() : options;
+	}
+
+	public Article toArticle() {
+		return new Article(id, title, writer, tags, sections, options, summary);
+	}
+}
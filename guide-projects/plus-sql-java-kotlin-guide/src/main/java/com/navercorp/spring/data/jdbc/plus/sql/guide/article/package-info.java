@@ -0,0 +1,2 @@
+@org.jspecify.annotations.NullMarked
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
@@ -0,0 +1,61 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article.sql
+
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.JsonArticle
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.SplitArticle
+import com.navercorp.spring.data.jdbc.plus.sql.support.SqlGeneratorSupport
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class ArticleSql : SqlGeneratorSupport() {
+    fun selectAll(): String = """
+        SELECT ${sql.columns(Article::class.java)}
+
+        FROM ${sql.tables(Article::class.java)}
+
+        ORDER BY n_article.id
+        """
+
+    fun selectAllGraph(): String = """
+        SELECT ${sql.aggregateColumns(Article::class.java)}
+
+        FROM ${sql.aggregateTables(Article::class.java)}
+
+        ORDER BY n_article.id, sections.article_index
+        """
+
+    fun selectAllSplitGraph(): String = """
+        SELECT ${sql.aggregateColumns(SplitArticle::class.java)}
+
+        FROM ${sql.aggregateTables(SplitArticle::class.java)}
+
+        ORDER BY n_article.id
+        """
+
+    fun selectAllJsonGraph(): String = """
+        SELECT ${sql.aggregateColumns(JsonArticle::class.java)}
+
+        FROM ${sql.aggregateTables(JsonArticle::class.java)}
+
+        ORDER BY n_article.id
+        """
+}
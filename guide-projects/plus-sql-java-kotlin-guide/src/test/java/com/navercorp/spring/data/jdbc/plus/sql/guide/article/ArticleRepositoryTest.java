@@ -0,0 +1,294 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
+
+import static com.navercorp.fixturemonkey.api.expression.JavaGetterMethodPropertySelector.javaGetter;
+import static com.navercorp.spring.data.jdbc.plus.sql.guide.test.ArbitrarySpec.fixtureMonkey;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+@SuppressWarnings("ALL")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ArticleRepositoryTest {
+	@Autowired
+	private ArticleRepository sut;
+
+	@Autowired
+	private DataSource dataSource;
+
+	// every aggregate is read from multiple rows
+	List<Article> articles = fixtureMonkey.giveMeBuilder(Article.class)
+		.size(javaGetter(Article::tags), 2, 3)
+		.size(javaGetter(Article::sections), 2, 3)
+		.sampleList(5);
+
+	@Test
+	void findAllGraph() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual = this.sut.findAllGraph();
+
+		// then
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void findAllGraphStream() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual;
+		try (Stream<Article> stream = this.sut.findAllGraphStream()) {
+			actual = stream.toList();
+		}
+
+		// then
+		then(actual).isEqualTo(savedArticles);
+		then(actual.get(actual.size() - 1)).isEqualTo(savedArticles.get(savedArticles.size() - 1));
+	}
+
+	@Test
+	void findAllGraphStreamEmpty() {
+		// when
+		List<Article> actual;
+		try (Stream<Article> stream = this.sut.findAllGraphStream()) {
+			actual = stream.toList();
+		}
+
+		// then
+		then(actual).isEmpty();
+	}
+
+	@Test
+	void findAllGraphStreamLimit() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual;
+		try (Stream<Article> stream = this.sut.findAllGraphStream()) {
+			actual = stream.limit(2).toList();
+		}
+
+		// then
+		then(actual).isEqualTo(savedArticles.subList(0, 2));
+	}
+
+	@Test
+	void findAllSplitGraph() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual = this.sut.findAllSplitGraph().stream()
+			.map(SplitArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+
+		// then
+		then(actual).isEqualTo(this.sut.findAllGraph());
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void findAllSplitGraphEmptyRelations() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles.stream()
+				.map(article -> article.toBuilder()
+					.tags(null)
+					.sections(null)
+					.options(null)
+					.summary(null)
+					.build())
+				.toList())
+			.stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual = this.sut.findAllSplitGraph().stream()
+			.map(SplitArticle::toArticle)
+			.toList();
+
+		// then
+		then(actual).isEqualTo(this.sut.findAllGraph());
+		then(actual).isEqualTo(savedArticles);
+		then(actual).allSatisfy(article -> {
+			then(article.tags()).isEmpty();
+			then(article.sections()).isEmpty();
+			then(article.options()).isEmpty();
+			then(article.summary()).isNull();
+		});
+	}
+
+	@Test
+	void findAllSplitGraphOverIdsChunkSize() {
+		// given
+		List<Article> savedArticles = sut.saveAll(fixtureMonkey.giveMeBuilder(Article.class)
+				.size(javaGetter(Article::tags), 1)
+				.size(javaGetter(Article::sections), 1)
+				.sampleList(1_010))
+			.stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual = this.sut.findAllSplitGraph().stream()
+			.map(SplitArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+
+		// then
+		then(actual).hasSize(1_010);
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void findAllJsonGraph() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual = this.sut.findAllJsonGraph().stream()
+			.map(JsonArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+
+		// then
+		then(actual).isEqualTo(this.sut.findAllGraph());
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void findAllJsonGraphEmptyRelations() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles.stream()
+				.map(article -> article.toBuilder()
+					.tags(null)
+					.sections(null)
+					.options(null)
+					.build())
+				.toList())
+			.stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		List<Article> actual = this.sut.findAllJsonGraph().stream()
+			.map(JsonArticle::toArticle)
+			.toList();
+
+		// then
+		then(actual).isEqualTo(this.sut.findAllGraph());
+		then(actual).isEqualTo(savedArticles);
+		then(actual).allSatisfy(article -> {
+			then(article.tags()).isEmpty();
+			then(article.sections()).isEmpty();
+			then(article.options()).isEmpty();
+		});
+	}
+
+	@Test
+	void findGraphPage() {
+		// given
+		List<Article> savedArticles = sut.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+
+		// when
+		Page<Article> actual1 = this.sut.findGraphPage(PageRequest.of(0, 3));
+		Page<Article> actual2 = this.sut.findGraphPage(PageRequest.of(1, 3));
+
+		// then
+		then(actual1.getContent().stream().map(Article::sort).toList()).isEqualTo(savedArticles.subList(0, 3));
+		then(actual1.getTotalElements()).isEqualTo(5);
+		then(actual1.hasNext()).isTrue();
+		then(actual2.getContent().stream().map(Article::sort).toList()).isEqualTo(savedArticles.subList(3, 5));
+		then(actual2.getTotalElements()).isEqualTo(5);
+		then(actual2.hasNext()).isFalse();
+	}
+
+	@Test
+	void findGraphPageSorted() {
+		// when, then
+		thenThrownBy(() -> this.sut.findGraphPage(PageRequest.of(0, 3, Sort.by("title"))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void findAllGraphStreamLimitReleaseConnection() throws Exception {
+		HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		try {
+			// given
+			List<Article> savedArticles = sut.saveAll(articles).stream()
+				.map(Article::sort)
+				.toList();
+
+			// when
+			Stream<Article> stream = this.sut.findAllGraphStream();
+			int activeConnections = pool.getActiveConnections();
+			List<Article> actual = stream.limit(1).toList();
+			stream.close();
+
+			// then
+			then(actual).containsExactly(savedArticles.get(0));
+			then(activeConnections).isEqualTo(1);
+			then(pool.getActiveConnections()).isZero();
+		} finally {
+			sut.deleteAll();
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.article;
+
+import static com.navercorp.spring.data.jdbc.plus.sql.guide.test.ArbitrarySpec.fixtureMonkey;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.DirectAggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.SplitRelationFetcher;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.board.Board;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.board.BoardRepository;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
+
+/**
+ * Reads the same aggregate query with {@link DirectAggregateResultJdbcConverter}
+ * and {@link AggregateResultJdbcConverter}.
+ *
+ * @author Myeonghyeon Lee
+ */
+@SuppressWarnings("ALL")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class DirectAggregateMappingTest {
+	@Autowired
+	private ArticleRepository articleRepository;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private JdbcMappingContext mappingContext;
+
+	@Autowired
+	private RelationResolver relationResolver;
+
+	@Autowired
+	private JdbcCustomConversions conversions;
+
+	@Autowired
+	private NamedParameterJdbcOperations jdbcOperations;
+
+	@Autowired
+	private SqlProvider sqlProvider;
+
+	List<Article> articles = fixtureMonkey.giveMe(Article.class, 5);
+
+	@Test
+	void readDirectAggregate() {
+		// given
+		List<Article> savedArticles = articleRepository.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+		String sql = "SELECT " + sqlProvider.aggregateColumns(Article.class)
+			+ " FROM " + sqlProvider.aggregateTables(Article.class)
+			+ " ORDER BY n_article.id, sections.article_index";
+
+		// when
+		List<Article> actual = this.read(directConverter(), Article.class, sql, null);
+		List<Article> expected = this.read(converter(), Article.class, sql, null);
+
+		// then
+		then(actual).isEqualTo(expected);
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void readDirectAggregateWithEmptyRelations() {
+		// given
+		List<Article> savedArticles = articleRepository.saveAll(articles.stream()
+				.map(article -> article.toBuilder()
+					.writer(null)
+					.tags(null)
+					.sections(null)
+					.options(null)
+					.summary(null)
+					.build())
+				.toList())
+			.stream()
+			.map(Article::sort)
+			.toList();
+		String sql = "SELECT " + sqlProvider.aggregateColumns(Article.class)
+			+ " FROM " + sqlProvider.aggregateTables(Article.class)
+			+ " ORDER BY n_article.id, sections.article_index";
+
+		// when
+		List<Article> actual = this.read(directConverter(), Article.class, sql, null);
+		List<Article> expected = this.read(converter(), Article.class, sql, null);
+
+		// then
+		then(actual).isEqualTo(expected);
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void readCompositeRelationIdFallback() {
+		// given
+		List<Board> savedBoards = boardRepository.saveAll(fixtureMonkey.giveMe(Board.class, 3)).stream()
+			.map(Board::sort)
+			.toList();
+		String sql = "SELECT " + sqlProvider.aggregateColumns(Board.class)
+			+ " FROM " + sqlProvider.aggregateTables(Board.class)
+			+ " ORDER BY n_board.id, posts.board_index, posts_comments.post_index";
+
+		// when
+		List<Board> actual = this.read(directConverter(), Board.class, sql, null).stream()
+			.map(Board::sort)
+			.toList();
+		List<Board> expected = this.read(converter(), Board.class, sql, null).stream()
+			.map(Board::sort)
+			.toList();
+
+		// then
+		then(actual).isEqualTo(expected);
+		then(actual).isEqualTo(savedBoards);
+	}
+
+	@Test
+	void readJsonRelationFallback() {
+		// given
+		List<Article> savedArticles = articleRepository.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+		String sql = "SELECT " + sqlProvider.aggregateColumns(JsonArticle.class)
+			+ " FROM " + sqlProvider.aggregateTables(JsonArticle.class)
+			+ " ORDER BY n_article.id";
+
+		// when
+		List<Article> actual = this.read(directConverter(), JsonArticle.class, sql, null).stream()
+			.map(JsonArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+		List<Article> expected = this.read(converter(), JsonArticle.class, sql, null).stream()
+			.map(JsonArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+
+		// then
+		then(actual).isEqualTo(expected);
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	@Test
+	void readSplitRelationFallback() {
+		// given
+		List<Article> savedArticles = articleRepository.saveAll(articles).stream()
+			.map(Article::sort)
+			.toList();
+		String sql = "SELECT " + sqlProvider.aggregateColumns(SplitArticle.class)
+			+ " FROM " + sqlProvider.aggregateTables(SplitArticle.class)
+			+ " ORDER BY n_article.id";
+		Map<AggregatePath, String> splitQueries = sqlProvider.aggregateSplitQueries(SplitArticle.class);
+		SplitRelationFetcher splitRelationFetcher = (relationPath, parentIds, rowCallbackHandler) ->
+			jdbcOperations.query(
+				splitQueries.get(relationPath),
+				new MapSqlParameterSource("ids", parentIds),
+				rowCallbackHandler);
+
+		// when
+		List<Article> actual = this.read(directConverter(), SplitArticle.class, sql, splitRelationFetcher).stream()
+			.map(SplitArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+		List<Article> expected = this.read(converter(), SplitArticle.class, sql, splitRelationFetcher).stream()
+			.map(SplitArticle::toArticle)
+			.map(Article::sort)
+			.toList();
+
+		// then
+		then(splitQueries).isNotEmpty();
+		then(actual).isEqualTo(expected);
+		then(actual).isEqualTo(savedArticles);
+	}
+
+	private AggregateResultJdbcConverter converter() {
+		return new AggregateResultJdbcConverter(
+			mappingContext,
+			relationResolver,
+			conversions,
+			new DefaultJdbcTypeFactory(jdbcOperations.getJdbcOperations()));
+	}
+
+	private AggregateResultJdbcConverter directConverter() {
+		return new DirectAggregateResultJdbcConverter(
+			mappingContext,
+			relationResolver,
+			conversions,
+			new DefaultJdbcTypeFactory(jdbcOperations.getJdbcOperations()));
+	}
+
+	private <T> List<T> read(
+		AggregateResultJdbcConverter converter,
+		Class<T> type,
+		String sql,
+		@Nullable SplitRelationFetcher splitRelationFetcher
+	) {
+		RelationalPersistentEntity<T> entity =
+			(RelationalPersistentEntity<T>)mappingContext.getRequiredPersistentEntity(type);
+		ResultSetExtractor<List<T>> resultSetExtractor =
+			rs -> converter.mapAggregate(entity, rs, splitRelationFetcher, sql);
+		return jdbcOperations.query(sql, new MapSqlParameterSource(), resultSetExtractor);
+	}
+}
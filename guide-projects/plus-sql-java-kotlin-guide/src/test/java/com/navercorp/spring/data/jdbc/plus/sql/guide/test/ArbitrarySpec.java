@@ -64,7 +64,12 @@ public class ArbitrarySpec {
 				.add(BoardSpec.COMMENT_INSTANCE)
 				.add(BoardSpec.AUDIT_INSTANCE)
 				.add(BoardSpec.AUDIT_SECRET_INSTANCE)
-				.add(BoardSpec.MEMO_INSTANCE);
+				.add(BoardSpec.MEMO_INSTANCE)
+				.add(ArticleSpec.ARTICLE_INSTANCE)
+				.add(ArticleSpec.WRITER_INSTANCE)
+				.add(ArticleSpec.TAG_INSTANCE)
+				.add(ArticleSpec.SECTION_INSTANCE)
+				.add(ArticleSpec.SUMMARY_INSTANCE);
 		}
 	}
 
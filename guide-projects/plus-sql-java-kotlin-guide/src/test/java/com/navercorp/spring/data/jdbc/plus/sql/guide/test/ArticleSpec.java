@@ -0,0 +1,127 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.guide.test;
+
+import static com.navercorp.fixturemonkey.api.expression.JavaGetterMethodPropertySelector.javaGetter;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.jspecify.annotations.NonNull;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import com.navercorp.fixturemonkey.buildergroup.ArbitraryBuilderCandidate;
+import com.navercorp.fixturemonkey.resolver.ArbitraryBuilderCandidateFactory;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Option;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Section;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Summary;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Tag;
+import com.navercorp.spring.data.jdbc.plus.sql.guide.article.Article.Writer;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ArticleSpec {
+	static final ArbitraryBuilderCandidate<Article> ARTICLE_INSTANCE = createArticle();
+	static final ArbitraryBuilderCandidate<Writer> WRITER_INSTANCE = createWriter();
+	static final ArbitraryBuilderCandidate<Tag> TAG_INSTANCE = createTag();
+	static final ArbitraryBuilderCandidate<Section> SECTION_INSTANCE = createSection();
+	static final ArbitraryBuilderCandidate<Summary> SUMMARY_INSTANCE = createSummary();
+
+	private static final Arbitrary<@NonNull String> TITLE_ARBITRARY =
+		Arbitraries.strings().alpha().ofMinLength(5).ofMaxLength(50);
+	private static final Arbitrary<@NonNull String> CONTENT_ARBITRARY =
+		Arbitraries.strings().alpha().ofMinLength(10).ofMaxLength(200);
+	private static final Arbitrary<@NonNull Map<String, Option>> OPTIONS_ARBITRARY = options();
+
+	private static ArbitraryBuilderCandidate<Article> createArticle() {
+		return ArbitraryBuilderCandidateFactory.of(Article.class)
+			.builder(arbitraryBuilder ->
+				arbitraryBuilder
+					.setNull(javaGetter(Article::id))
+					.set(javaGetter(Article::title), TITLE_ARBITRARY)
+					.size(javaGetter(Article::tags), 0, 3)
+					.size(javaGetter(Article::sections), 0, 3)
+					.set(javaGetter(Article::options), OPTIONS_ARBITRARY)
+			);
+	}
+
+	private static ArbitraryBuilderCandidate<Writer> createWriter() {
+		return ArbitraryBuilderCandidateFactory.of(Writer.class)
+			.builder(arbitraryBuilder ->
+				arbitraryBuilder
+					.set(javaGetter(Writer::name), TITLE_ARBITRARY)
+					.set(javaGetter(Writer::email), Arbitraries.strings().alpha().ofMinLength(5).ofMaxLength(20)
+						.map(local -> local + "@navercorp.com"))
+			);
+	}
+
+	private static ArbitraryBuilderCandidate<Tag> createTag() {
+		return ArbitraryBuilderCandidateFactory.of(Tag.class)
+			.builder(arbitraryBuilder ->
+				arbitraryBuilder
+					.setNull(javaGetter(Tag::id))
+					.set(javaGetter(Tag::content), TITLE_ARBITRARY)
+			);
+	}
+
+	private static ArbitraryBuilderCandidate<Section> createSection() {
+		return ArbitraryBuilderCandidateFactory.of(Section.class)
+			.builder(arbitraryBuilder ->
+				arbitraryBuilder
+					.setNull(javaGetter(Section::id))
+					.set(javaGetter(Section::title), TITLE_ARBITRARY)
+					.set(javaGetter(Section::content), CONTENT_ARBITRARY)
+			);
+	}
+
+	private static ArbitraryBuilderCandidate<Summary> createSummary() {
+		return ArbitraryBuilderCandidateFactory.of(Summary.class)
+			.builder(arbitraryBuilder ->
+				arbitraryBuilder
+					.setNull(javaGetter(Summary::id))
+					.set(javaGetter(Summary::content), CONTENT_ARBITRARY)
+			);
+	}
+
+	private static Arbitrary<Map<String, Option>> options() {
+		return Arbitraries.maps(
+			Arbitraries.create(UUID::randomUUID).map(UUID::toString),
+			Arbitraries.strings().alpha().ofMinLength(5).ofMaxLength(50)
+		).ofMinSize(0).ofMaxSize(3)
+			.map(map -> {
+				return map.entrySet().stream()
+					.collect(
+						toMap(
+							Entry::getKey,
+							entry -> Option.builder()
+								.optionKey(entry.getKey())
+								.optionValue(entry.getValue())
+								.build()
+						)
+					);
+			});
+	}
+}
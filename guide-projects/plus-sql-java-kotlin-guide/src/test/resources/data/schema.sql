@@ -64,6 +64,40 @@ CREATE TABLE IF NOT EXISTS n_config (
   post_id INT,
   PRIMARY KEY(id));
 
+CREATE TABLE IF NOT EXISTS n_article (
+  id INT AUTO_INCREMENT,
+  title VARCHAR(255),
+  writer_name VARCHAR(255),
+  writer_email VARCHAR(255),
+  PRIMARY KEY(id));
+
+CREATE TABLE IF NOT EXISTS n_article_tag (
+  id INT AUTO_INCREMENT,
+  content VARCHAR(255),
+  article_id INT,
+  PRIMARY KEY(id));
+
+CREATE TABLE IF NOT EXISTS n_article_section (
+  id INT AUTO_INCREMENT,
+  title VARCHAR(255),
+  content VARCHAR(255),
+  article_id INT,
+  article_index INT,
+  PRIMARY KEY(id));
+
+CREATE TABLE IF NOT EXISTS n_article_option (
+  id INT AUTO_INCREMENT,
+  option_key VARCHAR(255),
+  option_value VARCHAR(255),
+  article_id INT,
+  PRIMARY KEY(id));
+
+CREATE TABLE IF NOT EXISTS n_article_summary (
+  id INT AUTO_INCREMENT,
+  content VARCHAR(255),
+  article_id INT,
+  PRIMARY KEY(id));
+
 CREATE TABLE IF NOT EXISTS n_pay (
   id INT AUTO_INCREMENT,
   amount INT,
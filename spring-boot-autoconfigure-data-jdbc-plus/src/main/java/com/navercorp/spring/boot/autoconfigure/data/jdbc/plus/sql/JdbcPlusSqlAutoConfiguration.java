@@ -18,6 +18,8 @@
 
 package com.navercorp.spring.boot.autoconfigure.data.jdbc.plus.sql;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -42,6 +44,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import reactor.core.publisher.Flux;
 
 import com.navercorp.spring.data.jdbc.plus.sql.config.JdbcPlusSqlConfiguration;
+import com.navercorp.spring.data.jdbc.plus.sql.config.JdbcPlusSqlPreWarmer;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.ParallelMaterialization;
 import com.navercorp.spring.data.jdbc.plus.sql.parametersource.SqlParameterSourceFactory;
 import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityJdbcProvider;
 import com.navercorp.spring.data.jdbc.plus.sql.support.template.JdbcReactiveTemplate;
@@ -71,6 +75,14 @@ public class JdbcPlusSqlAutoConfiguration {
 	@ConditionalOnMissingBean(JdbcPlusSqlConfiguration.class)
 	static class SpringBootJdbcConfiguration extends JdbcPlusSqlConfiguration {
 
+		SpringBootJdbcConfiguration(
+			@Value("${spring.data.jdbc.plus.sql.direct-aggregate-mapping:false}") boolean directAggregateMapping,
+			@Value("${spring.data.jdbc.plus.sql.parallel-materialization-threshold:0}") int materializationThreshold
+		) {
+			setDirectAggregateMapping(directAggregateMapping);
+			setParallelMaterializationThreshold(materializationThreshold);
+		}
+
 		@Bean
 		@ConditionalOnMissingBean
 		public SqlProvider sqlProvider(
@@ -86,10 +98,11 @@ public class JdbcPlusSqlAutoConfiguration {
 			NamedParameterJdbcOperations operations,
 			@Lazy RelationResolver relationResolver,
 			JdbcCustomConversions conversions,
-			Dialect dialect
+			Dialect dialect,
+			ObjectProvider<ParallelMaterialization> parallelMaterialization
 		) {
 			return super.queryMappingConfiguration(
-				mappingContext, operations, relationResolver, conversions, dialect);
+				mappingContext, operations, relationResolver, conversions, dialect, parallelMaterialization);
 		}
 
 		@Bean
@@ -119,6 +132,19 @@ public class JdbcPlusSqlAutoConfiguration {
 				applicationContext);
 		}
 
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(prefix = "spring.data.jdbc.plus.sql", name = "pre-warm", havingValue = "true")
+		public JdbcPlusSqlPreWarmer jdbcPlusSqlPreWarmer(
+			JdbcMappingContext mappingContext,
+			SqlProvider sqlProvider,
+			QueryMappingConfiguration queryMappingConfiguration,
+			ApplicationContext applicationContext
+		) {
+			return super.jdbcPlusSqlPreWarmer(
+				mappingContext, sqlProvider, queryMappingConfiguration, applicationContext);
+		}
+
 		@Bean
 		@ConditionalOnMissingBean
 		@ConditionalOnClass(Flux.class)
@@ -21,7 +21,10 @@ package com.navercorp.spring.data.jdbc.plus.repository;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -76,6 +79,39 @@ public interface JdbcRepository<T, ID>
 	 */
 	<S extends T> List<S> updateAll(Iterable<S> entities);
 
+	/**
+	 * Insert or update the entity by its id with a single upsert statement.
+	 *
+	 * @param <S>    the type parameter
+	 * @param entity the entity, the id must be provided
+	 * @return the s
+	 * @throws IllegalStateException if the entity has a version property
+	 */
+	<S extends T> S upsert(S entity);
+
+	/**
+	 * Insert or update the entities by their ids as a JDBC batch of the upsert statement.
+	 *
+	 * @param <S>      the type parameter
+	 * @param entities the entities, the ids must be provided
+	 * @return the list
+	 * @throws IllegalStateException if the entities have a version property
+	 */
+	<S extends T> List<S> upsertAll(Iterable<S> entities);
+
+	/**
+	 * Find the window of entities after the keyset position, without skipping the rows of the previous windows.
+	 * Only forward scrolling is supported, and the sort properties must be top-level properties of the entity.
+	 * Each sort property must have a non-null value in the position, so nullable columns can not be sorted by.
+	 *
+	 * @param sort     the sort, the id is appended as the tie-breaker if absent
+	 * @param position the keyset position, {@link ScrollPosition#keyset()} for the first window
+	 * @param limit    the maximum size of the window
+	 * @return the window with the keyset position of each entity
+	 * @throws IllegalArgumentException if the position scrolls backward, or a key of the position is null
+	 */
+	Window<T> findAll(Sort sort, KeysetScrollPosition position, int limit);
+
 	Stream<T> streamAll();
 
 	Stream<T> streamAll(Sort sort);
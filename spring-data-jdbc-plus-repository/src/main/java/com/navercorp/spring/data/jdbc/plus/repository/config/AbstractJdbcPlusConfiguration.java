@@ -9,6 +9,8 @@ import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.jdbc.repository.config.AbstractJdbcConfiguration;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
+import com.navercorp.spring.data.jdbc.plus.support.convert.BatchedUpdateFlushCallback;
+
 public class AbstractJdbcPlusConfiguration extends AbstractJdbcConfiguration {
 
 	/**
@@ -33,4 +35,14 @@ public class AbstractJdbcPlusConfiguration extends AbstractJdbcConfiguration {
 			dialect
 		);
 	}
+
+	/**
+	 * Flush the root updates batched by {@code JdbcRepository#updateAll} before the after save events and callbacks.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@Bean
+	public BatchedUpdateFlushCallback batchedUpdateFlushCallback() {
+		return new BatchedUpdateFlushCallback();
+	}
 }
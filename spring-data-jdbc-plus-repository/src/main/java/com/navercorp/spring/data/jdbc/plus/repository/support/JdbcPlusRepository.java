@@ -18,18 +18,41 @@
 
 package com.navercorp.spring.data.jdbc.plus.repository.support;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.conversion.RootAggregateChange;
+import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import com.navercorp.spring.data.jdbc.plus.repository.JdbcRepository;
+import com.navercorp.spring.data.jdbc.plus.support.convert.BatchedUpdateScope;
+import com.navercorp.spring.data.jdbc.plus.support.convert.JdbcPlusDataAccessStrategy;
 
 /**
  * Default implementation of the {@link com.navercorp.spring.data.jdbc.plus.repository.JdbcRepository} interface.
@@ -45,6 +68,9 @@ import com.navercorp.spring.data.jdbc.plus.repository.JdbcRepository;
 public class JdbcPlusRepository<T, ID> extends SimpleJdbcRepository<T, ID> implements JdbcRepository<T, ID> {
 	private final JdbcAggregateOperations entityOperations;
 	private final PersistentEntity<T, ?> entity;
+	private ApplicationEventPublisher publisher = event -> {
+	};
+	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
 
 	/**
 	 * Instantiates a new Jdbc plus repository.
@@ -79,10 +105,99 @@ public class JdbcPlusRepository<T, ID> extends SimpleJdbcRepository<T, ID> imple
 		return entityOperations.update(instance);
 	}
 
+	/**
+	 * The root updates of aggregates without relations are executed as JDBC batches when all entities are processed,
+	 * and the entities not updated are reported at once. The batches are flushed before the after save events
+	 * and callbacks when {@link com.navercorp.spring.data.jdbc.plus.support.convert.BatchedUpdateFlushCallback}
+	 * is registered, as {@link com.navercorp.spring.data.jdbc.plus.repository.config.AbstractJdbcPlusConfiguration}
+	 * does. Aggregates with relations are updated one by one.
+	 */
 	@Transactional
 	@Override
 	public <S extends T> List<S> updateAll(Iterable<S> entities) {
-		return entityOperations.updateAll(entities);
+		return BatchedUpdateScope.execute(() -> entityOperations.updateAll(entities));
+	}
+
+	@Transactional
+	@Override
+	public <S extends T> S upsert(S instance) {
+		return upsertAll(List.of(instance)).get(0);
+	}
+
+	/**
+	 * Only the rows of the aggregate roots are upserted, {@code MERGE}, {@code ON CONFLICT}
+	 * or {@code ON DUPLICATE KEY UPDATE} depending on the dialect.
+	 * The events and callbacks of saving are published around the upserts as {@link #saveAll(Iterable)} does.
+	 * Versioned entities are rejected, as upserts can not verify the previous versions.
+	 */
+	@Transactional
+	@Override
+	public <S extends T> List<S> upsertAll(Iterable<S> entities) {
+		DataAccessStrategy dataAccessStrategy = entityOperations.getDataAccessStrategy();
+		Assert.state(dataAccessStrategy instanceof JdbcPlusDataAccessStrategy,
+			"Upsert requires JdbcPlusDataAccessStrategy");
+		Assert.state(!entity.hasVersionProperty(),
+			() -> "Upsert does not support the version property of " + entity.getType().getName());
+
+		List<S> instances = new ArrayList<>();
+		List<RootAggregateChange<S>> changes = new ArrayList<>();
+		for (S instance : entities) {
+			publisher.publishEvent(new BeforeConvertEvent<>(instance));
+			S converted = entityCallbacks.callback(BeforeConvertCallback.class, instance);
+
+			RootAggregateChange<S> change = MutableAggregateChange.forSave(converted);
+			publisher.publishEvent(new BeforeSaveEvent<>(converted, change));
+			instances.add(entityCallbacks.callback(BeforeSaveCallback.class, converted, change));
+			changes.add(change);
+		}
+
+		((JdbcPlusDataAccessStrategy)dataAccessStrategy).upsertAll(instances, entity.getType());
+
+		List<S> results = new ArrayList<>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			S instance = instances.get(i);
+			publisher.publishEvent(new AfterSaveEvent<>(instance, changes.get(i)));
+			results.add(entityCallbacks.callback(AfterSaveCallback.class, instance));
+		}
+		return results;
+	}
+
+	/**
+	 * Set the publisher of the events of upserts.
+	 *
+	 * @param publisher the publisher
+	 */
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
+
+	/**
+	 * Set the callbacks of upserts.
+	 *
+	 * @param entityCallbacks the entity callbacks
+	 */
+	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
+		this.entityCallbacks = entityCallbacks;
+	}
+
+	@Override
+	public Window<T> findAll(Sort sort, KeysetScrollPosition position, int limit) {
+		Assert.isTrue(limit > 0, "Limit must be greater than 0");
+		Assert.isTrue(position.scrollsForward(), "Only forward keyset scrolling is supported");
+
+		Sort keysetSort = keysetSort(sort);
+		Query query = position.isInitial()
+			? Query.empty()
+			: Query.query(keysetCriteria(keysetSort, position.getKeys()));
+
+		List<T> window;
+		try (Stream<T> stream = entityOperations.streamAll(query.sort(keysetSort).limit(limit + 1), entity.getType())) {
+			window = stream.toList();
+		}
+
+		boolean hasNext = window.size() > limit;
+		List<T> content = hasNext ? window.subList(0, limit) : window;
+		return Window.from(content, index -> ScrollPosition.forward(keys(keysetSort, content.get(index))), hasNext);
 	}
 
 	@Override
@@ -104,4 +219,67 @@ public class JdbcPlusRepository<T, ID> extends SimpleJdbcRepository<T, ID> imple
 	public Stream<T> streamAllByIds(Iterable<ID> ids) {
 		return entityOperations.streamAllByIds(ids, entity.getType());
 	}
+
+	/**
+	 * The id is appended to the sort, so that the keyset is unique.
+	 */
+	private Sort keysetSort(Sort sort) {
+		Assert.isTrue(sort.isSorted(), "Keyset scrolling requires at least one sort property");
+
+		String idProperty = entity.getRequiredIdProperty().getName();
+		if (sort.getOrderFor(idProperty) != null) {
+			return sort;
+		}
+
+		Sort.Direction direction = sort.toList().get(sort.toList().size() - 1).getDirection();
+		return sort.and(Sort.by(direction, idProperty));
+	}
+
+	/**
+	 * {@code a >= :a AND (a > :a OR (a = :a AND b > :b))}, the leading sort property bounds the index range.
+	 */
+	private Criteria keysetCriteria(Sort sort, Map<String, ?> keys) {
+		List<Sort.Order> orders = sort.toList();
+		int last = orders.size() - 1;
+
+		Criteria criteria = seek(orders.get(last), keyValue(keys, orders.get(last)));
+		for (int i = last - 1; i >= 0; i--) {
+			Sort.Order order = orders.get(i);
+			Object value = keyValue(keys, order);
+			criteria = seek(order, value).or(Criteria.where(order.getProperty()).is(value).and(criteria));
+		}
+
+		if (orders.size() == 1) {
+			return criteria;
+		}
+
+		Sort.Order leading = orders.get(0);
+		Object value = keyValue(keys, leading);
+		Criteria bound = leading.isAscending()
+			? Criteria.where(leading.getProperty()).greaterThanOrEquals(value)
+			: Criteria.where(leading.getProperty()).lessThanOrEquals(value);
+		return bound.and(criteria);
+	}
+
+	private static Criteria seek(Sort.Order order, Object value) {
+		return order.isAscending()
+			? Criteria.where(order.getProperty()).greaterThan(value)
+			: Criteria.where(order.getProperty()).lessThan(value);
+	}
+
+	private static Object keyValue(Map<String, ?> keys, Sort.Order order) {
+		Object value = keys.get(order.getProperty());
+		Assert.notNull(value, () -> "Keyset value of the sort property '" + order.getProperty() + "' is required");
+		return value;
+	}
+
+	private Map<String, Object> keys(Sort sort, T instance) {
+		PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (Sort.Order order : sort) {
+			PersistentProperty<?> property = entity.getRequiredPersistentProperty(order.getProperty());
+			keys.put(order.getProperty(), accessor.getProperty(property));
+		}
+		return keys;
+	}
 }
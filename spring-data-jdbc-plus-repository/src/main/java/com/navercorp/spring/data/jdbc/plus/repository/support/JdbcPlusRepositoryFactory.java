@@ -23,8 +23,10 @@ import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactory;
+import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
@@ -36,6 +38,9 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
  * {@link JdbcRepositoryFactory}
  */
 public class JdbcPlusRepositoryFactory extends JdbcRepositoryFactory {
+	private ApplicationEventPublisher publisher = event -> {
+	};
+	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
 
 	/**
 	 * Instantiates a new Jdbc plus repository factory.
@@ -72,4 +77,30 @@ public class JdbcPlusRepositoryFactory extends JdbcRepositoryFactory {
 	protected Class<?> getRepositoryBaseClass(RepositoryMetadata repositoryMetadata) {
 		return JdbcPlusRepository.class;
 	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		super.setApplicationEventPublisher(publisher);
+		this.publisher = publisher;
+	}
+
+	@Override
+	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
+		super.setEntityCallbacks(entityCallbacks);
+		this.entityCallbacks = entityCallbacks;
+	}
+
+	/**
+	 * The events and callbacks are given to {@link JdbcPlusRepository} for the upserts,
+	 * which are not executed by the {@link JdbcAggregateOperations}.
+	 */
+	@Override
+	protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
+		Object repository = super.getTargetRepository(repositoryInformation);
+		if (repository instanceof JdbcPlusRepository<?, ?> plusRepository) {
+			plusRepository.setApplicationEventPublisher(this.publisher);
+			plusRepository.setEntityCallbacks(this.entityCallbacks);
+		}
+		return repository;
+	}
 }
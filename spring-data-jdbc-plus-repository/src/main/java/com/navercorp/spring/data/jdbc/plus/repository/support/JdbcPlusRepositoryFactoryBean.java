@@ -219,9 +219,9 @@ public class JdbcPlusRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 			JdbcAggregateOperations operations = new JdbcAggregateTemplate(converter, dataAccessStrategy);
 
 			repositoryFactory = new JdbcPlusRepositoryFactory(operations);
-			repositoryFactory.setEntityCallbacks(entityCallbacks);
 		}
 
+		repositoryFactory.setEntityCallbacks(entityCallbacks);
 		repositoryFactory.setApplicationEventPublisher(this.publisher);
 		repositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		repositoryFactory.setBeanFactory(beanFactory);
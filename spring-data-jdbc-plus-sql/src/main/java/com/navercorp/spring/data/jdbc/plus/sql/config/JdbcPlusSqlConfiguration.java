@@ -18,10 +18,14 @@
 
 package com.navercorp.spring.data.jdbc.plus.sql.config;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
@@ -33,6 +37,8 @@ import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
 import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.DirectAggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.ParallelMaterialization;
 import com.navercorp.spring.data.jdbc.plus.sql.parametersource.DefaultSqlParameterSourceFactory;
 import com.navercorp.spring.data.jdbc.plus.sql.parametersource.SqlParameterSourceFactory;
 import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityJdbcProvider;
@@ -46,6 +52,29 @@ import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
  */
 @Configuration
 public class JdbcPlusSqlConfiguration {
+	private boolean directAggregateMapping = false;
+	private int parallelMaterializationThreshold = 0;
+
+	/**
+	 * Sets whether to read aggregates with {@link DirectAggregateResultJdbcConverter}.
+	 *
+	 * @param directAggregateMapping whether to read aggregates without intermediate maps
+	 */
+	public void setDirectAggregateMapping(boolean directAggregateMapping) {
+		this.directAggregateMapping = directAggregateMapping;
+	}
+
+	/**
+	 * Sets the result size to materialize entities in parallel.
+	 * After convert events and callbacks are triggered on the calling thread.
+	 * Disabled if 0. A {@link ParallelMaterialization} bean takes precedence.
+	 *
+	 * @param parallelMaterializationThreshold the result size to materialize entities in parallel
+	 */
+	public void setParallelMaterializationThreshold(int parallelMaterializationThreshold) {
+		this.parallelMaterializationThreshold = parallelMaterializationThreshold;
+	}
+
 	/**
 	 * Sql provider sql provider.
 	 *
@@ -69,6 +98,7 @@ public class JdbcPlusSqlConfiguration {
 	 * @param relationResolver the relation resolver
 	 * @param conversions the conversions
 	 * @param dialect the dialect
+	 * @param parallelMaterialization the parallel materialization
 	 * @return the query mapping configuration
 	 */
 	@Bean
@@ -77,14 +107,26 @@ public class JdbcPlusSqlConfiguration {
 		NamedParameterJdbcOperations operations,
 		@Lazy RelationResolver relationResolver,
 		JdbcCustomConversions conversions,
-		Dialect dialect) {
+		Dialect dialect,
+		ObjectProvider<ParallelMaterialization> parallelMaterialization) {
 
 		DefaultJdbcTypeFactory jdbcTypeFactory = new DefaultJdbcTypeFactory(operations.getJdbcOperations());
-		JdbcConverter jdbcConverter = new AggregateResultJdbcConverter(
-			jdbcMappingContext,
-			relationResolver,
-			conversions,
-			jdbcTypeFactory);
+
+		AggregateResultJdbcConverter jdbcConverter;
+		if (this.directAggregateMapping) {
+			jdbcConverter = new DirectAggregateResultJdbcConverter(
+				jdbcMappingContext,
+				relationResolver,
+				conversions,
+				jdbcTypeFactory);
+		} else {
+			jdbcConverter = new AggregateResultJdbcConverter(
+				jdbcMappingContext,
+				relationResolver,
+				conversions,
+				jdbcTypeFactory);
+		}
+		jdbcConverter.setParallelMaterialization(this.getParallelMaterialization(parallelMaterialization));
 
 		return new EntityQueryMappingConfiguration(jdbcMappingContext, jdbcConverter);
 	}
@@ -130,4 +172,45 @@ public class JdbcPlusSqlConfiguration {
 			applicationContext,
 			EntityCallbacks.create(applicationContext));
 	}
+
+	/**
+	 * Jdbc plus sql pre warmer, which is not registered by default.
+	 * Declare it as a bean to pre-warm all entities at startup.
+	 *
+	 * @param jdbcMappingContext the jdbc mapping context
+	 * @param sqlProvider the sql provider
+	 * @param queryMappingConfiguration the query mapping configuration
+	 * @param applicationContext the application context
+	 * @return the jdbc plus sql pre warmer
+	 */
+	public JdbcPlusSqlPreWarmer jdbcPlusSqlPreWarmer(
+		JdbcMappingContext jdbcMappingContext,
+		SqlProvider sqlProvider,
+		QueryMappingConfiguration queryMappingConfiguration,
+		ApplicationContext applicationContext) {
+
+		ApplicationStartup applicationStartup = applicationContext instanceof ConfigurableApplicationContext context
+			? context.getApplicationStartup()
+			: ApplicationStartup.DEFAULT;
+		return new JdbcPlusSqlPreWarmer(
+			jdbcMappingContext,
+			sqlProvider,
+			queryMappingConfiguration instanceof EntityQueryMappingConfiguration entityQueryMappingConfiguration
+				? entityQueryMappingConfiguration
+				: null,
+			applicationStartup);
+	}
+
+	private @Nullable ParallelMaterialization getParallelMaterialization(
+		ObjectProvider<ParallelMaterialization> parallelMaterialization) {
+
+		ParallelMaterialization configured = parallelMaterialization.getIfAvailable();
+		if (configured != null) {
+			return configured;
+		}
+
+		return this.parallelMaterializationThreshold > 0
+			? new ParallelMaterialization(this.parallelMaterializationThreshold)
+			: null;
+	}
 }
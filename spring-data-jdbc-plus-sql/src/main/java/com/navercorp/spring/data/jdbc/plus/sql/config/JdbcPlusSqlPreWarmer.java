@@ -0,0 +1,153 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityQueryMappingConfiguration;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
+
+/**
+ * Pre-warms sql generators, clauses, row mappers and aggregate mapping plans
+ * of all persistent entities of the mapping context in parallel, after singletons are instantiated.
+ * The elapsed time is reported as a {@link StartupStep} named {@link #STARTUP_STEP_NAME}.
+ *
+ * @author Myeonghyeon Lee
+ */
+public class JdbcPlusSqlPreWarmer implements SmartInitializingSingleton {
+	/**
+	 * Name of the startup step of pre-warming.
+	 */
+	public static final String STARTUP_STEP_NAME = "spring.data.jdbc.plus.sql.pre-warm";
+
+	private static final Log LOG = LogFactory.getLog(JdbcPlusSqlPreWarmer.class);
+
+	private final RelationalMappingContext mappingContext;
+	private final SqlProvider sqlProvider;
+	private final @Nullable EntityQueryMappingConfiguration queryMappingConfiguration;
+	private final ApplicationStartup applicationStartup;
+	private final Executor executor;
+
+	/**
+	 * Instantiates a new Jdbc plus sql pre warmer, running on the common fork join pool.
+	 *
+	 * @param mappingContext            the mapping context
+	 * @param sqlProvider               the sql provider
+	 * @param queryMappingConfiguration the query mapping configuration, skipped if null
+	 * @param applicationStartup        the application startup
+	 */
+	public JdbcPlusSqlPreWarmer(
+		RelationalMappingContext mappingContext,
+		SqlProvider sqlProvider,
+		@Nullable EntityQueryMappingConfiguration queryMappingConfiguration,
+		ApplicationStartup applicationStartup
+	) {
+		this(mappingContext, sqlProvider, queryMappingConfiguration, applicationStartup, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Instantiates a new Jdbc plus sql pre warmer.
+	 *
+	 * @param mappingContext            the mapping context
+	 * @param sqlProvider               the sql provider
+	 * @param queryMappingConfiguration the query mapping configuration, skipped if null
+	 * @param applicationStartup        the application startup
+	 * @param executor                  the executor of pre-warming each entity
+	 */
+	public JdbcPlusSqlPreWarmer(
+		RelationalMappingContext mappingContext,
+		SqlProvider sqlProvider,
+		@Nullable EntityQueryMappingConfiguration queryMappingConfiguration,
+		ApplicationStartup applicationStartup,
+		Executor executor
+	) {
+		this.mappingContext = mappingContext;
+		this.sqlProvider = sqlProvider;
+		this.queryMappingConfiguration = queryMappingConfiguration;
+		this.applicationStartup = applicationStartup;
+		this.executor = executor;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		this.preWarm();
+	}
+
+	/**
+	 * Pre-warm all aggregate roots of the mapping context.
+	 * Entities without id, such as embedded types, are not aggregate roots and are skipped.
+	 * An entity failing to pre-warm is skipped and loaded lazily on first use.
+	 *
+	 * @return the number of pre-warmed entities
+	 */
+	public int preWarm() {
+		StartupStep step = this.applicationStartup.start(STARTUP_STEP_NAME);
+		List<Class<?>> entityTypes = new ArrayList<>();
+		for (RelationalPersistentEntity<?> entity : this.mappingContext.getPersistentEntities()) {
+			if (entity.hasIdProperty()) {
+				entityTypes.add(entity.getType());
+			}
+		}
+
+		AtomicInteger warmed = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(entityTypes.size());
+		for (Class<?> entityType : entityTypes) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				if (this.preWarm(entityType)) {
+					warmed.incrementAndGet();
+				}
+			}, this.executor));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+		step.tag("entities", String.valueOf(entityTypes.size()));
+		step.tag("warmed", String.valueOf(warmed.get()));
+		step.end();
+		return warmed.get();
+	}
+
+	private boolean preWarm(Class<?> entityType) {
+		try {
+			this.sqlProvider.warmUp(entityType);
+			if (this.queryMappingConfiguration != null) {
+				this.queryMappingConfiguration.warmUp(entityType);
+			}
+			return true;
+		} catch (RuntimeException ex) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Skip pre-warming of entity: " + entityType.getName(), ex);
+			}
+			return false;
+		}
+	}
+}
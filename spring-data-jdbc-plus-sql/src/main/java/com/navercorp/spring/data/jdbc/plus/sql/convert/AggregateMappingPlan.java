@@ -0,0 +1,525 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import com.navercorp.spring.data.jdbc.plus.support.convert.PropertyPathUtils;
+
+/**
+ * Precompiled mapping metadata of an aggregate.
+ * Relation paths, id properties, back-reference and key columns are resolved once per entity type,
+ * and the column layout is resolved once per result set shape.
+ *
+ * @author Myeonghyeon Lee
+ */
+final class AggregateMappingPlan {
+	private static final int COLUMN_LAYOUT_CACHE_SIZE = 64;
+	private static final int STATEMENT_LAYOUT_CACHE_SIZE = 256;
+
+	private final AggregatePath rootPath;
+	private final RelationalPersistentEntity<?> rootEntity;
+	private final List<RelationPlan> relations;
+	private final List<RelationPlan> joinRelations;
+	private final List<RelationPlan> splitRelations;
+	private final List<RelationPlan> jsonRelations;
+	private final List<RelationPlan> rowRelations;
+	private final ConcurrentLruCache<List<String>, ColumnLayout> columnLayouts;
+	private final ConcurrentLruCache<StatementShape, AtomicReference<ColumnLayout>> statementLayouts;
+
+	/**
+	 * Instantiates a new Aggregate mapping plan.
+	 *
+	 * @param rootPath      the root path
+	 * @param relations     the relations
+	 * @param columnReaders the case-insensitive column readers by column alias
+	 */
+	AggregateMappingPlan(
+		AggregatePath rootPath,
+		List<RelationPlan> relations,
+		Map<String, ColumnReader> columnReaders
+	) {
+		RelationalPersistentEntity<?> leafEntity = rootPath.getLeafEntity();
+
+		Assert.state(leafEntity != null, "persistentEntity must not be null");
+
+		this.rootPath = rootPath;
+		this.rootEntity = leafEntity;
+		this.relations = Collections.unmodifiableList(relations);
+
+		List<RelationPlan> joins = new ArrayList<>();
+		List<RelationPlan> splits = new ArrayList<>();
+		List<RelationPlan> jsons = new ArrayList<>();
+		List<RelationPlan> rows = new ArrayList<>();
+		for (RelationPlan relation : relations) {
+			if (relation.isJson()) {
+				jsons.add(relation);
+				continue;
+			}
+
+			rows.add(relation);
+			if (relation.isSplit()) {
+				splits.add(relation);
+			} else {
+				joins.add(relation);
+			}
+		}
+		this.joinRelations = Collections.unmodifiableList(joins);
+		this.splitRelations = Collections.unmodifiableList(splits);
+		this.jsonRelations = Collections.unmodifiableList(jsons);
+		this.rowRelations = Collections.unmodifiableList(rows);
+		this.columnLayouts = new ConcurrentLruCache<>(
+			COLUMN_LAYOUT_CACHE_SIZE, labels -> new ColumnLayout(labels, columnReaders));
+		this.statementLayouts = new ConcurrentLruCache<>(STATEMENT_LAYOUT_CACHE_SIZE, shape -> new AtomicReference<>());
+	}
+
+	/**
+	 * Gets root path.
+	 *
+	 * @return the root path
+	 */
+	AggregatePath getRootPath() {
+		return this.rootPath;
+	}
+
+	/**
+	 * Gets root entity.
+	 *
+	 * @return the root entity
+	 */
+	RelationalPersistentEntity<?> getRootEntity() {
+		return this.rootEntity;
+	}
+
+	/**
+	 * Gets relations of the aggregate root.
+	 *
+	 * @return the relations
+	 */
+	List<RelationPlan> getRelations() {
+		return this.relations;
+	}
+
+	/**
+	 * Gets relations of the aggregate root joined into the aggregate query.
+	 *
+	 * @return the join relations
+	 */
+	List<RelationPlan> getJoinRelations() {
+		return this.joinRelations;
+	}
+
+	/**
+	 * Gets relations of the aggregate root loaded with a separate query.
+	 *
+	 * @return the split relations
+	 */
+	List<RelationPlan> getSplitRelations() {
+		return this.splitRelations;
+	}
+
+	/**
+	 * Gets relations of the aggregate root folded into a JSON array column.
+	 *
+	 * @return the json relations
+	 */
+	List<RelationPlan> getJsonRelations() {
+		return this.jsonRelations;
+	}
+
+	/**
+	 * Gets relations of the aggregate root extracted from rows, including split relations.
+	 *
+	 * @return the row relations
+	 */
+	List<RelationPlan> getRowRelations() {
+		return this.rowRelations;
+	}
+
+	/**
+	 * Resolve the column layout of the result set, reusing a layout of the same column shape.
+	 *
+	 * @param metaData the result set meta data
+	 * @return the column layout
+	 * @throws SQLException the sql exception
+	 */
+	ColumnLayout getColumnLayout(ResultSetMetaData metaData) throws SQLException {
+		int columnCount = metaData.getColumnCount();
+		String[] labels = new String[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			labels[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+		}
+		return this.columnLayouts.get(Arrays.asList(labels));
+	}
+
+	/**
+	 * Resolve the column layout of the result set of the sql.
+	 * The layout of the previous execution of the same sql and column count is reused
+	 * without reading the column labels, only the column count is read from the meta data.
+	 * The same sql may still return other column orders, e.g. {@code SELECT *} after a schema change,
+	 * so the layout must be invalidated by {@link #invalidateColumnLayout(String, int)} on a mapping failure.
+	 *
+	 * @param metaData the result set meta data
+	 * @param sql      the sql of the result set, or null if unknown
+	 * @return the column layout
+	 * @throws SQLException the sql exception
+	 */
+	ColumnLayout getColumnLayout(ResultSetMetaData metaData, @Nullable String sql) throws SQLException {
+		if (sql == null) {
+			return this.getColumnLayout(metaData);
+		}
+
+		AtomicReference<ColumnLayout> statementLayout =
+			this.statementLayouts.get(new StatementShape(sql, metaData.getColumnCount()));
+		ColumnLayout columnLayout = statementLayout.get();
+		if (columnLayout == null) {
+			columnLayout = this.getColumnLayout(metaData);
+			statementLayout.set(columnLayout);
+		}
+		return columnLayout;
+	}
+
+	/**
+	 * Invalidate the column layout reused for the sql, so that the next execution reads the column labels again.
+	 *
+	 * @param sql         the sql
+	 * @param columnCount the column count of the result set
+	 */
+	void invalidateColumnLayout(String sql, int columnCount) {
+		this.statementLayouts.get(new StatementShape(sql, columnCount)).set(null);
+	}
+
+	/**
+	 * Relation of the aggregate resolved for a single {@link AggregatePath}.
+	 */
+	static final class RelationPlan {
+		private final AggregatePath path;
+		private final RelationalPersistentProperty property;
+		private final @Nullable RelationalPersistentProperty idProperty;
+		private final SqlIdentifier backReferenceColumn;
+		private final @Nullable String qualifierColumnAlias;
+		private final boolean map;
+		private final @Nullable String idColumnAlias;
+		private final boolean split;
+		private final @Nullable String jsonColumnAlias;
+		private final List<RelationPlan> relations;
+
+		/**
+		 * Instantiates a new Relation plan.
+		 *
+		 * @param path                 the relation path
+		 * @param qualifierColumnAlias the qualifier column alias for map and list relation
+		 * @param idColumnAlias        the id column alias, or null if the id is not read from a single column
+		 * @param relations            the nested relations
+		 */
+		RelationPlan(
+			AggregatePath path,
+			@Nullable String qualifierColumnAlias,
+			@Nullable String idColumnAlias,
+			List<RelationPlan> relations
+		) {
+			RelationalPersistentEntity<?> leafEntity = path.getLeafEntity();
+
+			Assert.state(leafEntity != null, "leafEntity must not be null");
+
+			this.path = path;
+			this.property = path.getRequiredPersistentPropertyPath().getLeafProperty();
+			this.idProperty = leafEntity.getIdProperty();
+			this.backReferenceColumn = path.getTableInfo().backReferenceColumnInfos().any().name();
+			this.qualifierColumnAlias = qualifierColumnAlias;
+			this.map = this.property.isMap();
+			this.idColumnAlias = idColumnAlias;
+			this.split = PropertyPathUtils.isSplitFetch(path);
+			this.jsonColumnAlias = PropertyPathUtils.isJsonFetch(path)
+				? PropertyPathUtils.getJsonColumnAlias(path).getReference()
+				: null;
+			this.relations = Collections.unmodifiableList(relations);
+		}
+
+		/**
+		 * Gets path.
+		 *
+		 * @return the path
+		 */
+		AggregatePath getPath() {
+			return this.path;
+		}
+
+		/**
+		 * Gets the property of the relation in its owner.
+		 *
+		 * @return the property
+		 */
+		RelationalPersistentProperty getProperty() {
+			return this.property;
+		}
+
+		/**
+		 * Gets required id property of the relation entity.
+		 *
+		 * @return the id property
+		 */
+		RelationalPersistentProperty getRequiredIdProperty() {
+			return this.idProperty != null ? this.idProperty : this.path.getRequiredIdProperty();
+		}
+
+		/**
+		 * Gets back reference column name.
+		 *
+		 * @return the back reference column
+		 */
+		SqlIdentifier getBackReferenceColumn() {
+			return this.backReferenceColumn;
+		}
+
+		/**
+		 * Is map relation.
+		 *
+		 * @return the boolean
+		 */
+		boolean isMap() {
+			return this.map;
+		}
+
+		/**
+		 * Gets qualifier column alias of map and list relation, the key or index column.
+		 *
+		 * @return the qualifier column alias, or null if the relation is not qualified
+		 */
+		@Nullable
+		String getQualifierColumnAlias() {
+			return this.qualifierColumnAlias;
+		}
+
+		/**
+		 * Gets id column alias of the relation entity.
+		 *
+		 * @return the id column alias, or null if the id is embedded
+		 */
+		@Nullable
+		String getIdColumnAlias() {
+			return this.idColumnAlias;
+		}
+
+		/**
+		 * Is loaded with a separate query, applied @SqlFetchMode(SPLIT).
+		 *
+		 * @return the boolean
+		 */
+		boolean isSplit() {
+			return this.split;
+		}
+
+		/**
+		 * Is folded into a JSON array column, applied @SqlFetchMode(JSON).
+		 *
+		 * @return the boolean
+		 */
+		boolean isJson() {
+			return this.jsonColumnAlias != null;
+		}
+
+		/**
+		 * Gets JSON array column alias.
+		 *
+		 * @return the json column alias, or null if not folded into a JSON array column
+		 */
+		@Nullable
+		String getJsonColumnAlias() {
+			return this.jsonColumnAlias;
+		}
+
+		/**
+		 * Gets nested relations.
+		 *
+		 * @return the relations
+		 */
+		List<RelationPlan> getRelations() {
+			return this.relations;
+		}
+	}
+
+	/**
+	 * Column labels and readers of a result set, resolved once per column shape.
+	 */
+	static final class ColumnLayout {
+		private final String[] labels;
+		private final ColumnReader[] readers;
+		private final Map<String, Integer> indexes;
+
+		private ColumnLayout(List<String> labels, Map<String, ColumnReader> columnReaders) {
+			this.labels = new String[labels.size()];
+			this.readers = new ColumnReader[labels.size()];
+			Map<String, Integer> columnIndexes = new LinkedCaseInsensitiveMap<>(this.labels.length);
+			for (int i = 0; i < this.labels.length; i++) {
+				// interned, so that row documents of every result set share the label instances
+				this.labels[i] = labels.get(i).intern();
+				this.readers[i] = columnReaders.getOrDefault(this.labels[i], ColumnReader.OBJECT);
+				columnIndexes.putIfAbsent(this.labels[i], i + 1);
+			}
+			this.indexes = Collections.unmodifiableMap(columnIndexes);
+		}
+
+		/**
+		 * Gets column count.
+		 *
+		 * @return the column count
+		 */
+		int getColumnCount() {
+			return this.labels.length;
+		}
+
+		/**
+		 * Gets column label of 0-based index.
+		 *
+		 * @param index the index
+		 * @return the label
+		 */
+		String getLabel(int index) {
+			return this.labels[index];
+		}
+
+		/**
+		 * Gets column reader of 0-based index.
+		 *
+		 * @param index the index
+		 * @return the column reader
+		 */
+		ColumnReader getReader(int index) {
+			return this.readers[index];
+		}
+
+		/**
+		 * Gets 1-based column index of label, or -1 if absent.
+		 *
+		 * @param label the label
+		 * @return the column index
+		 */
+		int getColumnIndex(String label) {
+			return this.indexes.getOrDefault(label, -1);
+		}
+
+		/**
+		 * Gets case-insensitive 1-based column indexes by label.
+		 *
+		 * @return the indexes
+		 */
+		Map<String, Integer> getIndexes() {
+			return this.indexes;
+		}
+	}
+
+	/**
+	 * Cache key of a statement shape.
+	 *
+	 * @param sql         the sql
+	 * @param columnCount the column count
+	 */
+	private record StatementShape(String sql, int columnCount) {
+	}
+
+	/**
+	 * Column alias lookup cache of {@link AggregatePath}s applied @SqlTableAlias.
+	 */
+	static final class ColumnAliases {
+		private final Map<AggregatePath, String> columnAliases = new ConcurrentHashMap<>();
+		private final Map<AggregatePath, String> reverseColumnAliases = new ConcurrentHashMap<>();
+
+		/**
+		 * Gets column alias.
+		 *
+		 * @param path the path
+		 * @return the column alias
+		 */
+		String getColumnAlias(AggregatePath path) {
+			return lookup(this.columnAliases, path, p -> PropertyPathUtils.getColumnAlias(p).getReference());
+		}
+
+		/**
+		 * Gets reverse column alias.
+		 *
+		 * @param path the path
+		 * @return the reverse column alias
+		 */
+		String getReverseColumnAlias(AggregatePath path) {
+			return lookup(
+				this.reverseColumnAliases, path, p -> PropertyPathUtils.getReverseColumnAlias(p).getReference());
+		}
+
+		private static String lookup(
+			Map<AggregatePath, String> cache,
+			AggregatePath path,
+			Function<AggregatePath, String> resolver
+		) {
+			String alias = cache.get(path);
+			if (alias == null) {
+				alias = resolver.apply(path);
+				cache.put(path, alias);
+			}
+			return alias;
+		}
+	}
+
+	/**
+	 * Build relations of the given path.
+	 *
+	 * @param path            the path
+	 * @param relationFactory the relation plan factory
+	 * @return the relation plans
+	 */
+	static List<RelationPlan> relationsOf(
+		AggregatePath path,
+		Function<AggregatePath, RelationPlan> relationFactory
+	) {
+		RelationalPersistentEntity<?> leafEntity = path.getLeafEntity();
+
+		Assert.state(leafEntity != null, "leafEntity must not be null");
+
+		List<RelationPlan> relations = new ArrayList<>();
+		for (RelationalPersistentProperty property : leafEntity) {
+			if (property.isEmbedded()) {
+				continue;
+			}
+
+			if (property.isEntity() || property.isMap()) {
+				relations.add(relationFactory.apply(path.append(property)));
+			}
+		}
+		return relations;
+	}
+}
@@ -21,11 +21,10 @@ package com.navercorp.spring.data.jdbc.plus.sql.convert;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
-import java.sql.Array;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -33,6 +32,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -65,9 +66,9 @@ import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.data.util.Streamable;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.util.Assert;
-import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
@@ -95,6 +96,14 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 	private final CachingValueExpressionEvaluatorFactory valueExpressionEvaluatorFactory =
 		new CachingValueExpressionEvaluatorFactory(expressionParser, this, o -> spElContext.getEvaluationContext(o));
 
+	private final Map<Class<?>, AggregateMappingPlan> mappingPlans = new ConcurrentHashMap<>();
+
+	private final AggregateMappingPlan.ColumnAliases columnAliases = new AggregateMappingPlan.ColumnAliases();
+
+	private final LongAdder fanOutSkipCount = new LongAdder();
+
+	private @Nullable ParallelMaterialization parallelMaterialization;
+
 	/**
 	 * Instantiates a new Aggregate result jdbc converter.
 	 *
@@ -142,22 +151,157 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 	 * @return the list
 	 */
 	public final <T> List<T> mapAggregate(RelationalPersistentEntity<T> entity, ResultSet resultSet) {
-		try {
-			EntityPathRelations entityPathRelations = this.getEntityPathRelations(entity);
-			List<Map<String, Object>> aggregateMapList = this.extractData(resultSet, entityPathRelations);
+		return this.mapAggregate(entity, resultSet, null);
+	}
 
-			List<T> result = new ArrayList<>();
-			for (Map<String, Object> aggregateMap : aggregateMapList) {
-				T aggregate = this.mapAggregate(entity, aggregateMap);
-				result.add(aggregate);
-			}
+	/**
+	 * Map aggregate list, and load relations applied @SqlFetchMode(SPLIT) with the split relation fetcher.
+	 *
+	 * @param <T>                  the type parameter
+	 * @param entity               the entity
+	 * @param resultSet            the result set
+	 * @param splitRelationFetcher the split relation fetcher, or null to extract every relation from the result set
+	 * @return the list
+	 */
+	public final <T> List<T> mapAggregate(
+		RelationalPersistentEntity<T> entity,
+		ResultSet resultSet,
+		@Nullable SplitRelationFetcher splitRelationFetcher
+	) {
+		return this.mapAggregate(entity, resultSet, splitRelationFetcher, null);
+	}
 
-			return result;
+	/**
+	 * Map aggregate list of the result set of the sql.
+	 * The column layout of the same sql is reused by the following executions without reading the column labels,
+	 * until mapping a result set of the sql fails.
+	 *
+	 * @param <T>                  the type parameter
+	 * @param entity               the entity
+	 * @param resultSet            the result set
+	 * @param splitRelationFetcher the split relation fetcher, or null to extract every relation from the result set
+	 * @param sql                  the sql of the result set, or null if unknown
+	 * @return the list
+	 */
+	public final <T> List<T> mapAggregate(
+		RelationalPersistentEntity<T> entity,
+		ResultSet resultSet,
+		@Nullable SplitRelationFetcher splitRelationFetcher,
+		@Nullable String sql
+	) {
+		try {
+			AggregateMappingPlan mappingPlan = this.getMappingPlan(entity);
+			AggregateMappingPlan.ColumnLayout columnLayout =
+				mappingPlan.getColumnLayout(resultSet.getMetaData(), sql);
+			try {
+				return this.readAggregates(entity, mappingPlan, columnLayout, resultSet, splitRelationFetcher);
+			} catch (Exception e) {
+				if (sql != null) {
+					mappingPlan.invalidateColumnLayout(sql, columnLayout.getColumnCount());
+				}
+				throw e;
+			}
 		} catch (Exception e) {
 			throw new MappingException("Result aggregate failure. entity: " + entity.getType(), e);
 		}
 	}
 
+	/**
+	 * Read aggregates from the result set with the mapping plan.
+	 *
+	 * @param <T>                  the type parameter
+	 * @param entity               the entity
+	 * @param mappingPlan          the mapping plan
+	 * @param columnLayout         the column layout of the result set
+	 * @param resultSet            the result set
+	 * @param splitRelationFetcher the split relation fetcher
+	 * @return the aggregates
+	 * @throws SQLException the sql exception
+	 */
+	<T> List<T> readAggregates(
+		RelationalPersistentEntity<T> entity,
+		AggregateMappingPlan mappingPlan,
+		AggregateMappingPlan.ColumnLayout columnLayout,
+		ResultSet resultSet,
+		@Nullable SplitRelationFetcher splitRelationFetcher
+	) throws SQLException {
+		List<Map<String, Object>> aggregateMapList =
+			this.extractData(resultSet, mappingPlan, columnLayout, splitRelationFetcher);
+
+		if (this.parallelMaterialization != null) {
+			return this.parallelMaterialization.map(
+				aggregateMapList, aggregateMap -> this.mapAggregate(entity, aggregateMap));
+		}
+
+		List<T> result = new ArrayList<>();
+		for (Map<String, Object> aggregateMap : aggregateMapList) {
+			T aggregate = this.mapAggregate(entity, aggregateMap);
+			result.add(aggregate);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Sets the parallel materialization of entities from the extracted aggregate maps.
+	 * Aggregates built directly from rows by {@link DirectAggregateResultJdbcConverter} are not affected.
+	 *
+	 * @param parallelMaterialization the parallel materialization, or null to materialize sequentially
+	 */
+	public void setParallelMaterialization(@Nullable ParallelMaterialization parallelMaterialization) {
+		this.parallelMaterialization = parallelMaterialization;
+	}
+
+	/**
+	 * Gets the number of root and relation row mappings skipped,
+	 * because the row was a join fan-out of an already extracted entity.
+	 *
+	 * @return the fan-out skip count
+	 */
+	public long getFanOutSkipCount() {
+		return this.fanOutSkipCount.sum();
+	}
+
+	void incrementFanOutSkipCount() {
+		this.fanOutSkipCount.increment();
+	}
+
+	/**
+	 * Gets the hash key of a row id to look up extracted rows.
+	 * Array ids (e.g. binary uuid) are matched by content, as {@link ObjectUtils#nullSafeEquals} does.
+	 *
+	 * @param rowId the row id
+	 * @return the key
+	 */
+	static Object rowIdKey(Object rowId) {
+		return rowId.getClass().isArray() ? Arrays.asList(ObjectUtils.toObjectArray(rowId)) : rowId;
+	}
+
+	AggregateMappingPlan.ColumnAliases getColumnAliases() {
+		return this.columnAliases;
+	}
+
+	CachingValueExpressionEvaluatorFactory getValueExpressionEvaluatorFactory() {
+		return this.valueExpressionEvaluatorFactory;
+	}
+
+	/**
+	 * Create accumulator which maps rows of a result set ordered by root id,
+	 * and completes each aggregate as soon as the root id changes.
+	 *
+	 * @param <T>    the type parameter
+	 * @param entity the entity
+	 * @return the aggregate row accumulator
+	 */
+	final <T> AggregateRowAccumulator<T> createAggregateRowAccumulator(RelationalPersistentEntity<T> entity) {
+		AggregateMappingPlan mappingPlan = this.getMappingPlan(entity);
+		if (!mappingPlan.getSplitRelations().isEmpty()) {
+			throw new IllegalStateException(
+				"Streaming aggregate does not support @SqlFetchMode(SPLIT) relations. entity: " + entity.getType());
+		}
+		return new AggregateRowAccumulator<>(entity, mappingPlan);
+	}
+
 	/**
 	 * Single Table {@link RowDocument} to Map
 	 *
@@ -245,53 +389,78 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 
 	private List<Map<String, Object>> extractData(
 		ResultSet resultSet,
-		EntityPathRelations entityPathRelations
+		AggregateMappingPlan mappingPlan,
+		AggregateMappingPlan.ColumnLayout columnLayout,
+		@Nullable SplitRelationFetcher splitRelationFetcher
 	) throws SQLException {
 
-		AggregatePath rootPath = entityPathRelations.getRootPath();
-		RelationalPersistentEntity<?> persistentEntity = rootPath.getLeafEntity();
-
-		Assert.state(persistentEntity != null, "persistentEntity must not be null");
+		AggregatePath rootPath = mappingPlan.getRootPath();
+		RelationalPersistentEntity<?> persistentEntity = mappingPlan.getRootEntity();
 
 		Map<Object, ExtractedRow> extractedRows = new LinkedHashMap<>();
+		List<AggregateMappingPlan.RelationPlan> relationPlans = splitRelationFetcher != null
+			? mappingPlan.getJoinRelations()
+			: mappingPlan.getRowRelations();
 
 		while (resultSet.next()) {
-			RowDocument document = toRowDocument(resultSet);
-			Map<String, Object> entityMap = this.mapSingleTableRow(persistentEntity, document);
+			RowReader rowReader = new RowReader(resultSet, columnLayout);
+
+			Object rootId = this.getRootId(rowReader, rootPath);
+			ExtractedRow rootRow = extractedRows.get(rootId);
+			if (rootRow == null) {
+				Map<String, Object> entityMap = this.mapSingleTableRow(persistentEntity, rowReader.getDocument());
+				rootRow = new ExtractedRow(
+					null, persistentEntity, entityMap, rootId, rootId, null, new LinkedMultiValueMap<>(), true);
+				extractedRows.put(rootId, rootRow);
+				this.appendJsonRelationRows(rowReader, rootRow, mappingPlan.getJsonRelations());
+			} else {
+				this.incrementFanOutSkipCount();
+			}
+			this.appendExtractRelationRows(rowReader, rootRow, relationPlans);
+		}
 
-			Object rootId = this.getRootId(document, rootPath);
-			ExtractedRow rootRow = extractedRows.computeIfAbsent(rootId, i -> new ExtractedRow(
-				null, persistentEntity, entityMap, i, null, new LinkedMultiValueMap<>()));
-			this.appendExtractRelationRows(document, rootRow, entityPathRelations.getRelations());
+		if (splitRelationFetcher != null && !extractedRows.isEmpty()) {
+			for (AggregateMappingPlan.RelationPlan splitRelationPlan : mappingPlan.getSplitRelations()) {
+				splitRelationFetcher.fetch(
+					splitRelationPlan.getPath(),
+					extractedRows.keySet(),
+					new SplitRelationRowCallbackHandler(mappingPlan, splitRelationPlan, extractedRows));
+			}
 		}
 
 		List<Map<String, Object>> result = new ArrayList<>(extractedRows.size());
 		for (Map.Entry<Object, ExtractedRow> row : extractedRows.entrySet()) {
-			ExtractedRow extractedRow = row.getValue();
-			MultiValueMap<AggregatePath, RelationValue> relations =
-				this.accumulateRelations(extractedRow.getRelations());
-			this.setEntityRelations(
-				extractedRow.getRoot(), extractedRow.getRootEntity(), relations);
-			result.add(extractedRow.getRoot());
+			result.add(this.completeRootRow(row.getValue()));
 		}
 
 		return result;
 	}
 
+	private Map<String, Object> completeRootRow(ExtractedRow rootRow) {
+		MultiValueMap<AggregatePath, RelationValue> relations = new LinkedMultiValueMap<>();
+		this.accumulateRelations(rootRow.getRelations(), relations);
+		this.setEntityRelations(rootRow.getRoot(), rootRow.getRootEntity(), relations);
+		return rootRow.getRoot();
+	}
+
 	/**
 	 * {@link org.springframework.data.jdbc.core.convert.RowDocumentResultSetExtractor#toRowDocument(ResultSet)}
+	 * DIFF: column labels are resolved once per result set by {@link AggregateMappingPlan.ColumnLayout}
+	 * DIFF: column values are read by the typed {@link ColumnReader} of the column
 	 */
-	private RowDocument toRowDocument(ResultSet resultSet) throws SQLException {
+	private RowDocument toRowDocument(
+		ResultSet resultSet,
+		AggregateMappingPlan.ColumnLayout columnLayout
+	) throws SQLException {
 
-		ResultSetMetaData md = resultSet.getMetaData();
-		int columnCount = md.getColumnCount();
+		int columnCount = columnLayout.getColumnCount();
 		RowDocument document = new RowDocument(columnCount);
 
 		for (int i = 0; i < columnCount; i++) {
 
-			Object rsv = JdbcUtils.getResultSetValue(resultSet, i + 1);
-			String columnName = JdbcUtils.lookupColumnName(md, i + 1);
-			Object old = document.putIfAbsent(columnName, rsv instanceof Array a ? a.getArray() : rsv);
+			Object rsv = columnLayout.getReader(i).read(resultSet, i + 1);
+			String columnName = columnLayout.getLabel(i);
+			Object old = document.putIfAbsent(columnName, rsv);
 			if (old != null) {
 				LOG.warn(DUPLICATE_COLUMN_WARNING, columnName, i);
 			}
@@ -301,158 +470,220 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 	}
 
 	private void appendExtractRelationRows(
-		RowDocument rowDocument,
+		RowReader rowReader,
 		ExtractedRow rootRow,
-		Map<AggregatePath, EntityPathRelations> relationEntityPaths
+		List<AggregateMappingPlan.RelationPlan> relationPlans
 	) throws SQLException {
 
-		MultiValueMap<AggregatePath, ExtractedRow> relationEntities = rootRow.getRelations();
+		for (AggregateMappingPlan.RelationPlan relationPlan : relationPlans) {
 
-		for (Map.Entry<AggregatePath, EntityPathRelations> relationEntityPath
-			: relationEntityPaths.entrySet()) {
-
-			AggregatePath relationPath = relationEntityPath.getKey();
-			RelationalPersistentProperty idProperty = relationPath.getRequiredIdProperty();
-			List<ExtractedRow> relationRows = relationEntities.get(relationPath);
+			AggregatePath relationPath = relationPlan.getPath();
+			RelationalPersistentProperty idProperty = relationPlan.getRequiredIdProperty();
+			String idColumnAlias = relationPlan.getIdColumnAlias();
 
 			Identifier identifier = this.getRelationEntityIdentifier(
-				relationPath, Objects.requireNonNull(rootRow.getRootEntity()), rootRow.getRoot());
+				relationPlan, Objects.requireNonNull(rootRow.getRootEntity()), rootRow.getRoot());
 
 			if (identifier == null) {
 				continue;
 			}
 
-			ExtractedRow extractedRow = this.extractRelationRow(
-				rowDocument,
-				rootRow.getRootId(),
-				relationPath,
-				identifier,
-				relationEntityPath.getValue().getRelations());
-
-			if (!extractedRow.hasValue(idProperty)) {
-				continue;
-			}
-
-			if (CollectionUtils.isEmpty(relationRows)) {
-				// First relation extract
-				List<ExtractedRow> newRelations = new ArrayList<>();
-				newRelations.add(extractedRow);
-
-				relationEntities.put(relationPath, newRelations);
-				continue;
-			}
-
-			ExtractedRow existRow = null;
-			for (ExtractedRow relationRow : relationRows) {
-				if (relationRow.getRootId().equals(extractedRow.getPropertyValue(idProperty))) {
-					// Next row relation is same entity
-					existRow = relationRow;
-					break;
+			// Read the id first, and map the rest of the columns only on first sight of the entity
+			ExtractedRow extractedRow = null;
+			Object rowId;
+			if (idColumnAlias != null) {
+				rowId = rowReader.getValue(idColumnAlias);
+				if (ObjectUtils.isEmpty(rowId)) {
+					continue;
+				}
+			} else {
+				extractedRow = this.extractRelationRow(rowReader, rootRow.getRootId(), relationPlan, identifier, null);
+				if (!extractedRow.hasValue(idProperty)) {
+					continue;
 				}
+				rowId = extractedRow.getRowId();
 			}
 
+			// Next row relation is same entity, id-less values of map and list relations are matched with the key
+			ExtractedRow existRow = rootRow.getRelation(
+				relationPath, rowId, extractedRow != null ? extractedRow.getKeyValue() : null);
 			if (existRow != null) {
+				if (extractedRow == null) {
+					this.incrementFanOutSkipCount();
+				}
+
 				// extract relation rows
 				this.appendExtractRelationRows(
-					rowDocument,
+					rowReader,
 					existRow,
-					relationEntityPath.getValue().getRelations());
+					relationPlan.getRelations());
 			} else {
 				// extract new relation rows
-				relationEntities.add(relationPath, extractedRow);
+				if (extractedRow == null) {
+					extractedRow = this.extractRelationRow(
+						rowReader, rootRow.getRootId(), relationPlan, identifier, rowId);
+				}
+				rootRow.addRelation(relationPath, extractedRow);
 			}
 		}
 	}
 
-	private ExtractedRow extractRelationRow(
-		RowDocument rowDocument,
-		@Nullable Object rootId,
-		AggregatePath relationPath,
-		Identifier identifier,
-		Map<AggregatePath, EntityPathRelations> nestedRelations
+	private void appendJsonRelationRows(
+		RowReader rowReader,
+		ExtractedRow rootRow,
+		List<AggregateMappingPlan.RelationPlan> relationPlans
 	) throws SQLException {
-		return extractRelationRow(rowDocument, rootId, relationPath, identifier, null, nestedRelations);
+
+		for (AggregateMappingPlan.RelationPlan relationPlan : relationPlans) {
+			Identifier identifier = this.getRelationEntityIdentifier(
+				relationPlan, Objects.requireNonNull(rootRow.getRootEntity()), rootRow.getRoot());
+
+			if (identifier == null) {
+				continue;
+			}
+
+			// Each element of the JSON array is a relation row, keyed by the column aliases of the aggregate query
+			String jsonColumnAlias = Objects.requireNonNull(relationPlan.getJsonColumnAlias());
+			for (Map<String, Object> element : JsonArrayReader.read(rowReader.getValue(jsonColumnAlias))) {
+				ExtractedRow extractedRow = this.extractRelationRow(
+					new RowReader(new RowDocument(element)), rootRow.getRootId(), relationPlan, identifier, null);
+				rootRow.addRelation(relationPlan.getPath(), extractedRow);
+			}
+		}
 	}
 
 	private ExtractedRow extractRelationRow(
-		RowDocument rowDocument,
+		RowReader rowReader,
 		@Nullable Object rootId,
-		AggregatePath relationPath,
+		AggregateMappingPlan.RelationPlan relationPlan,
 		Identifier identifier,
-		@Nullable Object relationEntityId,
-		Map<AggregatePath, EntityPathRelations> nestedRelations
+		@Nullable Object rowId
 	) throws SQLException {
 
+		AggregatePath relationPath = relationPlan.getPath();
+		RowDocument rowDocument = rowReader.getDocument();
 		Map<String, Object> relationValue;
 		Object key = null;
-		if (relationPath.isMap()) {
-			String keyColumn = this.getQualifierColumnAlias(relationPath);
+		if (relationPlan.isMap()) {
+			String keyColumn = Objects.requireNonNull(relationPlan.getQualifierColumnAlias());
 			key = rowDocument.get(keyColumn);
 			Map.Entry<Object, Map<String, Object>> relationMapEntry = this.mapSingleTableMapRow(
 				relationPath, rowDocument, identifier, key);
 			relationValue = relationMapEntry.getValue();
 		} else {
+			String keyColumn = relationPlan.getQualifierColumnAlias();
+			key = keyColumn != null ? rowDocument.get(keyColumn) : null;
 			relationValue = this.mapSingleTableRow(
 				relationPath, rowDocument, identifier);
 		}
 
-		if (relationEntityId == null) {
-			relationEntityId = relationValue.get(relationPath.getRequiredIdProperty().getName());
-		}
+		Object relationEntityId = relationValue.get(relationPlan.getRequiredIdProperty().getName());
 
 		ExtractedRow extractedRow = new ExtractedRow(
 			rootId,
 			relationPath.getLeafEntity(),
 			relationValue,
 			relationEntityId,
+			rowId != null ? rowId : relationEntityId,
 			key,
-			new LinkedMultiValueMap<>());
-		this.appendExtractRelationRows(rowDocument, extractedRow, nestedRelations);
+			new LinkedMultiValueMap<>(),
+			relationPlan.getIdColumnAlias() != null);
+		this.appendExtractRelationRows(rowReader, extractedRow, relationPlan.getRelations());
 		return extractedRow;
 	}
 
-	private EntityPathRelations getEntityPathRelations(RelationalPersistentEntity<?> entity) {
-		AggregatePath rootPath = this.getMappingContext().getAggregatePath(entity);
-		return this.getEntityPathRelations(rootPath);
+	/**
+	 * Pre-warm the mapping plan of the aggregate.
+	 *
+	 * @param entity the entity
+	 */
+	public void warmUp(RelationalPersistentEntity<?> entity) {
+		this.getMappingPlan(entity);
 	}
 
-	private EntityPathRelations getEntityPathRelations(AggregatePath entityPath) {
-		Map<AggregatePath, EntityPathRelations> relations = new HashMap<>();
-		RelationalPersistentEntity<?> leafEntity = entityPath.getLeafEntity();
+	/**
+	 * Gets the precompiled mapping plan of the aggregate.
+	 *
+	 * @param entity the entity
+	 * @return the aggregate mapping plan
+	 */
+	AggregateMappingPlan getMappingPlan(RelationalPersistentEntity<?> entity) {
+		AggregateMappingPlan mappingPlan = this.mappingPlans.get(entity.getType());
+		if (mappingPlan == null) {
+			AggregatePath rootPath = this.getMappingContext().getAggregatePath(entity);
+			mappingPlan = new AggregateMappingPlan(
+				rootPath,
+				AggregateMappingPlan.relationsOf(rootPath, this::createRelationPlan),
+				this.createColumnReaders(entity));
+			this.mappingPlans.put(entity.getType(), mappingPlan);
+		}
+		return mappingPlan;
+	}
 
-		Assert.state(leafEntity != null, "leafEntity must not be null");
+	/**
+	 * Chooses typed column readers by the property types of the aggregate.
+	 * Back reference columns are read as the id of the parent,
+	 * so that relation rows are matched by the same key as the parent id.
+	 */
+	private Map<String, ColumnReader> createColumnReaders(RelationalPersistentEntity<?> entity) {
+		CustomConversions conversions = this.getConversions();
+		Map<String, ColumnReader> columnReaders = new LinkedCaseInsensitiveMap<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path
+			: this.getMappingContext().findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			AggregatePath aggregatePath = this.getMappingContext().getAggregatePath(path);
+			if (aggregatePath.isEntity()) {
+				if (aggregatePath.isEmbedded()) {
+					continue;
+				}
 
-		for (RelationalPersistentProperty property : leafEntity) {
-			if (property.isEmbedded()) {
+				RelationalPersistentEntity<?> parentEntity = aggregatePath.getIdDefiningParentPath().getLeafEntity();
+				RelationalPersistentProperty parentId = parentEntity != null ? parentEntity.getIdProperty() : null;
+				if (parentId != null && !parentId.isEmbedded()) {
+					columnReaders.putIfAbsent(
+						this.columnAliases.getReverseColumnAlias(aggregatePath),
+						ColumnReader.of(parentId.getType(), conversions));
+				}
 				continue;
 			}
 
-			if (property.isEntity() || (property.isCollectionLike() && property.isEntity()) || property.isMap()) {
-				PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath =
-					entityPath.append(property).getRequiredPersistentPropertyPath();
-				AggregatePath relationPath = this.getMappingContext().getAggregatePath(propertyPath);
-				EntityPathRelations entityPathRelations = this.getEntityPathRelations(relationPath);
-				relations.put(relationPath, entityPathRelations);
+			RelationalPersistentProperty property = path.getLeafProperty();
+			if (property.isCollectionLike() || property.isMap()) {
+				continue;
 			}
+			columnReaders.putIfAbsent(
+				this.columnAliases.getColumnAlias(aggregatePath), ColumnReader.of(property.getType(), conversions));
 		}
+		return columnReaders;
+	}
 
-		return new EntityPathRelations(entityPath, relations);
+	private AggregateMappingPlan.RelationPlan createRelationPlan(AggregatePath relationPath) {
+		RelationalPersistentEntity<?> leafEntity = relationPath.getLeafEntity();
+		RelationalPersistentProperty idProperty = leafEntity != null ? leafEntity.getIdProperty() : null;
+		String idColumnAlias = idProperty != null && !idProperty.isEmbedded()
+			? this.columnAliases.getColumnAlias(relationPath.append(idProperty))
+			: null;
+
+		return new AggregateMappingPlan.RelationPlan(
+			relationPath,
+			relationPath.isQualified() ? this.getQualifierColumnAlias(relationPath) : null,
+			idColumnAlias,
+			AggregateMappingPlan.relationsOf(relationPath, this::createRelationPlan));
 	}
 
-	private MultiValueMap<AggregatePath, RelationValue> accumulateRelations(
-		MultiValueMap<AggregatePath, ExtractedRow> extractedRows
+	private void accumulateRelations(
+		MultiValueMap<AggregatePath, ExtractedRow> extractedRows,
+		MultiValueMap<AggregatePath, RelationValue> relations
 	) {
-		MultiValueMap<AggregatePath, RelationValue> relations = new LinkedMultiValueMap<>();
 		for (Map.Entry<AggregatePath, List<ExtractedRow>> extractedRow : extractedRows.entrySet()) {
 
 			AggregatePath path = extractedRow.getKey();
 			List<ExtractedRow> rowValues = extractedRow.getValue();
 			for (ExtractedRow rowValue : rowValues) {
 				relations.add(path, RelationValue.from(rowValue));
-				relations.addAll(this.accumulateRelations(rowValue.getRelations()));
+				this.accumulateRelations(rowValue.getRelations(), relations);
 			}
 		}
-		return relations;
 	}
 
 	private void setEntityRelations(
@@ -496,15 +727,16 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		}
 	}
 
-	private Object getRootId(RowDocument rowDocument, AggregatePath rootPath) {
+	@Nullable
+	Object getRootId(RowReader rowReader, AggregatePath rootPath) throws SQLException {
 		if (rootPath.getRequiredIdProperty().isEmbedded()) {
-			return read(rootPath.getRequiredIdProperty().getTypeInformation(),  rowDocument);
+			return read(rootPath.getRequiredIdProperty().getTypeInformation(), rowReader.getDocument());
 		}
-		return rowDocument.get(rootPath.getRequiredIdProperty().getColumnName().getReference());
+		return rowReader.getValue(rootPath.getRequiredIdProperty().getColumnName().getReference());
 	}
 
 	private @Nullable Identifier getRelationEntityIdentifier(
-		AggregatePath relationPath,
+		AggregateMappingPlan.RelationPlan relationPlan,
 		RelationalPersistentEntity<?> entity,
 		Map<String, Object> entityMap
 	) {
@@ -514,7 +746,7 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		}
 
 		return Identifier.of(
-			relationPath.getTableInfo().backReferenceColumnInfos().any().name(),
+			relationPlan.getBackReferenceColumn(),
 			id,
 			Object.class
 		);
@@ -536,8 +768,8 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		}
 
 		List<Map<String, Object>> relationMapValues = relationValue.stream()
-			.map(RelationValue::getValue)
 			.distinct()
+			.map(RelationValue::getValue)
 			.collect(toList());
 
 		if (!property.isCollectionLike() && (property.isEntity() || property.isEmbedded())) {
@@ -556,7 +788,7 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		return relationMapValues;
 	}
 
-	private boolean isSimpleProperty(RelationalPersistentProperty property) {
+	boolean isSimpleProperty(RelationalPersistentProperty property) {
 		return !property.isCollectionLike()
 			&& !property.isEntity()
 			&& !property.isMap()
@@ -581,40 +813,198 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		Object getParameterValue(Parameter<?, P> parameter);
 	}
 
-	private static class EntityPathRelations {
-		private final AggregatePath rootPath;
-		private final Map<AggregatePath, EntityPathRelations> relations;
+	/**
+	 * Accumulates rows of a single root aggregate at a time.
+	 * Rows must be ordered by root id, so that an aggregate is complete when the root id changes.
+	 *
+	 * @param <T> the type parameter
+	 */
+	final class AggregateRowAccumulator<T> {
+		private final RelationalPersistentEntity<T> entity;
+		private final AggregateMappingPlan mappingPlan;
+		private AggregateMappingPlan.@Nullable ColumnLayout columnLayout;
+		private @Nullable ExtractedRow currentRow;
 
 		/**
-		 * Instantiates a new Entity path relations.
+		 * Instantiates a new Aggregate row accumulator.
 		 *
-		 * @param rootPath  the root path
-		 * @param relations the relations
+		 * @param entity      the entity
+		 * @param mappingPlan the mapping plan
 		 */
-		EntityPathRelations(
-			AggregatePath rootPath,
-			Map<AggregatePath, EntityPathRelations> relations) {
+		AggregateRowAccumulator(RelationalPersistentEntity<T> entity, AggregateMappingPlan mappingPlan) {
+			this.entity = entity;
+			this.mappingPlan = mappingPlan;
+		}
 
-			this.rootPath = rootPath;
-			this.relations = relations;
+		/**
+		 * Accumulate current row of the result set.
+		 *
+		 * @param resultSet the result set positioned at a row
+		 * @return the previous aggregate, if the current row starts a new root, otherwise null
+		 * @throws SQLException the sql exception
+		 */
+		@Nullable
+		T accumulate(ResultSet resultSet) throws SQLException {
+			AggregateMappingPlan.ColumnLayout layout = this.columnLayout;
+			if (layout == null) {
+				layout = this.mappingPlan.getColumnLayout(resultSet.getMetaData());
+				this.columnLayout = layout;
+			}
+
+			RowReader rowReader = new RowReader(resultSet, layout);
+			Object rootId = getRootId(rowReader, this.mappingPlan.getRootPath());
+
+			T completed = null;
+			ExtractedRow rootRow = this.currentRow;
+			if (rootRow != null && !Objects.equals(rootRow.getRootId(), rootId)) {
+				completed = this.complete(rootRow);
+				rootRow = null;
+			}
+
+			if (rootRow == null) {
+				RelationalPersistentEntity<?> rootEntity = this.mappingPlan.getRootEntity();
+				rootRow = new ExtractedRow(
+					null, rootEntity, mapSingleTableRow(rootEntity, rowReader.getDocument()), rootId, rootId, null,
+					new LinkedMultiValueMap<>(), true);
+				this.currentRow = rootRow;
+				appendJsonRelationRows(rowReader, rootRow, this.mappingPlan.getJsonRelations());
+			} else {
+				incrementFanOutSkipCount();
+			}
+
+			appendExtractRelationRows(rowReader, rootRow, this.mappingPlan.getRowRelations());
+			return completed;
 		}
 
 		/**
-		 * Gets root path.
+		 * Complete the last accumulated aggregate.
 		 *
-		 * @return the root path
+		 * @return the last aggregate, or null if no row has been accumulated
 		 */
-		public AggregatePath getRootPath() {
-			return this.rootPath;
+		@Nullable
+		T finish() {
+			ExtractedRow rootRow = this.currentRow;
+			if (rootRow == null) {
+				return null;
+			}
+			return this.complete(rootRow);
+		}
+
+		private T complete(ExtractedRow rootRow) {
+			this.currentRow = null;
+			return mapAggregate(this.entity, completeRootRow(rootRow));
 		}
+	}
+
+	/**
+	 * Extracts rows of a split relation query into the relations of the extracted roots.
+	 */
+	private final class SplitRelationRowCallbackHandler implements RowCallbackHandler {
+		private final AggregateMappingPlan mappingPlan;
+		private final List<AggregateMappingPlan.RelationPlan> relationPlans;
+		private final Map<Object, ExtractedRow> rootRows;
+		private final String parentIdColumnAlias;
+		private AggregateMappingPlan.@Nullable ColumnLayout columnLayout;
 
 		/**
-		 * Gets relations.
+		 * Instantiates a new Split relation row callback handler.
 		 *
-		 * @return the relations
+		 * @param mappingPlan  the mapping plan
+		 * @param relationPlan the split relation plan
+		 * @param rootRows     the extracted root rows by root id
 		 */
-		public Map<AggregatePath, EntityPathRelations> getRelations() {
-			return this.relations;
+		SplitRelationRowCallbackHandler(
+			AggregateMappingPlan mappingPlan,
+			AggregateMappingPlan.RelationPlan relationPlan,
+			Map<Object, ExtractedRow> rootRows
+		) {
+			this.mappingPlan = mappingPlan;
+			this.relationPlans = List.of(relationPlan);
+			this.rootRows = rootRows;
+			this.parentIdColumnAlias = getColumnAliases().getReverseColumnAlias(relationPlan.getPath());
+		}
+
+		@Override
+		public void processRow(ResultSet resultSet) throws SQLException {
+			AggregateMappingPlan.ColumnLayout layout = this.columnLayout;
+			if (layout == null) {
+				layout = this.mappingPlan.getColumnLayout(resultSet.getMetaData());
+				this.columnLayout = layout;
+			}
+
+			RowReader rowReader = new RowReader(resultSet, layout);
+			ExtractedRow rootRow = this.rootRows.get(rowReader.getValue(this.parentIdColumnAlias));
+			if (rootRow == null) {
+				return;
+			}
+			appendExtractRelationRows(rowReader, rootRow, this.relationPlans);
+		}
+	}
+
+	/**
+	 * Reads columns of the current row, and builds the {@link RowDocument} only when the row has to be mapped.
+	 */
+	final class RowReader {
+		private final @Nullable ResultSet resultSet;
+		private final AggregateMappingPlan.@Nullable ColumnLayout columnLayout;
+		private @Nullable RowDocument document;
+
+		/**
+		 * Instantiates a new Row reader.
+		 *
+		 * @param resultSet    the result set positioned at a row
+		 * @param columnLayout the column layout
+		 */
+		RowReader(ResultSet resultSet, AggregateMappingPlan.ColumnLayout columnLayout) {
+			this.resultSet = resultSet;
+			this.columnLayout = columnLayout;
+		}
+
+		/**
+		 * Instantiates a new Row reader of a document, which is not read from a result set.
+		 *
+		 * @param document the row document
+		 */
+		RowReader(RowDocument document) {
+			this.resultSet = null;
+			this.columnLayout = null;
+			this.document = document;
+		}
+
+		/**
+		 * Gets a single column value without reading the whole row.
+		 *
+		 * @param column the column label
+		 * @return the value
+		 * @throws SQLException the sql exception
+		 */
+		@Nullable
+		Object getValue(String column) throws SQLException {
+			if (this.document != null) {
+				return this.document.get(column);
+			}
+
+			int index = Objects.requireNonNull(this.columnLayout).getColumnIndex(column);
+			if (index < 0) {
+				return null;
+			}
+			return this.columnLayout.getReader(index - 1).read(Objects.requireNonNull(this.resultSet), index);
+		}
+
+		/**
+		 * Gets the document of the whole row.
+		 *
+		 * @return the row document
+		 * @throws SQLException the sql exception
+		 */
+		RowDocument getDocument() throws SQLException {
+			RowDocument rowDocument = this.document;
+			if (rowDocument == null) {
+				rowDocument = toRowDocument(
+					Objects.requireNonNull(this.resultSet), Objects.requireNonNull(this.columnLayout));
+				this.document = rowDocument;
+			}
+			return rowDocument;
 		}
 	}
 
@@ -623,8 +1013,11 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		private final @Nullable RelationalPersistentEntity<?> rootEntity;
 		private final Map<String, Object> root;
 		private final @Nullable Object rootId;
+		private final @Nullable Object rowId;
 		private final @Nullable Object keyValue;
 		private final MultiValueMap<AggregatePath, ExtractedRow> relations;
+		private final boolean identified;
+		private @Nullable Map<AggregatePath, Map<Object, ExtractedRow>> relationIndexes;
 
 		/**
 		 * Instantiates a new Extracted row.
@@ -633,23 +1026,79 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		 * @param rootEntity the root entity
 		 * @param root       the root
 		 * @param rootId     the root id
+		 * @param rowId      the id value read from the row, before conversion
 		 * @param keyValue   the key value
 		 * @param relations  the relations
+		 * @param identified whether the entity is identified by its own id column
 		 */
 		ExtractedRow(
 			@Nullable Object parentId,
 			@Nullable RelationalPersistentEntity<?> rootEntity,
 			Map<String, Object> root,
 			@Nullable Object rootId,
+			@Nullable Object rowId,
 			@Nullable Object keyValue,
-			MultiValueMap<AggregatePath, ExtractedRow> relations
+			MultiValueMap<AggregatePath, ExtractedRow> relations,
+			boolean identified
 		) {
 			this.parentId = parentId;
 			this.rootEntity = rootEntity;
 			this.root = root;
 			this.rootId = rootId;
+			this.rowId = rowId;
 			this.keyValue = keyValue;
 			this.relations = relations;
+			this.identified = identified;
+		}
+
+		/**
+		 * Gets the relation row of the path already extracted with the row id.
+		 *
+		 * @param path     the relation path
+		 * @param rowId    the row id
+		 * @param keyValue the key value of an id-less map or list value, or null if identified by the row id
+		 * @return the relation row, or null if absent
+		 */
+		@Nullable
+		ExtractedRow getRelation(AggregatePath path, Object rowId, @Nullable Object keyValue) {
+			if (this.relationIndexes == null) {
+				return null;
+			}
+			Map<Object, ExtractedRow> relationIndex = this.relationIndexes.get(path);
+			return relationIndex != null ? relationIndex.get(relationKey(rowId, keyValue)) : null;
+		}
+
+		/**
+		 * Adds the relation row of the path, indexed by its row id, and the key if it is not identified.
+		 *
+		 * @param path        the relation path
+		 * @param relationRow the relation row
+		 */
+		void addRelation(AggregatePath path, ExtractedRow relationRow) {
+			this.relations.add(path, relationRow);
+			if (relationRow.getRowId() == null) {
+				return;
+			}
+
+			if (this.relationIndexes == null) {
+				this.relationIndexes = new HashMap<>();
+			}
+			Object keyValue = relationRow.isIdentified() ? null : relationRow.getKeyValue();
+			this.relationIndexes.computeIfAbsent(path, p -> new HashMap<>())
+				.putIfAbsent(relationKey(relationRow.getRowId(), keyValue), relationRow);
+		}
+
+		private static Object relationKey(Object rowId, @Nullable Object keyValue) {
+			return keyValue != null ? Arrays.asList(rowIdKey(rowId), keyValue) : rowIdKey(rowId);
+		}
+
+		/**
+		 * Is the entity identified by its own id column.
+		 *
+		 * @return the identified
+		 */
+		boolean isIdentified() {
+			return this.identified;
 		}
 
 		/**
@@ -689,6 +1138,16 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 			return this.rootId;
 		}
 
+		/**
+		 * Gets row id.
+		 *
+		 * @return the row id
+		 */
+		@Nullable
+		public Object getRowId() {
+			return this.rowId;
+		}
+
 		/**
 		 * Gets relations.
 		 *
@@ -716,30 +1175,46 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 		}
 	}
 
+	/**
+	 * Relation value, equal by the parent id, its own id and the key.
+	 * Id-less values of map and list relations are equal by the parent id and the key column,
+	 * and id-less values of set relations, or of list relations not selecting the key column,
+	 * are compared by the whole value.
+	 */
 	private static class RelationValue {
 		private final @Nullable Object parentId;
 		private final @Nullable Object valueId;
 		private final @Nullable Object keyValue;
 		private final Map<String, Object> value;
+		private final @Nullable List<@Nullable Object> identity;
 
 		/**
 		 * Instantiates a new Relation value.
 		 *
-		 * @param parentId the parent id
-		 * @param valueId  the value id
-		 * @param keyValue the key value
-		 * @param value    the value
+		 * @param parentId   the parent id
+		 * @param valueId    the value id
+		 * @param keyValue   the key value
+		 * @param value      the value
+		 * @param identified whether the value is identified by its own id
 		 */
 		public RelationValue(
 			@Nullable Object parentId,
 			@Nullable Object valueId,
 			@Nullable Object keyValue,
-			Map<String, Object> value
+			Map<String, Object> value,
+			boolean identified
 		) {
 			this.parentId = parentId;
 			this.valueId = valueId;
 			this.keyValue = keyValue;
 			this.value = value;
+			if (identified && valueId != null) {
+				this.identity = Arrays.asList(parentId, valueId, keyValue);
+			} else if (keyValue != null) {
+				this.identity = Arrays.asList(parentId, keyValue);
+			} else {
+				this.identity = null;
+			}
 		}
 
 		/**
@@ -787,6 +1262,9 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 				return false;
 			}
 			RelationValue that = (RelationValue)obj;
+			if (this.identity != null || that.identity != null) {
+				return Objects.equals(this.identity, that.identity);
+			}
 			return Objects.equals(parentId, that.parentId)
 				&& Objects.equals(valueId, that.valueId)
 				&& Objects.equals(keyValue, that.keyValue)
@@ -795,6 +1273,9 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 
 		@Override
 		public int hashCode() {
+			if (this.identity != null) {
+				return this.identity.hashCode();
+			}
 			return Objects.hash(parentId, valueId, keyValue, value);
 		}
 
@@ -803,7 +1284,8 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 				rowValue.getParentId(),
 				rowValue.getRootId(),
 				rowValue.getKeyValue(),
-				rowValue.getRoot()
+				rowValue.getRoot(),
+				rowValue.isIdentified()
 			);
 		}
 	}
@@ -836,8 +1318,9 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 			this.path = getMappingContext().getAggregatePath(this.entity);
 			this.identifier = identifier;
 			this.key = key;
-			this.propertyValueProvider = new JdbcPropertyValueProvider(path, rowDocument);
-			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(path, rowDocument);
+			this.propertyValueProvider = new JdbcPropertyValueProvider(path, rowDocument, columnAliases);
+			this.backReferencePropertyValueProvider =
+				new JdbcBackReferencePropertyValueProvider(path, rowDocument, columnAliases);
 			this.rowDocument = rowDocument;
 		}
 
@@ -856,8 +1339,9 @@ public class AggregateResultJdbcConverter extends MappingJdbcConverter {
 			this.path = path;
 			this.identifier = identifier;
 			this.key = key;
-			this.propertyValueProvider = new JdbcPropertyValueProvider(path, rowDocument);
-			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(path, rowDocument);
+			this.propertyValueProvider = new JdbcPropertyValueProvider(path, rowDocument, columnAliases);
+			this.backReferencePropertyValueProvider =
+				new JdbcBackReferencePropertyValueProvider(path, rowDocument, columnAliases);
 			this.rowDocument = rowDocument;
 		}
 
@@ -21,6 +21,7 @@ package com.navercorp.spring.data.jdbc.plus.sql.convert;
 import java.sql.ResultSet;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.jdbc.core.ResultSetExtractor;
 
@@ -34,6 +35,8 @@ import org.springframework.jdbc.core.ResultSetExtractor;
 public class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
 	private final RelationalPersistentEntity<T> entity;
 	private final AggregateResultJdbcConverter jdbcConverter;
+	private final @Nullable SplitRelationFetcher splitRelationFetcher;
+	private final @Nullable String sql;
 
 	/**
 	 * Instantiates a new Aggregate result set extractor.
@@ -46,6 +49,8 @@ public class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T
 		this.entity = (RelationalPersistentEntity<T>)jdbcConverter.getMappingContext()
 			.getRequiredPersistentEntity(type);
 		this.jdbcConverter = jdbcConverter;
+		this.splitRelationFetcher = null;
+		this.sql = null;
 	}
 
 	/**
@@ -57,13 +62,61 @@ public class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T
 	public AggregateResultSetExtractor(
 		RelationalPersistentEntity<T> entity,
 		AggregateResultJdbcConverter jdbcConverter
+	) {
+		this(entity, jdbcConverter, null);
+	}
+
+	/**
+	 * Instantiates a new Aggregate result set extractor,
+	 * which loads relations applied @SqlFetchMode(SPLIT) with the split relation fetcher.
+	 *
+	 * @param entity               the entity
+	 * @param jdbcConverter        the jdbc converter
+	 * @param splitRelationFetcher the split relation fetcher
+	 */
+	public AggregateResultSetExtractor(
+		RelationalPersistentEntity<T> entity,
+		AggregateResultJdbcConverter jdbcConverter,
+		@Nullable SplitRelationFetcher splitRelationFetcher
+	) {
+		this(entity, jdbcConverter, splitRelationFetcher, null);
+	}
+
+	private AggregateResultSetExtractor(
+		RelationalPersistentEntity<T> entity,
+		AggregateResultJdbcConverter jdbcConverter,
+		@Nullable SplitRelationFetcher splitRelationFetcher,
+		@Nullable String sql
 	) {
 		this.entity = entity;
 		this.jdbcConverter = jdbcConverter;
+		this.splitRelationFetcher = splitRelationFetcher;
+		this.sql = sql;
+	}
+
+	/**
+	 * Create the extractor of the same entity with the split relation fetcher.
+	 *
+	 * @param splitRelationFetcher the split relation fetcher
+	 * @return the aggregate result set extractor
+	 */
+	public AggregateResultSetExtractor<T> withSplitRelationFetcher(SplitRelationFetcher splitRelationFetcher) {
+		return new AggregateResultSetExtractor<>(this.entity, this.jdbcConverter, splitRelationFetcher, this.sql);
+	}
+
+	/**
+	 * Create the extractor of the same entity for the result set of the sql,
+	 * which reuses the column labels resolved by the previous executions of the sql.
+	 *
+	 * @param sql the sql
+	 * @return the aggregate result set extractor
+	 */
+	public AggregateResultSetExtractor<T> forSql(String sql) {
+		return new AggregateResultSetExtractor<>(this.entity, this.jdbcConverter, this.splitRelationFetcher, sql);
 	}
 
 	@Override
 	public List<T> extractData(ResultSet resultSet) {
-		return this.jdbcConverter.mapAggregate(entity, resultSet);
+		return this.jdbcConverter.mapAggregate(this.entity, resultSet, this.splitRelationFetcher, this.sql);
 	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reads a column value of the current row of a {@link ResultSet}.
+ * Typed readers are chosen per property type by {@link #of(Class, CustomConversions)},
+ * so that common primitive and java.time values are read by the typed getter of the driver,
+ * instead of {@link ResultSet#getObject(int)} followed by a generic conversion.
+ *
+ * @author Myeonghyeon Lee
+ */
+@FunctionalInterface
+interface ColumnReader {
+	/**
+	 * Reads the value by {@link JdbcUtils#getResultSetValue(ResultSet, int)}, unwrapping {@link Array}.
+	 */
+	ColumnReader OBJECT = (resultSet, index) -> {
+		Object value = JdbcUtils.getResultSetValue(resultSet, index);
+		return value instanceof Array array ? array.getArray() : value;
+	};
+
+	/**
+	 * Read column value.
+	 *
+	 * @param resultSet the result set positioned at a row
+	 * @param index     the 1-based column index
+	 * @return the value
+	 * @throws SQLException the sql exception
+	 */
+	@Nullable
+	Object read(ResultSet resultSet, int index) throws SQLException;
+
+	/**
+	 * Choose the column reader of the property type.
+	 * Falls back to {@link #OBJECT} if the type is not supported,
+	 * a custom reading conversion to the type is registered from the column value types the reader replaces,
+	 * or a user reading conversion to the type is registered from any source type.
+	 * java.time values are read as the default timestamp based conversions read them,
+	 * since those are registered as store conversions of every {@link CustomConversions}.
+	 *
+	 * @param type        the property type
+	 * @param conversions the custom conversions
+	 * @return the column reader
+	 */
+	static ColumnReader of(Class<?> type, CustomConversions conversions) {
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		TypedColumnReader typedReader = TypedColumnReader.READERS.get(targetType);
+		if (typedReader == null) {
+			return OBJECT;
+		}
+
+		for (Class<?> sourceType : typedReader.sourceTypes()) {
+			if (conversions.hasCustomReadTarget(sourceType, targetType)) {
+				return OBJECT;
+			}
+		}
+
+		if (UserReadingConversions.of(conversions).hasReadTarget(targetType)) {
+			return OBJECT;
+		}
+		return typedReader.reader();
+	}
+
+	/**
+	 * Typed column reader, and the column value types which it replaces the conversion from.
+	 *
+	 * @param reader      the reader
+	 * @param sourceTypes the source types
+	 */
+	record TypedColumnReader(ColumnReader reader, List<Class<?>> sourceTypes) {
+		static final Map<Class<?>, TypedColumnReader> READERS = Map.of(
+			Long.class, new TypedColumnReader(
+				(rs, index) -> {
+					long value = rs.getLong(index);
+					return value == 0 && rs.wasNull() ? null : value;
+				},
+				List.of(Long.class, Integer.class, Short.class, BigDecimal.class, BigInteger.class)),
+			Integer.class, new TypedColumnReader(
+				(rs, index) -> {
+					int value = rs.getInt(index);
+					return value == 0 && rs.wasNull() ? null : value;
+				},
+				List.of(Integer.class, Long.class, Short.class, BigDecimal.class)),
+			Double.class, new TypedColumnReader(
+				(rs, index) -> {
+					double value = rs.getDouble(index);
+					return value == 0 && rs.wasNull() ? null : value;
+				},
+				List.of(Double.class, Float.class, BigDecimal.class)),
+			Boolean.class, new TypedColumnReader(
+				(rs, index) -> {
+					boolean value = rs.getBoolean(index);
+					return !value && rs.wasNull() ? null : value;
+				},
+				List.of(Boolean.class, Integer.class, Long.class, String.class)),
+			BigDecimal.class, new TypedColumnReader(
+				ResultSet::getBigDecimal,
+				List.of(BigDecimal.class, Long.class, Double.class)),
+			String.class, new TypedColumnReader(
+				ResultSet::getString,
+				List.of(String.class)),
+			LocalDateTime.class, new TypedColumnReader(
+				(rs, index) -> {
+					Timestamp value = rs.getTimestamp(index);
+					return value != null ? value.toLocalDateTime() : null;
+				},
+				List.of(LocalDateTime.class)),
+			LocalDate.class, new TypedColumnReader(
+				(rs, index) -> {
+					Date value = rs.getDate(index);
+					return value != null ? value.toLocalDate() : null;
+				},
+				List.of(LocalDate.class)),
+			Instant.class, new TypedColumnReader(
+				(rs, index) -> {
+					Timestamp value = rs.getTimestamp(index);
+					return value != null ? value.toInstant() : null;
+				},
+				List.of(Instant.class))
+		);
+	}
+}
@@ -0,0 +1,482 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.ValueExpressionEvaluator;
+import org.springframework.data.mapping.model.ValueExpressionParameterValueProvider;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The type Direct aggregate result jdbc converter.
+ * Instantiates aggregate entities directly from the {@link RowDocument} of the first row of each entity,
+ * without materializing intermediate {@code Map<String, Object>} trees.
+ * Aggregates which have a relation entity without a single column id are read by {@link AggregateResultJdbcConverter}.
+ *
+ * @author Myeonghyeon Lee
+ */
+public class DirectAggregateResultJdbcConverter extends AggregateResultJdbcConverter {
+
+	/**
+	 * Instantiates a new Direct aggregate result jdbc converter.
+	 *
+	 * @param context          the context
+	 * @param relationResolver the relation resolver
+	 */
+	public DirectAggregateResultJdbcConverter(
+		RelationalMappingContext context,
+		RelationResolver relationResolver
+	) {
+		super(context, relationResolver);
+	}
+
+	/**
+	 * Instantiates a new Direct aggregate result jdbc converter.
+	 *
+	 * @param context              the context
+	 * @param relationResolver     the relation resolver
+	 * @param conversions          the conversions
+	 * @param typeFactory          the type factory
+	 */
+	public DirectAggregateResultJdbcConverter(
+		RelationalMappingContext context,
+		RelationResolver relationResolver,
+		CustomConversions conversions,
+		JdbcTypeFactory typeFactory
+	) {
+		super(context, relationResolver, conversions, typeFactory);
+	}
+
+	@Override
+	<T> List<T> readAggregates(
+		RelationalPersistentEntity<T> entity,
+		AggregateMappingPlan mappingPlan,
+		AggregateMappingPlan.ColumnLayout columnLayout,
+		ResultSet resultSet,
+		@Nullable SplitRelationFetcher splitRelationFetcher
+	) throws SQLException {
+
+		if (!this.isDirectReadable(mappingPlan.getRelations())
+			|| !mappingPlan.getJsonRelations().isEmpty()
+			|| (splitRelationFetcher != null && !mappingPlan.getSplitRelations().isEmpty())) {
+			return super.readAggregates(entity, mappingPlan, columnLayout, resultSet, splitRelationFetcher);
+		}
+
+		AggregatePath rootPath = mappingPlan.getRootPath();
+
+		Map<Object, EntityNode> rootNodes = new LinkedHashMap<>();
+
+		while (resultSet.next()) {
+			RowReader rowReader = new RowReader(resultSet, columnLayout);
+
+			Object rootId = this.getRootId(rowReader, rootPath);
+			EntityNode rootNode = rootNodes.get(rootId);
+			if (rootNode == null) {
+				rootNode = new EntityNode(mappingPlan.getRelations(), rowReader.getDocument(), rootId, null);
+				rootNodes.put(rootId, rootNode);
+			} else {
+				this.incrementFanOutSkipCount();
+			}
+			this.appendRelationNodes(rowReader, rootNode);
+		}
+
+		List<T> result = new ArrayList<>(rootNodes.size());
+		for (EntityNode rootNode : rootNodes.values()) {
+			result.add(new EntityNodeReadingContext<>(entity, rootPath, rootNode).createInstance());
+		}
+		return result;
+	}
+
+	private boolean isDirectReadable(List<AggregateMappingPlan.RelationPlan> relationPlans) {
+		for (AggregateMappingPlan.RelationPlan relationPlan : relationPlans) {
+			if (relationPlan.getIdColumnAlias() == null || !this.isDirectReadable(relationPlan.getRelations())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void appendRelationNodes(RowReader rowReader, EntityNode node) throws SQLException {
+		if (node.getRowId() == null) {
+			return;
+		}
+
+		List<AggregateMappingPlan.RelationPlan> relationPlans = node.getRelationPlans();
+		for (int i = 0; i < relationPlans.size(); i++) {
+			AggregateMappingPlan.RelationPlan relationPlan = relationPlans.get(i);
+
+			Object rowId = rowReader.getValue(Objects.requireNonNull(relationPlan.getIdColumnAlias()));
+			if (ObjectUtils.isEmpty(rowId)) {
+				continue;
+			}
+
+			EntityNode childNode = node.getChild(i, rowId);
+			if (childNode == null) {
+				Object key = relationPlan.isMap()
+					? rowReader.getValue(Objects.requireNonNull(relationPlan.getQualifierColumnAlias()))
+					: null;
+				childNode = new EntityNode(relationPlan.getRelations(), rowReader.getDocument(), rowId, key);
+				node.addChild(i, childNode);
+			} else {
+				this.incrementFanOutSkipCount();
+			}
+
+			this.appendRelationNodes(rowReader, childNode);
+		}
+	}
+
+	/**
+	 * Row of an entity in the aggregate, and its relation rows grouped by {@link AggregateMappingPlan.RelationPlan}.
+	 */
+	private static final class EntityNode {
+		private final List<AggregateMappingPlan.RelationPlan> relationPlans;
+		private final RowDocument document;
+		private final @Nullable Object rowId;
+		private final @Nullable Object keyValue;
+		private final List<List<EntityNode>> children;
+		private final List<Map<Object, EntityNode>> childIndexes;
+
+		/**
+		 * Instantiates a new Entity node.
+		 *
+		 * @param relationPlans the relation plans of the entity
+		 * @param document      the row document
+		 * @param rowId         the id value read from the row
+		 * @param keyValue      the key value of map relation
+		 */
+		EntityNode(
+			List<AggregateMappingPlan.RelationPlan> relationPlans,
+			RowDocument document,
+			@Nullable Object rowId,
+			@Nullable Object keyValue
+		) {
+			this.relationPlans = relationPlans;
+			this.document = document;
+			this.rowId = rowId;
+			this.keyValue = keyValue;
+			this.children = new ArrayList<>(relationPlans.size());
+			this.childIndexes = new ArrayList<>(relationPlans.size());
+			for (int i = 0; i < relationPlans.size(); i++) {
+				this.children.add(Collections.emptyList());
+				this.childIndexes.add(Collections.emptyMap());
+			}
+		}
+
+		List<AggregateMappingPlan.RelationPlan> getRelationPlans() {
+			return this.relationPlans;
+		}
+
+		RowDocument getDocument() {
+			return this.document;
+		}
+
+		@Nullable
+		Object getRowId() {
+			return this.rowId;
+		}
+
+		@Nullable
+		Object getKeyValue() {
+			return this.keyValue;
+		}
+
+		List<EntityNode> getChildren(int index) {
+			return this.children.get(index);
+		}
+
+		@Nullable
+		EntityNode getChild(int index, Object rowId) {
+			return this.childIndexes.get(index).get(rowIdKey(rowId));
+		}
+
+		void addChild(int index, EntityNode child) {
+			List<EntityNode> nodes = this.children.get(index);
+			Map<Object, EntityNode> childIndex = this.childIndexes.get(index);
+			if (nodes.isEmpty()) {
+				nodes = new ArrayList<>();
+				childIndex = new HashMap<>();
+				this.children.set(index, nodes);
+				this.childIndexes.set(index, childIndex);
+			}
+			nodes.add(child);
+			childIndex.putIfAbsent(rowIdKey(Objects.requireNonNull(child.getRowId())), child);
+		}
+
+		int indexOf(RelationalPersistentProperty property) {
+			for (int i = 0; i < this.relationPlans.size(); i++) {
+				if (this.relationPlans.get(i).getProperty().equals(property)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+
+	private class EntityNodeReadingContext<T> {
+
+		private final RelationalPersistentEntity<T> entity;
+		private final AggregatePath path;
+		private final EntityNode node;
+		private final JdbcPropertyValueProvider propertyValueProvider;
+
+		private EntityNodeReadingContext(RelationalPersistentEntity<T> entity, AggregatePath path, EntityNode node) {
+			this(entity, path, node, new JdbcPropertyValueProvider(path, node.getDocument(), getColumnAliases()));
+		}
+
+		private EntityNodeReadingContext(
+			RelationalPersistentEntity<T> entity,
+			AggregatePath path,
+			EntityNode node,
+			JdbcPropertyValueProvider propertyValueProvider
+		) {
+			this.entity = entity;
+			this.path = path;
+			this.node = node;
+			this.propertyValueProvider = propertyValueProvider;
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private EntityNodeReadingContext<?> extendBy(RelationalPersistentProperty property) {
+			return new EntityNodeReadingContext(
+				getMappingContext().getRequiredPersistentEntity(property.getActualType()),
+				this.path.append(property),
+				this.node,
+				this.propertyValueProvider.extendBy(property)
+			);
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private EntityNodeReadingContext<?> relationOf(int index, EntityNode childNode) {
+			AggregateMappingPlan.RelationPlan relationPlan = this.node.getRelationPlans().get(index);
+			AggregatePath relationPath = relationPlan.getPath();
+			RelationalPersistentEntity<?> relationEntity = relationPath.getLeafEntity();
+
+			Assert.state(relationEntity != null, "relationEntity must not be null");
+
+			return new EntityNodeReadingContext(relationEntity, relationPath, childNode);
+		}
+
+		private T createInstance() {
+
+			InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata =
+				this.entity.getInstanceCreatorMetadata();
+			ParameterValueProvider<RelationalPersistentProperty> provider;
+
+			if (creatorMetadata != null && creatorMetadata.hasParameters()) {
+				ValueExpressionEvaluator expressionEvaluator =
+					getValueExpressionEvaluatorFactory().create(this.node.getDocument());
+				provider = new ValueExpressionParameterValueProvider<>(expressionEvaluator, getConversionService(),
+					new NodeParameterValueProvider());
+			} else {
+				provider = NoOpParameterValueProvider.INSTANCE;
+			}
+
+			//noinspection DataFlowIssue
+			T instance = getEntityInstantiators().getInstantiatorFor(this.entity)
+				.createInstance(this.entity, new ConvertingParameterValueProvider<>(provider::getParameterValue));
+
+			return this.entity.requiresPropertyPopulation() ? this.populateProperties(instance) : instance;
+		}
+
+		private T populateProperties(T instance) {
+
+			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(this.entity, instance);
+
+			InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata =
+				this.entity.getInstanceCreatorMetadata();
+
+			this.entity.doWithAll(property -> {
+
+				if (creatorMetadata != null
+					&& creatorMetadata.isCreatorParameter(property)) {
+					return;
+				}
+
+				Object value = this.readOrLoadProperty(property);
+
+				// skip absent simple properties
+				if (value == null && isSimpleProperty(property)) {
+					return;
+				}
+
+				propertyAccessor.setProperty(property, value);
+			});
+
+			return propertyAccessor.getBean();
+		}
+
+		@Nullable
+		private Object readOrLoadProperty(RelationalPersistentProperty property) {
+			if (property.isMap()) {
+				return this.readMapFrom(property);
+			} else if (property.isCollectionLike() && property.isEntity()) {
+				return this.readCollectionFrom(property);
+			} else if (property.isEmbedded()) {
+				return this.readEmbeddedEntityFrom(property);
+			} else if (property.isEntity()) {
+				return this.readEntityFrom(property);
+			}
+
+			Object value = this.propertyValueProvider.getPropertyValue(property);
+			return value != null ? readValue(value, property.getTypeInformation()) : null;
+		}
+
+		@Nullable
+		private Object readEmbeddedEntityFrom(RelationalPersistentProperty property) {
+			EntityNodeReadingContext<?> newContext = this.extendBy(property);
+
+			if (property.shouldCreateEmptyEmbedded() || newContext.hasInstanceValues()) {
+				return newContext.createInstance();
+			}
+
+			return null;
+		}
+
+		private boolean hasInstanceValues() {
+			for (RelationalPersistentProperty embeddedProperty : this.entity) {
+
+				// if the embedded contains Lists, Sets or Maps we consider it non-empty
+				if (embeddedProperty.isQualified() || embeddedProperty.isAssociation()) {
+					return true;
+				}
+
+				Object value = this.readOrLoadProperty(embeddedProperty);
+				if (value != null) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		@Nullable
+		private Object readEntityFrom(RelationalPersistentProperty property) {
+			if (property.isIdProperty()) {
+				return this.readEmbeddedEntityFrom(property);
+			}
+
+			int index = this.node.indexOf(property);
+			if (index < 0) {
+				return this.readColumnEntityFrom(property);
+			}
+
+			List<EntityNode> childNodes = this.node.getChildren(index);
+			if (childNodes.size() > 1) {
+				throw new MappingException(String.format(
+					"Could not mapping path %s. property is entity but multiple value.",
+					property.getOwner().getType() + "#" + property.getName()));
+			}
+
+			return childNodes.isEmpty() ? null : this.relationOf(index, childNodes.get(0)).createInstance();
+		}
+
+		@Nullable
+		private Object readColumnEntityFrom(RelationalPersistentProperty property) {
+			EntityNodeReadingContext<?> newContext = this.extendBy(property);
+			RelationalPersistentProperty idProperty = newContext.entity.getIdProperty();
+
+			Object idValue;
+			if (idProperty != null) {
+				idValue = newContext.readOrLoadProperty(idProperty);
+			} else {
+				idValue = new JdbcBackReferencePropertyValueProvider(
+					this.path, this.node.getDocument(), getColumnAliases()).getPropertyValue(property);
+			}
+
+			return idValue != null ? newContext.createInstance() : null;
+		}
+
+		private List<Object> readCollectionFrom(RelationalPersistentProperty property) {
+			int index = this.node.indexOf(property);
+			if (index < 0) {
+				return new ArrayList<>();
+			}
+
+			List<EntityNode> childNodes = this.node.getChildren(index);
+			List<Object> values = new ArrayList<>(childNodes.size());
+			for (EntityNode childNode : childNodes) {
+				values.add(this.relationOf(index, childNode).createInstance());
+			}
+			return values;
+		}
+
+		private Map<Object, Object> readMapFrom(RelationalPersistentProperty property) {
+			int index = this.node.indexOf(property);
+			if (index < 0) {
+				return new HashMap<>();
+			}
+
+			TypeInformation<?> keyType = property.getTypeInformation().getRequiredComponentType();
+			List<EntityNode> childNodes = this.node.getChildren(index);
+			Map<Object, Object> values = new HashMap<>();
+			for (EntityNode childNode : childNodes) {
+				Object key = readValue(Objects.requireNonNull(childNode.getKeyValue()), keyType);
+				values.put(
+					Objects.requireNonNull(key),
+					this.relationOf(index, childNode).createInstance());
+			}
+			return values;
+		}
+
+		/**
+		 * {@link ParameterValueProvider} that reads a simple property or materializes an object for a
+		 * {@link RelationalPersistentProperty} from the entity node.
+		 */
+		private class NodeParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <P> @Nullable P getParameterValue(Parameter<P, RelationalPersistentProperty> parameter) {
+
+				String parameterName = parameter.getName();
+
+				Assert.notNull(parameterName,
+					"A constructor parameter name must not be null to be used with Spring Data JDBC");
+
+				RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameterName);
+				return (P)readOrLoadProperty(property);
+			}
+		}
+	}
+}
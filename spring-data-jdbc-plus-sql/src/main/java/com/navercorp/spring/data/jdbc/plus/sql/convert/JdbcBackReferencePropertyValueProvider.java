@@ -21,8 +21,6 @@ import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.RowDocument;
 
-import com.navercorp.spring.data.jdbc.plus.support.convert.PropertyPathUtils;
-
 /**
  * {@link PropertyValueProvider} obtaining values from a RowDocument. For a given id property it provides
  * the value in the rowdocument under which other entities refer back to it.
@@ -37,25 +35,31 @@ import com.navercorp.spring.data.jdbc.plus.support.convert.PropertyPathUtils;
 class JdbcBackReferencePropertyValueProvider implements PropertyValueProvider<RelationalPersistentProperty> {
 	private final AggregatePath basePath;
 	private final RowDocument rowDocument;
+	private final AggregateMappingPlan.ColumnAliases columnAliases;
 
 	/**
 	 * @param basePath path from the aggregate root relative to which all properties get resolved.
 	 * @param rowDocument the rowDocument from which to obtain the actual values.
+	 * @param columnAliases the cache of column aliases
 	 */
-	JdbcBackReferencePropertyValueProvider(AggregatePath basePath, RowDocument rowDocument) {
+	JdbcBackReferencePropertyValueProvider(
+		AggregatePath basePath,
+		RowDocument rowDocument,
+		AggregateMappingPlan.ColumnAliases columnAliases
+	) {
 
 		this.rowDocument = rowDocument;
 		this.basePath = basePath;
+		this.columnAliases = columnAliases;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T getPropertyValue(RelationalPersistentProperty property) {
-		return (T)rowDocument.get(PropertyPathUtils.getReverseColumnAlias(basePath.append(property))
-			.getReference());
+		return (T)rowDocument.get(columnAliases.getReverseColumnAlias(basePath.append(property)));
 	}
 
 	public JdbcBackReferencePropertyValueProvider extendBy(RelationalPersistentProperty property) {
-		return new JdbcBackReferencePropertyValueProvider(basePath.append(property), rowDocument);
+		return new JdbcBackReferencePropertyValueProvider(basePath.append(property), rowDocument, columnAliases);
 	}
 }
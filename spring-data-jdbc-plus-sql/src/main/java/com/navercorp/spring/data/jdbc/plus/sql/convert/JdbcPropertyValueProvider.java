@@ -22,8 +22,6 @@ import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.RowDocument;
 
-import com.navercorp.spring.data.jdbc.plus.support.convert.PropertyPathUtils;
-
 /**
  * {@link PropertyValueProvider} obtaining values from a RowDocument.
  *
@@ -37,15 +35,22 @@ import com.navercorp.spring.data.jdbc.plus.support.convert.PropertyPathUtils;
 class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersistentProperty> {
 	private final AggregatePath basePath;
 	private final RowDocument rowDocument;
+	private final AggregateMappingPlan.ColumnAliases columnAliases;
 
 	/**
 	 * @param basePath path from the aggregate root relative to which all properties get resolved.
 	 * @param rowDocument the RowDocument from which to obtain the actual values.
+	 * @param columnAliases the cache of column aliases
 	 */
-	JdbcPropertyValueProvider(AggregatePath basePath, RowDocument rowDocument) {
+	JdbcPropertyValueProvider(
+		AggregatePath basePath,
+		RowDocument rowDocument,
+		AggregateMappingPlan.ColumnAliases columnAliases
+	) {
 
 		this.rowDocument = rowDocument;
 		this.basePath = basePath;
+		this.columnAliases = columnAliases;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -66,11 +71,10 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 	}
 
 	private String getColumnName(RelationalPersistentProperty property) {
-		AggregatePath path = basePath.append(property);
-		return PropertyPathUtils.getColumnAlias(path).getReference();
+		return columnAliases.getColumnAlias(basePath.append(property));
 	}
 
 	public JdbcPropertyValueProvider extendBy(RelationalPersistentProperty property) {
-		return new JdbcPropertyValueProvider(basePath.append(property), rowDocument);
+		return new JdbcPropertyValueProvider(basePath.append(property), rowDocument, columnAliases);
 	}
 }
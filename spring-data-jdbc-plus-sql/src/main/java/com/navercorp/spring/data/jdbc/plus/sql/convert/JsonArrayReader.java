@@ -0,0 +1,235 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mapping.MappingException;
+
+/**
+ * Reads JSON array of objects, selected by a relation applied @SqlFetchMode(JSON).
+ * Objects are read to {@link LinkedHashMap}, arrays to {@link ArrayList},
+ * and numbers to {@link Long} or {@link BigDecimal}.
+ *
+ * @author Myeonghyeon Lee
+ */
+final class JsonArrayReader {
+	private final String json;
+	private int position;
+
+	private JsonArrayReader(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * Read JSON array column value to objects.
+	 *
+	 * @param value the column value of JSON text
+	 * @return the objects, empty if the value is null
+	 */
+	@SuppressWarnings("unchecked")
+	static List<Map<String, Object>> read(@Nullable Object value) {
+		if (value == null) {
+			return Collections.emptyList();
+		}
+
+		String json = value instanceof byte[] bytes
+			? new String(bytes, StandardCharsets.UTF_8)
+			: value.toString();
+		JsonArrayReader reader = new JsonArrayReader(json);
+		Object array = reader.readValue();
+		reader.skipWhitespace();
+		if (!(array instanceof List) || reader.position != json.length()) {
+			throw new MappingException("JSON array of objects is expected. json: " + json);
+		}
+
+		for (Object element : (List<Object>)array) {
+			if (!(element instanceof Map)) {
+				throw new MappingException("JSON array of objects is expected. json: " + json);
+			}
+		}
+		return (List<Map<String, Object>>)array;
+	}
+
+	private @Nullable Object readValue() {
+		this.skipWhitespace();
+		char c = this.peek();
+		return switch (c) {
+			case '{' -> this.readObject();
+			case '[' -> this.readArray();
+			case '"' -> this.readString();
+			case 't' -> this.readLiteral("true", Boolean.TRUE);
+			case 'f' -> this.readLiteral("false", Boolean.FALSE);
+			case 'n' -> this.readLiteral("null", null);
+			default -> this.readNumber();
+		};
+	}
+
+	private Map<String, Object> readObject() {
+		Map<String, Object> object = new LinkedHashMap<>();
+		this.position++;
+		this.skipWhitespace();
+		if (this.peek() == '}') {
+			this.position++;
+			return object;
+		}
+
+		while (true) {
+			this.skipWhitespace();
+			String key = this.readString();
+			this.skipWhitespace();
+			this.expect(":");
+			object.put(key, this.readValue());
+			this.skipWhitespace();
+			char c = this.next();
+			if (c == '}') {
+				return object;
+			} else if (c != ',') {
+				throw this.unexpected(c);
+			}
+		}
+	}
+
+	private List<Object> readArray() {
+		List<Object> array = new ArrayList<>();
+		this.position++;
+		this.skipWhitespace();
+		if (this.peek() == ']') {
+			this.position++;
+			return array;
+		}
+
+		while (true) {
+			array.add(this.readValue());
+			this.skipWhitespace();
+			char c = this.next();
+			if (c == ']') {
+				return array;
+			} else if (c != ',') {
+				throw this.unexpected(c);
+			}
+		}
+	}
+
+	private String readString() {
+		char quote = this.next();
+		if (quote != '"') {
+			throw this.unexpected(quote);
+		}
+
+		StringBuilder builder = new StringBuilder();
+		while (true) {
+			char c = this.next();
+			if (c == '"') {
+				return builder.toString();
+			} else if (c != '\\') {
+				builder.append(c);
+				continue;
+			}
+
+			char escaped = this.next();
+			switch (escaped) {
+				case 'b' -> builder.append('\b');
+				case 'f' -> builder.append('\f');
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				case 't' -> builder.append('\t');
+				case 'u' -> {
+					if (this.position + 4 > this.json.length()) {
+						throw this.unexpected(escaped);
+					}
+					builder.append((char)Integer.parseInt(this.json.substring(this.position, this.position + 4), 16));
+					this.position += 4;
+				}
+				default -> builder.append(escaped);
+			}
+		}
+	}
+
+	private Object readNumber() {
+		int start = this.position;
+		boolean decimal = false;
+		while (this.position < this.json.length()) {
+			char c = this.json.charAt(this.position);
+			if (c == '.' || c == 'e' || c == 'E') {
+				decimal = true;
+			} else if (!(c == '-' || c == '+' || Character.isDigit(c))) {
+				break;
+			}
+			this.position++;
+		}
+
+		String number = this.json.substring(start, this.position);
+		if (number.isEmpty()) {
+			throw this.unexpected(this.peek());
+		}
+
+		BigDecimal value = new BigDecimal(number);
+		if (!decimal) {
+			try {
+				return value.longValueExact();
+			} catch (ArithmeticException e) {
+				return value;
+			}
+		}
+		return value;
+	}
+
+	private @Nullable Object readLiteral(String token, @Nullable Object value) {
+		this.expect(token);
+		return value;
+	}
+
+	private void expect(String token) {
+		if (!this.json.startsWith(token, this.position)) {
+			throw this.unexpected(this.peek());
+		}
+		this.position += token.length();
+	}
+
+	private void skipWhitespace() {
+		while (this.position < this.json.length() && Character.isWhitespace(this.json.charAt(this.position))) {
+			this.position++;
+		}
+	}
+
+	private char peek() {
+		if (this.position >= this.json.length()) {
+			throw new MappingException("Unexpected end of JSON. json: " + this.json);
+		}
+		return this.json.charAt(this.position);
+	}
+
+	private char next() {
+		char c = this.peek();
+		this.position++;
+		return c;
+	}
+
+	private MappingException unexpected(char c) {
+		return new MappingException(
+			"Unexpected character '" + c + "' at " + this.position + " of JSON. json: " + this.json);
+	}
+}
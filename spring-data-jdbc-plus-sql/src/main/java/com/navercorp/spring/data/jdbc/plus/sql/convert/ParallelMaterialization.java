@@ -0,0 +1,143 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Maps large lists in parallel chunks, preserving the order of the list.
+ * Used to materialize entities from extracted aggregate maps.
+ * Lists smaller than the threshold are mapped sequentially on the calling thread.
+ * Mappers run on the executor threads and must not depend on thread bound state (e.g. transaction synchronization),
+ * so after convert events and callbacks are not triggered by the mapper.
+ *
+ * @author Myeonghyeon Lee
+ */
+public class ParallelMaterialization {
+	/**
+	 * Default list size threshold to map in parallel.
+	 */
+	public static final int DEFAULT_THRESHOLD = 10_000;
+
+	private final Executor executor;
+	private final int threshold;
+	private final int parallelism;
+
+	/**
+	 * Instantiates a new Parallel materialization on the common fork join pool.
+	 *
+	 * @param threshold the list size threshold to map in parallel
+	 */
+	public ParallelMaterialization(int threshold) {
+		this(ForkJoinPool.commonPool(), threshold, ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	/**
+	 * Instantiates a new Parallel materialization.
+	 *
+	 * @param executor    the executor which runs chunks
+	 * @param threshold   the list size threshold to map in parallel
+	 * @param parallelism the number of chunks, including the chunk mapped on the calling thread
+	 */
+	public ParallelMaterialization(Executor executor, int threshold, int parallelism) {
+		Assert.notNull(executor, "Executor must not be null.");
+		Assert.isTrue(threshold > 0, "Threshold must be greater than 0.");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0.");
+		this.executor = executor;
+		this.threshold = threshold;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Map the list in the order of the list.
+	 *
+	 * @param <S>     the source type parameter
+	 * @param <R>     the result type parameter
+	 * @param sources the sources
+	 * @param mapper  the mapper
+	 * @return the mutable list of mapped values
+	 */
+	public <S, R> List<R> map(List<S> sources, Function<? super S, ? extends R> mapper) {
+		int size = sources.size();
+		if (size < this.threshold || this.parallelism < 2) {
+			return mapSequential(sources, mapper);
+		}
+
+		int chunkSize = (size + this.parallelism - 1) / this.parallelism;
+		List<CompletableFuture<List<R>>> chunks = new ArrayList<>(this.parallelism);
+		for (int from = chunkSize; from < size; from += chunkSize) {
+			List<S> chunk = sources.subList(from, Math.min(from + chunkSize, size));
+			chunks.add(CompletableFuture.supplyAsync(() -> mapSequential(chunk, mapper), this.executor));
+		}
+
+		List<R> result = new ArrayList<>(size);
+		result.addAll(mapSequential(sources.subList(0, chunkSize), mapper));
+		for (CompletableFuture<List<R>> chunk : chunks) {
+			result.addAll(join(chunk));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets threshold.
+	 *
+	 * @return the threshold
+	 */
+	public int getThreshold() {
+		return this.threshold;
+	}
+
+	/**
+	 * Gets parallelism.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	private static <S, R> List<R> mapSequential(List<S> sources, Function<? super S, ? extends R> mapper) {
+		List<R> result = new ArrayList<>(sources.size());
+		for (S source : sources) {
+			result.add(mapper.apply(source));
+		}
+		return result;
+	}
+
+	private static <R> List<R> join(CompletableFuture<List<R>> chunk) {
+		try {
+			return chunk.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -50,10 +50,23 @@ class ResultSetAccessor {
 
 	private final Map<String, Integer> indexLookUp;
 
+	private final AggregateMappingPlan.@Nullable ColumnLayout columnLayout;
+
 	ResultSetAccessor(ResultSet resultSet) {
 
 		this.resultSet = resultSet;
 		this.indexLookUp = indexColumns(resultSet);
+		this.columnLayout = null;
+	}
+
+	/**
+	 * DIFF: reuse column indexes and typed column readers resolved by {@link AggregateMappingPlan.ColumnLayout}
+	 */
+	ResultSetAccessor(ResultSet resultSet, AggregateMappingPlan.ColumnLayout columnLayout) {
+
+		this.resultSet = resultSet;
+		this.indexLookUp = columnLayout.getIndexes();
+		this.columnLayout = columnLayout;
 	}
 
 	private static Map<String, Integer> indexColumns(ResultSet resultSet) {
@@ -96,7 +109,14 @@ class ResultSetAccessor {
 		try {
 
 			int index = findColumnIndex(columnName);
-			return index > 0 ? JdbcUtils.getResultSetValue(resultSet, index) : null;
+			if (index <= 0) {
+				return null;
+			}
+
+			ColumnReader reader = columnLayout != null ? columnLayout.getReader(index - 1) : ColumnReader.OBJECT;
+			return reader != ColumnReader.OBJECT
+				? reader.read(resultSet, index)
+				: JdbcUtils.getResultSetValue(resultSet, index);
 		} catch (SQLException o_O) {
 			throw new MappingException(String.format(
 				"Could not read value %s from result set!", columnName), o_O);
@@ -0,0 +1,41 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.util.Collection;
+
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * Fetches rows of a relation applied @SqlFetchMode(SPLIT) for the extracted aggregate roots.
+ *
+ * @author Myeonghyeon Lee
+ */
+@FunctionalInterface
+public interface SplitRelationFetcher {
+	/**
+	 * Fetch relation rows of the parent ids.
+	 * Rows must contain the back reference column, aliased as the aggregate query.
+	 *
+	 * @param relationPath       the relation path of the aggregate root
+	 * @param parentIds          the id values of the aggregate roots
+	 * @param rowCallbackHandler the row callback handler which extracts each relation row
+	 */
+	void fetch(AggregatePath relationPath, Collection<?> parentIds, RowCallbackHandler rowCallbackHandler);
+}
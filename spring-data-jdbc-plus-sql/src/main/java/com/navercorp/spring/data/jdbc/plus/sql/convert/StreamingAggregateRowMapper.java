@@ -0,0 +1,80 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * The type Streaming aggregate row mapper.
+ * Maps a result set ordered by root id, and returns each aggregate as soon as the root id changes.
+ * It returns null for rows which do not complete an aggregate, and the last aggregate is returned by {@link #finish()}.
+ * Instances are stateful, so a new instance must be used for each query.
+ *
+ * @author Myeonghyeon Lee
+ *
+ * @param <T> the type parameter
+ */
+public class StreamingAggregateRowMapper<T> implements RowMapper<@Nullable T> {
+	private final RelationalPersistentEntity<T> entity;
+	private final AggregateResultJdbcConverter.AggregateRowAccumulator<T> accumulator;
+
+	/**
+	 * Instantiates a new Streaming aggregate row mapper.
+	 *
+	 * @param entity        the entity
+	 * @param jdbcConverter the jdbc converter
+	 */
+	public StreamingAggregateRowMapper(
+		RelationalPersistentEntity<T> entity,
+		AggregateResultJdbcConverter jdbcConverter
+	) {
+		this.entity = entity;
+		this.accumulator = jdbcConverter.createAggregateRowAccumulator(entity);
+	}
+
+	@Override
+	public @Nullable T mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+		try {
+			return this.accumulator.accumulate(resultSet);
+		} catch (SQLException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new MappingException("Result aggregate failure. entity: " + this.entity.getType(), e);
+		}
+	}
+
+	/**
+	 * Complete the last aggregate after all rows are mapped.
+	 *
+	 * @return the last aggregate, or null if the result set is empty
+	 */
+	public @Nullable T finish() {
+		try {
+			return this.accumulator.finish();
+		} catch (Exception e) {
+			throw new MappingException("Result aggregate failure. entity: " + this.entity.getType(), e);
+		}
+	}
+}
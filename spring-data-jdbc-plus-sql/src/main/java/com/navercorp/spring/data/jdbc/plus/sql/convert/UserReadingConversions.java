@@ -0,0 +1,150 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Reading conversions of a {@link CustomConversions} registered by users,
+ * distinguished from the store conversions registered by default {@link JdbcCustomConversions}.
+ * Store conversions of a dialect are not known here, so they are regarded as user conversions.
+ *
+ * @author Myeonghyeon Lee
+ */
+final class UserReadingConversions {
+	private static final Set<Object> STORE_CONVERTERS = Collections.newSetFromMap(new IdentityHashMap<>());
+	private static final Map<CustomConversions, UserReadingConversions> CACHE = new ConcurrentReferenceHashMap<>();
+
+	static {
+		STORE_CONVERTERS.addAll(collectConverters(new JdbcCustomConversions()));
+	}
+
+	private final CustomConversions conversions;
+	private final List<Object> converters = new ArrayList<>();
+
+	private UserReadingConversions(CustomConversions conversions) {
+		this.conversions = conversions;
+		for (Object converter : collectConverters(conversions)) {
+			if (!STORE_CONVERTERS.contains(converter)) {
+				this.converters.add(converter);
+			}
+		}
+	}
+
+	/**
+	 * Gets the user reading conversions of the custom conversions.
+	 *
+	 * @param conversions the custom conversions
+	 * @return the user reading conversions
+	 */
+	static UserReadingConversions of(CustomConversions conversions) {
+		return CACHE.computeIfAbsent(conversions, UserReadingConversions::new);
+	}
+
+	/**
+	 * Whether a user conversion reads the target type from any source type.
+	 * A converter of which types can not be resolved is regarded as reading any type.
+	 *
+	 * @param targetType the target type
+	 * @return whether a user reading conversion to the target type is registered
+	 */
+	boolean hasReadTarget(Class<?> targetType) {
+		for (Object converter : this.converters) {
+			if (this.readsTarget(converter, targetType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean readsTarget(Object converter, Class<?> targetType) {
+		if (converter instanceof GenericConverter genericConverter) {
+			Set<GenericConverter.ConvertiblePair> pairs = genericConverter.getConvertibleTypes();
+			if (pairs == null) {
+				return true;
+			}
+
+			for (GenericConverter.ConvertiblePair pair : pairs) {
+				if (this.readsTarget(pair.getSourceType(), pair.getTargetType(), targetType)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		Class<?> converterType = converter instanceof ConverterFactory<?, ?> ? ConverterFactory.class : Converter.class;
+		Class<?>[] types = GenericTypeResolver.resolveTypeArguments(converter.getClass(), converterType);
+		return types == null || this.readsTarget(types[0], types[1], targetType);
+	}
+
+	private boolean readsTarget(Class<?> sourceType, Class<?> convertedType, Class<?> targetType) {
+		boolean converts = ClassUtils.isAssignable(targetType, convertedType)
+			|| ClassUtils.isAssignable(convertedType, targetType);
+		return converts && this.conversions.hasCustomReadTarget(sourceType, targetType);
+	}
+
+	private static List<Object> collectConverters(CustomConversions conversions) {
+		List<Object> converters = new ArrayList<>();
+		conversions.registerConvertersIn(new ConverterRegistry() {
+			@Override
+			public void addConverter(Converter<?, ?> converter) {
+				converters.add(converter);
+			}
+
+			@Override
+			public <S, T> void addConverter(
+				Class<S> sourceType,
+				Class<T> targetType,
+				Converter<? super S, ? extends T> converter
+			) {
+				converters.add(converter);
+			}
+
+			@Override
+			public void addConverter(GenericConverter converter) {
+				converters.add(converter);
+			}
+
+			@Override
+			public void addConverterFactory(ConverterFactory<?, ?> factory) {
+				converters.add(factory);
+			}
+
+			@Override
+			public void removeConvertible(Class<?> sourceType, Class<?> targetType) {
+			}
+		});
+		return converters;
+	}
+}
@@ -26,6 +26,7 @@ import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 
 import com.navercorp.spring.data.jdbc.plus.support.parametersource.MutableSqlIdentifierParameterSource;
+import com.navercorp.spring.jdbc.plus.support.parametersource.ProbingSqlParameterSource;
 import com.navercorp.spring.jdbc.plus.support.parametersource.converter.IterableExpandPadding;
 import com.navercorp.spring.jdbc.plus.support.parametersource.converter.JdbcParameterSourceConverter;
 import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackParameterSource;
@@ -35,7 +36,8 @@ import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackP
  *
  * @author Myeonghyeon Lee
  */
-class ConvertibleSqlIdentifierParameterSource implements MutableSqlIdentifierParameterSource {
+class ConvertibleSqlIdentifierParameterSource
+	implements MutableSqlIdentifierParameterSource, ProbingSqlParameterSource {
 	private final MutableSqlIdentifierParameterSource delegate;
 	private final JdbcParameterSourceConverter converter;
 	private final @Nullable FallbackParameterSource fallbackParameterSource;
@@ -61,29 +63,18 @@ class ConvertibleSqlIdentifierParameterSource implements MutableSqlIdentifierPar
 
 	@Override
 	public @Nullable Object getValue(String paramName) throws IllegalArgumentException {
-		Object value = null;
-		try {
-			value = delegate.getValue(paramName);
-		} catch (IllegalArgumentException e) {
+		if (!delegate.hasValue(paramName)) {
 			if (!this.isFallback(paramName)) {
-				throw e;
+				throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
 			}
+			return this.resolveValue(paramName, null);
 		}
+		return this.resolveValue(paramName, delegate.getValue(paramName));
+	}
 
-		if (value == null && this.isFallback(paramName)) {
-			value = this.fallback(paramName);
-		}
-
-		value = this.converter.convert(paramName, value);
-		if (this.paddingIterableParams) {
-			value = IterableExpandPadding.expandIfIterable(
-				value,
-				this.padArray,
-				this.paddingIterableBoundaries
-			);
-		}
-
-		return value;
+	@Override
+	public @Nullable Object probeValue(String paramName) {
+		return delegate.hasValue(paramName) ? this.resolveValue(paramName, delegate.getValue(paramName)) : ABSENT;
 	}
 
 	@Override
@@ -144,6 +135,23 @@ class ConvertibleSqlIdentifierParameterSource implements MutableSqlIdentifierPar
 		this.paddingIterableParams = padding;
 	}
 
+	private @Nullable Object resolveValue(String paramName, @Nullable Object value) {
+		if (value == null && this.isFallback(paramName)) {
+			value = this.fallback(paramName);
+		}
+
+		value = this.converter.convert(paramName, value);
+		if (this.paddingIterableParams) {
+			value = IterableExpandPadding.expandIfIterable(
+				value,
+				this.padArray,
+				this.paddingIterableBoundaries
+			);
+		}
+
+		return value;
+	}
+
 	private boolean isFallback(String paramName) {
 		return this.fallbackParameterSource != null && this.fallbackParameterSource.isFallback(paramName);
 	}
@@ -18,6 +18,7 @@
 
 package com.navercorp.spring.data.jdbc.plus.sql.parametersource;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -67,7 +68,18 @@ public class DefaultSqlParameterSourceFactory implements SqlParameterSourceFacto
 		MutableSqlIdentifierParameterSource parameterSource = MutableSqlIdentifierParameterSource.create();
 		RelationalPersistentEntity<?> persistentEntity =
 			this.mappingContext.getRequiredPersistentEntity(entity.getClass());
-		this.parameterSourceApplier.addParameterSource(parameterSource, entity, persistentEntity, "");
+		this.parameterSourceApplier.addParameterSource(parameterSource, entity, persistentEntity);
 		return parameterSource;
 	}
+
+	@Override
+	public SqlParameterSource[] entityBatchParameterSource(List<?> entities) {
+		Class<?> entityType = EntitySqlParameterSourceApplier.uniformType(entities);
+		if (entityType == null) {
+			return SqlParameterSourceFactory.super.entityBatchParameterSource(entities);
+		}
+
+		RelationalPersistentEntity<?> persistentEntity = this.mappingContext.getRequiredPersistentEntity(entityType);
+		return this.parameterSourceApplier.batchParameterSource(entities, persistentEntity, (p, v) -> v, p -> true);
+	}
 }
@@ -18,8 +18,10 @@
 
 package com.navercorp.spring.data.jdbc.plus.sql.parametersource;
 
+import java.util.List;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -29,6 +31,7 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import com.navercorp.spring.data.jdbc.plus.support.parametersource.MutableSqlIdentifierParameterSource;
 import com.navercorp.spring.jdbc.plus.support.parametersource.ConvertibleParameterSourceFactory;
+import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackParameterSource;
 
 /**
  * The type Entity convertible sql parameter source factory.
@@ -77,7 +80,40 @@ public class EntityConvertibleSqlParameterSourceFactory implements SqlParameterS
 			this.delegate.getConverter(), this.delegate.getFallback());
 		RelationalPersistentEntity<?> persistentEntity =
 			this.mappingContext.getRequiredPersistentEntity(entity.getClass());
-		this.parameterSourceApplier.addParameterSource(parameterSource, entity, persistentEntity, "");
+		this.parameterSourceApplier.addParameterSource(parameterSource, entity, persistentEntity);
 		return parameterSource;
 	}
+
+	@Override
+	public SqlParameterSource[] beanBatchParameterSource(List<?> beans) {
+		return this.delegate.beanBatchParameterSource(beans);
+	}
+
+	@Override
+	public SqlParameterSource[] entityBatchParameterSource(List<?> entities) {
+		Class<?> entityType = EntitySqlParameterSourceApplier.uniformType(entities);
+		if (entityType == null) {
+			return SqlParameterSourceFactory.super.entityBatchParameterSource(entities);
+		}
+
+		RelationalPersistentEntity<?> persistentEntity = this.mappingContext.getRequiredPersistentEntity(entityType);
+		return this.parameterSourceApplier.batchParameterSource(
+			entities, persistentEntity, this::convertEntityValue, this::isFallback);
+	}
+
+	/**
+	 * Converts the value as {@link ConvertibleSqlIdentifierParameterSource} does.
+	 */
+	private @Nullable Object convertEntityValue(String paramName, @Nullable Object value) {
+		FallbackParameterSource fallbackParameterSource = this.delegate.getFallback();
+		if (value == null && fallbackParameterSource != null && fallbackParameterSource.isFallback(paramName)) {
+			value = fallbackParameterSource.fallback(paramName);
+		}
+		return this.delegate.getConverter().convert(paramName, value);
+	}
+
+	private boolean isFallback(String paramName) {
+		FallbackParameterSource fallbackParameterSource = this.delegate.getFallback();
+		return fallbackParameterSource != null && fallbackParameterSource.isFallback(paramName);
+	}
 }
@@ -19,6 +19,13 @@
 package com.navercorp.spring.data.jdbc.plus.sql.parametersource;
 
 import java.sql.SQLType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -29,17 +36,23 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import com.navercorp.spring.data.jdbc.plus.support.parametersource.BindParameterNameSanitizer;
 import com.navercorp.spring.data.jdbc.plus.support.parametersource.MutableSqlIdentifierParameterSource;
+import com.navercorp.spring.jdbc.plus.support.parametersource.ColumnarBatchSqlParameterSource;
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.JdbcParameterSourceConverter;
 
 /**
  * The type Entity sql parameter source applier.
+ * The parameters of an entity type are compiled to a binding plan once, so that binding only reads the values.
  *
  * @author Myeonghyeon Lee
  */
 class EntitySqlParameterSourceApplier {
 	private final RelationalMappingContext mappingContext;
 	private final JdbcConverter jdbcConverter;
+	private final Map<Class<?>, BindingPlan> bindingPlans = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates a new Entity sql parameter source applier.
@@ -58,18 +71,93 @@ class EntitySqlParameterSourceApplier {
 	 * @param parameterSource  the parameter source
 	 * @param instance         the instance
 	 * @param persistentEntity the persistent entity
-	 * @param prefix           the prefix
 	 */
-	// DefaultDataAccessStrategy#getParameterSource
 	void addParameterSource(
 		MutableSqlIdentifierParameterSource parameterSource,
-		@Nullable Object instance,
+		Object instance,
+		RelationalPersistentEntity<?> persistentEntity
+	) {
+		this.bind(parameterSource, instance, this.getBindingPlan(persistentEntity));
+	}
+
+	/**
+	 * Batch parameter source sql parameter sources.
+	 * The values of the instances are bound column-wise by the binding plan of the persistent entity.
+	 *
+	 * @param instances        the instances of the persistent entity type
+	 * @param persistentEntity the persistent entity
+	 * @param valueConverter   the converter applied to the bound values
+	 * @param unboundValue     whether a parameter not bound by the entity resolves to a converted null value,
+	 *                         otherwise its value lookup throws {@link IllegalArgumentException}
+	 * @return the sql parameter sources of the instances
+	 */
+	SqlParameterSource[] batchParameterSource(
+		List<?> instances,
 		RelationalPersistentEntity<?> persistentEntity,
-		String prefix
+		JdbcParameterSourceConverter valueConverter,
+		Predicate<String> unboundValue
 	) {
-		PersistentPropertyAccessor<?> propertyAccessor = instance != null
-			? persistentEntity.getPropertyAccessor(instance)
-			: NoValuePropertyAccessor.instance();
+		BindingPlan bindingPlan = this.getBindingPlan(persistentEntity);
+		List<String> parameterNames = new ArrayList<>();
+		collectParameterNames(parameterNames, bindingPlan);
+
+		int rowCount = instances.size();
+		@Nullable Object[][] values = new Object[parameterNames.size()][rowCount];
+		int[][] sqlTypes = new int[parameterNames.size()][rowCount];
+		for (int row = 0; row < rowCount; row++) {
+			this.bindColumns(values, sqlTypes, row, instances.get(row), bindingPlan, 0);
+		}
+
+		// the later column wins on duplicated names, as the later addValue does
+		Map<String, Integer> columnIndexes = new HashMap<>();
+		for (int i = 0; i < parameterNames.size(); i++) {
+			columnIndexes.put(parameterNames.get(i), i);
+		}
+
+		return new ColumnarBatchSqlParameterSource(rowCount, paramName -> {
+			Integer columnIndex = columnIndexes.get(paramName);
+			if (columnIndex == null && !unboundValue.test(paramName)) {
+				return null;
+			}
+			@Nullable Object[] columnValues = columnIndex != null ? values[columnIndex] : new Object[rowCount];
+			for (int row = 0; row < rowCount; row++) {
+				columnValues[row] = valueConverter.convert(paramName, columnValues[row]);
+			}
+			return columnIndex != null
+				? new ColumnarBatchSqlParameterSource.Column(columnValues, sqlTypes[columnIndex], true)
+				: new ColumnarBatchSqlParameterSource.Column(columnValues, unknownSqlTypes(rowCount), false);
+		}).getRows();
+	}
+
+	/**
+	 * Gets the type of the instances if all of them are of the same type.
+	 *
+	 * @param instances the instances
+	 * @return the type, {@literal null} if the instances are empty or of mixed types
+	 */
+	static @Nullable Class<?> uniformType(List<?> instances) {
+		Class<?> type = instances.isEmpty() ? null : instances.get(0).getClass();
+		for (Object instance : instances) {
+			if (instance.getClass() != type) {
+				return null;
+			}
+		}
+		return type;
+	}
+
+	private BindingPlan getBindingPlan(RelationalPersistentEntity<?> persistentEntity) {
+		BindingPlan bindingPlan = this.bindingPlans.get(persistentEntity.getType());
+		if (bindingPlan == null) {
+			bindingPlan = this.bindingPlans.computeIfAbsent(
+				persistentEntity.getType(), type -> this.compile(persistentEntity, ""));
+		}
+		return bindingPlan;
+	}
+
+	// DefaultDataAccessStrategy#getParameterSource
+	private BindingPlan compile(RelationalPersistentEntity<?> persistentEntity, String prefix) {
+		List<ColumnBinding> columns = new ArrayList<>();
+		List<EmbeddedBinding> embeddeds = new ArrayList<>();
 
 		persistentEntity.doWithAll(property -> {
 			if (!property.isWritable()) {
@@ -81,30 +169,129 @@ class EntitySqlParameterSourceApplier {
 			}
 
 			if (property.isEmbedded()) {
-				Object value = propertyAccessor.getProperty(property);
 				RelationalPersistentEntity<?> embeddedEntity =
 					this.mappingContext.getRequiredPersistentEntity(property.getTypeInformation());
-				this.addParameterSource(
-					parameterSource, value, embeddedEntity, prefix + property.getEmbeddedPrefix());
+				embeddeds.add(new EmbeddedBinding(
+					property, this.compile(embeddedEntity, prefix + property.getEmbeddedPrefix())));
 			} else {
-				Object value = propertyAccessor.getProperty(property);
-				SqlIdentifier paramName = property.getColumnName().transform(prefix::concat);
-				this.addConvertedPropertyValue(parameterSource, property, value, paramName);
+				columns.add(new ColumnBinding(
+					property,
+					property.getColumnName().transform(prefix::concat),
+					this.jdbcConverter.getColumnType(property),
+					this.jdbcConverter.getTargetSqlType(property)
+				));
 			}
 		});
+
+		return new BindingPlan(persistentEntity, List.copyOf(columns), List.copyOf(embeddeds));
+	}
+
+	private void bind(
+		MutableSqlIdentifierParameterSource parameterSource,
+		@Nullable Object instance,
+		BindingPlan bindingPlan
+	) {
+		PersistentPropertyAccessor<?> propertyAccessor = instance != null
+			? bindingPlan.persistentEntity().getPropertyAccessor(instance)
+			: NoValuePropertyAccessor.instance();
+
+		for (ColumnBinding column : bindingPlan.columns()) {
+			this.addConvertedPropertyValue(parameterSource, column, propertyAccessor.getProperty(column.property()));
+		}
+		for (EmbeddedBinding embedded : bindingPlan.embeddeds()) {
+			this.bind(parameterSource, propertyAccessor.getProperty(embedded.property()), embedded.bindingPlan());
+		}
+	}
+
+	private int bindColumns(
+		@Nullable Object[][] values,
+		int[][] sqlTypes,
+		int row,
+		@Nullable Object instance,
+		BindingPlan bindingPlan,
+		int columnIndex
+	) {
+		PersistentPropertyAccessor<?> propertyAccessor = instance != null
+			? bindingPlan.persistentEntity().getPropertyAccessor(instance)
+			: NoValuePropertyAccessor.instance();
+
+		for (ColumnBinding column : bindingPlan.columns()) {
+			JdbcValue jdbcValue = this.jdbcConverter.writeJdbcValue(
+				propertyAccessor.getProperty(column.property()), column.javaType(), column.sqlType());
+			values[columnIndex][row] = jdbcValue.getValue();
+			sqlTypes[columnIndex][row] = jdbcValue.getJdbcType().getVendorTypeNumber();
+			columnIndex++;
+		}
+		for (EmbeddedBinding embedded : bindingPlan.embeddeds()) {
+			columnIndex = this.bindColumns(
+				values, sqlTypes, row, propertyAccessor.getProperty(embedded.property()), embedded.bindingPlan(),
+				columnIndex);
+		}
+		return columnIndex;
+	}
+
+	private static void collectParameterNames(List<String> parameterNames, BindingPlan bindingPlan) {
+		for (ColumnBinding column : bindingPlan.columns()) {
+			parameterNames.add(BindParameterNameSanitizer.sanitize(column.name().getReference()));
+		}
+		for (EmbeddedBinding embedded : bindingPlan.embeddeds()) {
+			collectParameterNames(parameterNames, embedded.bindingPlan());
+		}
+	}
+
+	private static int[] unknownSqlTypes(int rowCount) {
+		int[] sqlTypes = new int[rowCount];
+		Arrays.fill(sqlTypes, SqlParameterSource.TYPE_UNKNOWN);
+		return sqlTypes;
 	}
 
 	// DefaultDataAccessStrategy#addConvertedPropertyValue
 	private void addConvertedPropertyValue(
 		MutableSqlIdentifierParameterSource parameterSource,
+		ColumnBinding column,
+		@Nullable Object value
+	) {
+		JdbcValue jdbcValue = this.jdbcConverter.writeJdbcValue(value, column.javaType(), column.sqlType());
+		parameterSource.addValue(column.name(), jdbcValue.getValue(), jdbcValue.getJdbcType().getVendorTypeNumber());
+	}
+
+	/**
+	 * The binding plan of an entity type.
+	 *
+	 * @param persistentEntity the persistent entity
+	 * @param columns          the column bindings of the entity
+	 * @param embeddeds        the bindings of the embedded entities
+	 */
+	private record BindingPlan(
+		RelationalPersistentEntity<?> persistentEntity,
+		List<ColumnBinding> columns,
+		List<EmbeddedBinding> embeddeds
+	) {
+	}
+
+	/**
+	 * The binding of a column.
+	 *
+	 * @param property the property
+	 * @param name     the parameter name, prefixed by the embedded prefixes
+	 * @param javaType the column type of the property
+	 * @param sqlType  the target sql type of the property
+	 */
+	private record ColumnBinding(
 		RelationalPersistentProperty property,
-		@Nullable Object value,
-		SqlIdentifier name
+		SqlIdentifier name,
+		Class<?> javaType,
+		SQLType sqlType
 	) {
-		Class<?> javaType = this.jdbcConverter.getColumnType(property);
-		SQLType sqlType = this.jdbcConverter.getTargetSqlType(property);
-		JdbcValue jdbcValue = this.jdbcConverter.writeJdbcValue(value, javaType, sqlType);
-		parameterSource.addValue(name, jdbcValue.getValue(), jdbcValue.getJdbcType().getVendorTypeNumber());
+	}
+
+	/**
+	 * The binding of an embedded entity.
+	 *
+	 * @param property    the embedded property
+	 * @param bindingPlan the binding plan of the embedded entity
+	 */
+	private record EmbeddedBinding(RelationalPersistentProperty property, BindingPlan bindingPlan) {
 	}
 
 	/**
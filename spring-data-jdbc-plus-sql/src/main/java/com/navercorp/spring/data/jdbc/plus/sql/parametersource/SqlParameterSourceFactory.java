@@ -18,6 +18,7 @@
 
 package com.navercorp.spring.data.jdbc.plus.sql.parametersource;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
@@ -53,4 +54,24 @@ public interface SqlParameterSourceFactory {
 	 * @return the sql parameter source
 	 */
 	SqlParameterSource entityParameterSource(Object entity);
+
+	/**
+	 * Bean batch parameter source sql parameter sources.
+	 *
+	 * @param beans the beans
+	 * @return the sql parameter sources of the beans
+	 */
+	default SqlParameterSource[] beanBatchParameterSource(List<?> beans) {
+		return beans.stream().map(this::beanParameterSource).toArray(SqlParameterSource[]::new);
+	}
+
+	/**
+	 * Entity batch parameter source sql parameter sources.
+	 *
+	 * @param entities the entities
+	 * @return the sql parameter sources of the entities
+	 */
+	default SqlParameterSource[] entityBatchParameterSource(List<?> entities) {
+		return entities.stream().map(this::entityParameterSource).toArray(SqlParameterSource[]::new);
+	}
 }
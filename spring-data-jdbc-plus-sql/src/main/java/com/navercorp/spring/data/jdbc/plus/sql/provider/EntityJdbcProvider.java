@@ -18,13 +18,23 @@
 
 package com.navercorp.spring.data.jdbc.plus.sql.provider;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMappingConfiguration;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -32,8 +42,10 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultSetExtractor;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.StreamingAggregateRowMapper;
 import com.navercorp.spring.data.jdbc.plus.sql.parametersource.EntityConvertibleSqlParameterSourceFactory;
 import com.navercorp.spring.data.jdbc.plus.sql.parametersource.SqlParameterSourceFactory;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlGenerator;
 import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
 import com.navercorp.spring.jdbc.plus.support.parametersource.CompositeSqlParameterSource;
 
@@ -43,12 +55,16 @@ import com.navercorp.spring.jdbc.plus.support.parametersource.CompositeSqlParame
  * @author Myeonghyeon Lee
  */
 public class EntityJdbcProvider {
+	private static final int SPLIT_FETCH_IDS_CHUNK_SIZE = 1000;
+
 	private final NamedParameterJdbcOperations jdbcOperations;
 	private final SqlProvider sqlProvider;
 	private final SqlParameterSourceFactory sqlParameterSourceFactory;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final ApplicationEventPublisher publisher;
 	private final EntityCallbacks entityCallbacks;
+	private final Map<Class<?>, AggregateResultSetExtractor<?>> splitFetchResultSetExtractors
+		= new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates a new Entity jdbc provider.
@@ -130,14 +146,26 @@ public class EntityJdbcProvider {
 
 	/**
 	 * Gets aggregate result set extractor.
+	 * Relations applied @SqlFetchMode(SPLIT) are loaded with {@link SqlProvider#aggregateSplitQueries(Class)}.
 	 *
 	 * @param <T>           the type parameter
 	 * @param entityType the entity type
 	 * @return the aggregate result set extractor
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> AggregateResultSetExtractor<T> getAggregateResultSetExtractor(Class<T> entityType) {
 		if (this.queryMappingConfiguration instanceof EntityQueryMappingConfiguration entityQueryMappingConfiguration) {
-			return entityQueryMappingConfiguration.getAggregateResultSetExtractor(entityType);
+			AggregateResultSetExtractor<T> resultSetExtractor =
+				entityQueryMappingConfiguration.getAggregateResultSetExtractor(entityType);
+			Map<AggregatePath, String> splitQueries = this.sqlProvider.aggregateSplitQueries(entityType);
+			if (splitQueries.isEmpty()) {
+				return resultSetExtractor;
+			}
+
+			return (AggregateResultSetExtractor<T>)this.splitFetchResultSetExtractors.computeIfAbsent(
+				entityType, type -> resultSetExtractor.withSplitRelationFetcher(
+					(relationPath, parentIds, rowCallbackHandler) -> this.fetchSplitRelation(
+						Objects.requireNonNull(splitQueries.get(relationPath)), parentIds, rowCallbackHandler)));
 		} else {
 			throw new IllegalStateException(
 				"AggregateResultSetExtractor supports with EntityQueryMappingConfiguration. "
@@ -146,6 +174,82 @@ public class EntityJdbcProvider {
 		}
 	}
 
+	private void fetchSplitRelation(String sql, Collection<?> parentIds, RowCallbackHandler rowCallbackHandler) {
+		List<?> ids = new ArrayList<>(parentIds);
+		for (int from = 0; from < ids.size(); from += SPLIT_FETCH_IDS_CHUNK_SIZE) {
+			List<?> chunk = ids.subList(from, Math.min(from + SPLIT_FETCH_IDS_CHUNK_SIZE, ids.size()));
+			this.jdbcOperations.query(
+				sql,
+				new MapSqlParameterSource(SqlGenerator.IDS_SQL_PARAMETER.getReference(), chunk),
+				rowCallbackHandler);
+		}
+	}
+
+	/**
+	 * Gets root id row mapper, which reads the id column of the aggregate root converted to the id type.
+	 *
+	 * @param entityType the entity type
+	 * @return the root id row mapper
+	 */
+	public RowMapper<Object> getRootIdRowMapper(Class<?> entityType) {
+		if (this.queryMappingConfiguration instanceof EntityQueryMappingConfiguration entityQueryMappingConfiguration) {
+			RelationalPersistentProperty idProperty = entityQueryMappingConfiguration.getMappingContext()
+				.getRequiredPersistentEntity(entityType)
+				.getRequiredIdProperty();
+			if (idProperty.isEmbedded()) {
+				throw new IllegalStateException(
+					"Root id RowMapper supports single column id. entityType: " + entityType);
+			}
+
+			String idColumn = idProperty.getColumnName().getReference();
+			JdbcConverter jdbcConverter = entityQueryMappingConfiguration.getJdbcConverter();
+			return (rs, rowNum) -> jdbcConverter.readValue(rs.getObject(idColumn), idProperty.getTypeInformation());
+		} else {
+			throw new IllegalStateException(
+				"Root id RowMapper supports with EntityQueryMappingConfiguration. "
+					+ "queryMappingConfiguration: "
+					+ this.queryMappingConfiguration.getClass());
+		}
+	}
+
+	/**
+	 * Gets required persistent entity.
+	 *
+	 * @param <T>        the type parameter
+	 * @param entityType the entity type
+	 * @return the relational persistent entity
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> RelationalPersistentEntity<T> getRequiredPersistentEntity(Class<T> entityType) {
+		if (this.queryMappingConfiguration instanceof EntityQueryMappingConfiguration entityQueryMappingConfiguration) {
+			return (RelationalPersistentEntity<T>)entityQueryMappingConfiguration.getMappingContext()
+				.getRequiredPersistentEntity(entityType);
+		} else {
+			throw new IllegalStateException(
+				"RelationalPersistentEntity supports with EntityQueryMappingConfiguration. "
+					+ "queryMappingConfiguration: "
+					+ this.queryMappingConfiguration.getClass());
+		}
+	}
+
+	/**
+	 * Create streaming aggregate row mapper.
+	 *
+	 * @param <T>        the type parameter
+	 * @param entityType the entity type
+	 * @return the streaming aggregate row mapper
+	 */
+	public <T> StreamingAggregateRowMapper<T> createStreamingAggregateRowMapper(Class<T> entityType) {
+		if (this.queryMappingConfiguration instanceof EntityQueryMappingConfiguration entityQueryMappingConfiguration) {
+			return entityQueryMappingConfiguration.createStreamingAggregateRowMapper(entityType);
+		} else {
+			throw new IllegalStateException(
+				"StreamingAggregateRowMapper supports with EntityQueryMappingConfiguration. "
+					+ "queryMappingConfiguration: "
+					+ this.queryMappingConfiguration.getClass());
+		}
+	}
+
 	/**
 	 * Columns string.
 	 *
@@ -166,6 +270,17 @@ public class EntityJdbcProvider {
 		return this.sqlProvider.aggregateColumns(entityType);
 	}
 
+	/**
+	 * Aggregate columns string, only the relations of the include paths are selected.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	public String aggregateColumns(Class<?> entityType, String... includePaths) {
+		return this.sqlProvider.aggregateColumns(entityType, includePaths);
+	}
+
 	/**
 	 * Tables string.
 	 *
@@ -186,6 +301,48 @@ public class EntityJdbcProvider {
 		return this.sqlProvider.aggregateTables(entityType);
 	}
 
+	/**
+	 * Aggregate tables string, only the relations of the include paths are joined.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	public String aggregateTables(Class<?> entityType, String... includePaths) {
+		return this.sqlProvider.aggregateTables(entityType, includePaths);
+	}
+
+	/**
+	 * Aggregate query filtered by root ids {@code IN (:ids)}.
+	 *
+	 * @param entityType the entity type
+	 * @return the string
+	 */
+	public String aggregateInIds(Class<?> entityType) {
+		return this.sqlProvider.aggregateInIds(entityType);
+	}
+
+	/**
+	 * Paged sql string, see {@link SqlProvider#paged(String, Pageable)}.
+	 *
+	 * @param sql      the sql
+	 * @param pageable the pageable
+	 * @return the string
+	 */
+	public String paged(String sql, Pageable pageable) {
+		return this.sqlProvider.paged(sql, pageable);
+	}
+
+	/**
+	 * Count sql string.
+	 *
+	 * @param sql the sql
+	 * @return the string
+	 */
+	public String count(String sql) {
+		return this.sqlProvider.count(sql);
+	}
+
 	/**
 	 * Bean parameter source bean property sql parameter source.
 	 *
@@ -231,6 +388,26 @@ public class EntityJdbcProvider {
 		return this.sqlParameterSourceFactory.entityParameterSource(entity);
 	}
 
+	/**
+	 * Bean batch parameter source sql parameter sources.
+	 *
+	 * @param beans the beans
+	 * @return the sql parameter sources of the beans
+	 */
+	public SqlParameterSource[] beanBatchParameterSource(List<?> beans) {
+		return this.sqlParameterSourceFactory.beanBatchParameterSource(beans);
+	}
+
+	/**
+	 * Entity batch parameter source sql parameter sources.
+	 *
+	 * @param entities the entities
+	 * @return the sql parameter sources of the entities
+	 */
+	public SqlParameterSource[] entityBatchParameterSource(List<?> entities) {
+		return this.sqlParameterSourceFactory.entityBatchParameterSource(entities);
+	}
+
 	/**
 	 * Composite sql parameter source composite sql parameter source.
 	 *
@@ -30,6 +30,7 @@ import org.springframework.jdbc.core.RowMapper;
 
 import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultJdbcConverter;
 import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultSetExtractor;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.StreamingAggregateRowMapper;
 
 /**
  * The type Entity query mapping configuration.
@@ -89,6 +90,40 @@ public class EntityQueryMappingConfiguration implements QueryMappingConfiguratio
 			});
 	}
 
+	/**
+	 * Create streaming aggregate row mapper.
+	 * The row mapper is stateful, so it is created for each query.
+	 *
+	 * @param <T>        the type parameter
+	 * @param entityType the entity type
+	 * @return the streaming aggregate row mapper
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> StreamingAggregateRowMapper<T> createStreamingAggregateRowMapper(Class<T> entityType) {
+		if (!AggregateResultJdbcConverter.class.isAssignableFrom(this.jdbcConverter.getClass())) {
+			throw new IllegalStateException(
+				"StreamingAggregateRowMapper can support with AggregateResultJdbcConverter. "
+					+ "jdbcConverter: " + this.jdbcConverter.getClass());
+		}
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>)
+			this.mappingContext.getRequiredPersistentEntity(entityType);
+		return new StreamingAggregateRowMapper<>(entity, (AggregateResultJdbcConverter)this.jdbcConverter);
+	}
+
+	/**
+	 * Pre-warm the row mapper, and the aggregate result set extractor and mapping plan of the entity type.
+	 *
+	 * @param entityType the entity type
+	 */
+	public void warmUp(Class<?> entityType) {
+		this.getRowMapper(entityType);
+		if (this.jdbcConverter instanceof AggregateResultJdbcConverter aggregateResultJdbcConverter) {
+			this.getAggregateResultSetExtractor(entityType);
+			aggregateResultJdbcConverter.warmUp(this.mappingContext.getRequiredPersistentEntity(entityType));
+		}
+	}
+
 	/**
 	 * Gets mapping context.
 	 *
@@ -95,6 +95,17 @@ public abstract class JdbcDaoSupport {
 		return this.entityJdbcProvider.aggregateColumns(entityType);
 	}
 
+	/**
+	 * Aggregate columns string, only the relations of the include paths are selected.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	protected String aggregateColumns(Class<?> entityType, String... includePaths) {
+		return this.entityJdbcProvider.aggregateColumns(entityType, includePaths);
+	}
+
 	/**
 	 * Tables string.
 	 *
@@ -115,6 +126,17 @@ public abstract class JdbcDaoSupport {
 		return this.entityJdbcProvider.aggregateTables(entityType);
 	}
 
+	/**
+	 * Aggregate tables string, only the relations of the include paths are joined.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	protected String aggregateTables(Class<?> entityType, String... includePaths) {
+		return this.entityJdbcProvider.aggregateTables(entityType, includePaths);
+	}
+
 	/**
 	 * Bean parameter source bean property sql parameter source.
 	 *
@@ -165,6 +187,26 @@ public abstract class JdbcDaoSupport {
 		return this.entityJdbcProvider.entityParameterSource(entity);
 	}
 
+	/**
+	 * Bean batch parameter source sql parameter sources.
+	 *
+	 * @param beans the beans
+	 * @return the sql parameter sources of the beans
+	 */
+	protected SqlParameterSource[] beanBatchParameterSource(List<?> beans) {
+		return this.entityJdbcProvider.beanBatchParameterSource(beans);
+	}
+
+	/**
+	 * Entity batch parameter source sql parameter sources.
+	 *
+	 * @param entities the entities
+	 * @return the sql parameter sources of the entities
+	 */
+	protected SqlParameterSource[] entityBatchParameterSource(List<?> entities) {
+		return this.entityJdbcProvider.entityBatchParameterSource(entities);
+	}
+
 	/**
 	 * Composite sql parameter source composite sql parameter source.
 	 *
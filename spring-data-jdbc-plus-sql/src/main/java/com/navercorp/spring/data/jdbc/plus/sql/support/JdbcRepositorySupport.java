@@ -20,31 +20,41 @@ package com.navercorp.spring.data.jdbc.plus.sql.support;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.event.AfterConvertCallback;
 import org.springframework.data.relational.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultSetExtractor;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.StreamingAggregateRowMapper;
 import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityJdbcProvider;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlGenerator;
 import com.navercorp.spring.jdbc.plus.support.parametersource.CompositeSqlParameterSource;
 
 /**
@@ -133,6 +143,27 @@ public abstract class JdbcRepositorySupport<T> {
 		return this.entityJdbcProvider.aggregateColumns(entityType);
 	}
 
+	/**
+	 * Aggregate columns string, only the relations of the include paths are selected.
+	 *
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	protected String aggregateColumns(String... includePaths) {
+		return this.aggregateColumns(this.entityType, includePaths);
+	}
+
+	/**
+	 * Aggregate columns string, only the relations of the include paths are selected.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	protected String aggregateColumns(Class<?> entityType, String... includePaths) {
+		return this.entityJdbcProvider.aggregateColumns(entityType, includePaths);
+	}
+
 	/**
 	 * Tables string.
 	 *
@@ -171,6 +202,27 @@ public abstract class JdbcRepositorySupport<T> {
 		return this.entityJdbcProvider.aggregateTables(entityType);
 	}
 
+	/**
+	 * Aggregate tables string, only the relations of the include paths are joined.
+	 *
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	protected String aggregateTables(String... includePaths) {
+		return this.aggregateTables(this.entityType, includePaths);
+	}
+
+	/**
+	 * Aggregate tables string, only the relations of the include paths are joined.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	protected String aggregateTables(Class<?> entityType, String... includePaths) {
+		return this.entityJdbcProvider.aggregateTables(entityType, includePaths);
+	}
+
 	/**
 	 * Bean parameter source bean property sql parameter source.
 	 *
@@ -221,6 +273,26 @@ public abstract class JdbcRepositorySupport<T> {
 		return this.entityJdbcProvider.entityParameterSource(entity);
 	}
 
+	/**
+	 * Bean batch parameter source sql parameter sources.
+	 *
+	 * @param beans the beans
+	 * @return the sql parameter sources of the beans
+	 */
+	protected SqlParameterSource[] beanBatchParameterSource(List<?> beans) {
+		return this.entityJdbcProvider.beanBatchParameterSource(beans);
+	}
+
+	/**
+	 * Entity batch parameter source sql parameter sources.
+	 *
+	 * @param entities the entities
+	 * @return the sql parameter sources of the entities
+	 */
+	protected SqlParameterSource[] entityBatchParameterSource(List<?> entities) {
+		return this.entityJdbcProvider.entityBatchParameterSource(entities);
+	}
+
 	/**
 	 * Composite sql parameter source composite sql parameter source.
 	 *
@@ -301,9 +373,7 @@ public abstract class JdbcRepositorySupport<T> {
 	 * @return the list
 	 */
 	protected List<T> find(String sql, SqlParameterSource params) {
-		return this.find(sql, params, this.entityType).stream()
-			.map(this::triggerAfterConvert)
-			.collect(toList());
+		return this.triggerAfterConvertAll(this.find(sql, params, this.entityType));
 	}
 
 	/**
@@ -316,10 +386,8 @@ public abstract class JdbcRepositorySupport<T> {
 	 * @return the list
 	 */
 	protected <R> List<R> find(String sql, SqlParameterSource params, Class<R> returnType) {
-		AggregateResultSetExtractor<R> resultSetExtractor = this.getAggregateResultSetExtractor(returnType);
-		return this.find(sql, params, resultSetExtractor).stream()
-			.map(this::triggerAfterConvert)
-			.collect(toList());
+		AggregateResultSetExtractor<R> resultSetExtractor = this.getAggregateResultSetExtractor(returnType).forSql(sql);
+		return this.triggerAfterConvertAll(this.find(sql, params, resultSetExtractor));
 	}
 
 	/**
@@ -332,9 +400,7 @@ public abstract class JdbcRepositorySupport<T> {
 	 * @return the list
 	 */
 	protected <R> List<R> find(String sql, SqlParameterSource params, RowMapper<R> rowMapper) {
-		return this.getJdbcOperations().query(sql, params, rowMapper).stream()
-			.map(this::triggerAfterConvert)
-			.collect(toList());
+		return this.triggerAfterConvertAll(this.getJdbcOperations().query(sql, params, rowMapper));
 	}
 
 	/**
@@ -351,9 +417,115 @@ public abstract class JdbcRepositorySupport<T> {
 		SqlParameterSource params,
 		ResultSetExtractor<List<R>> resultSetExtractor
 	) {
-		return this.getJdbcOperations().query(sql, params, resultSetExtractor).stream()
-			.map(this::triggerAfterConvert)
-			.collect(toList());
+		return this.triggerAfterConvertAll(this.getJdbcOperations().query(sql, params, resultSetExtractor));
+	}
+
+	/**
+	 * Find stream.
+	 * The query must be ordered by root id, each aggregate is emitted as soon as its rows are read.
+	 * The returned stream holds an open connection, so it must be closed after use.
+	 *
+	 * @param sql the sql
+	 * @param params the params
+	 * @return the stream
+	 */
+	protected Stream<T> findStream(String sql, SqlParameterSource params) {
+		return this.findStream(sql, params, this.entityType);
+	}
+
+	/**
+	 * Find stream.
+	 * The query must be ordered by root id, each aggregate is emitted as soon as its rows are read.
+	 * The returned stream holds an open connection, so it must be closed after use.
+	 *
+	 * @param <R>         the type parameter
+	 * @param sql the sql
+	 * @param params the params
+	 * @param returnType the return type
+	 * @return the stream
+	 */
+	protected <R> Stream<R> findStream(String sql, SqlParameterSource params, Class<R> returnType) {
+		StreamingAggregateRowMapper<R> rowMapper =
+			this.entityJdbcProvider.createStreamingAggregateRowMapper(returnType);
+		Stream<R> aggregates = this.getJdbcOperations().queryForStream(sql, params, rowMapper)
+			.filter(Objects::nonNull);
+		Stream<R> last = Stream.of(rowMapper)
+			.map(StreamingAggregateRowMapper::finish)
+			.filter(Objects::nonNull);
+		return Stream.concat(aggregates, last)
+			.map(this::triggerAfterConvert);
+	}
+
+	/**
+	 * Find page.
+	 * The sql must select a single row per aggregate root with the root id column,
+	 * such as {@code SELECT columns() FROM tables() WHERE ... ORDER BY ...}, without limit and offset.
+	 * The order of the page is the order of the sql, so the pageable must be unsorted.
+	 *
+	 * @param sql the sql
+	 * @param params the params
+	 * @param pageable the pageable
+	 * @return the page
+	 */
+	protected Page<T> findPage(String sql, SqlParameterSource params, Pageable pageable) {
+		return this.findPage(sql, params, pageable, this.entityType);
+	}
+
+	/**
+	 * Find page.
+	 * The sql must select a single row per aggregate root with the root id column,
+	 * such as {@code SELECT columns() FROM tables() WHERE ... ORDER BY ...}, without limit and offset.
+	 * Limit and offset are applied to the root ids, and the aggregates of the page are selected by root ids,
+	 * so that a join fan-out never cuts an aggregate in half.
+	 * The order of the page is the order of the sql, so the pageable must be unsorted.
+	 *
+	 * @param <R>         the type parameter
+	 * @param sql the sql
+	 * @param params the params
+	 * @param pageable the pageable
+	 * @param returnType the return type
+	 * @return the page
+	 * @throws IllegalArgumentException if the pageable is sorted
+	 */
+	protected <R> Page<R> findPage(String sql, SqlParameterSource params, Pageable pageable, Class<R> returnType) {
+		Assert.isTrue(pageable.getSort().isUnsorted(),
+			"Sort of the pageable is not applied, order the sql instead. sort: " + pageable.getSort());
+
+		List<Object> rootIds = this.getJdbcOperations().query(
+			this.entityJdbcProvider.paged(sql, pageable),
+			params,
+			this.entityJdbcProvider.getRootIdRowMapper(returnType));
+
+		List<R> content = this.findInRootIds(rootIds, returnType);
+		return PageableExecutionUtils.getPage(content, pageable, () -> Objects.requireNonNull(
+			this.getJdbcOperations().queryForObject(this.entityJdbcProvider.count(sql), params, Long.class)));
+	}
+
+	private <R> List<R> findInRootIds(List<Object> rootIds, Class<R> returnType) {
+		if (rootIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<R> aggregates = this.find(
+			this.entityJdbcProvider.aggregateInIds(returnType),
+			this.mapParameterSource().addValue(SqlGenerator.IDS_SQL_PARAMETER.getReference(), rootIds),
+			returnType);
+
+		// keep the order of the root ids
+		RelationalPersistentEntity<R> entity = this.entityJdbcProvider.getRequiredPersistentEntity(returnType);
+		Map<Object, R> aggregatesById = new HashMap<>();
+		for (R aggregate : aggregates) {
+			aggregatesById.put(entity.getIdentifierAccessor(aggregate).getRequiredIdentifier(), aggregate);
+		}
+
+		List<R> content = new ArrayList<>(rootIds.size());
+		for (Object rootId : rootIds) {
+			R aggregate = aggregatesById.get(rootId);
+			if (aggregate != null) {
+				content.add(aggregate);
+			}
+		}
+		return content;
 	}
 
 	/**
@@ -377,7 +549,7 @@ public abstract class JdbcRepositorySupport<T> {
 	 * @return the optional
 	 */
 	protected <R> Optional<R> findOne(String sql, SqlParameterSource params, Class<R> returnType) {
-		AggregateResultSetExtractor<R> resultSetExtractor = this.getAggregateResultSetExtractor(returnType);
+		AggregateResultSetExtractor<R> resultSetExtractor = this.getAggregateResultSetExtractor(returnType).forSql(sql);
 		return this.findOne(sql, params, resultSetExtractor);
 	}
 
@@ -454,7 +626,7 @@ public abstract class JdbcRepositorySupport<T> {
 	 * @return the r
 	 */
 	protected <R> R requiredOne(String sql, SqlParameterSource params, Class<R> returnType) {
-		AggregateResultSetExtractor<R> resultSetExtractor = this.getAggregateResultSetExtractor(returnType);
+		AggregateResultSetExtractor<R> resultSetExtractor = this.getAggregateResultSetExtractor(returnType).forSql(sql);
 		return this.requiredOne(sql, params, resultSetExtractor);
 	}
 
@@ -516,7 +688,7 @@ public abstract class JdbcRepositorySupport<T> {
 	protected <R> int[] saveBatch(String sql, List<R> aggregate) {
 		return this.getJdbcOperations().batchUpdate(
 			sql,
-			aggregate.stream().map(it -> beanParameterSource(triggerBeforeSave(it))).toArray(SqlParameterSource[]::new)
+			beanBatchParameterSource(aggregate.stream().map(this::triggerBeforeSave).toList())
 		);
 	}
 
@@ -549,4 +721,18 @@ public abstract class JdbcRepositorySupport<T> {
 		return this.getEntityCallbacks()
 			.callback(AfterConvertCallback.class, aggregate);
 	}
+
+	/**
+	 * Trigger after load of every aggregate on the calling thread,
+	 * so that listeners and callbacks see thread bound state, e.g. transaction synchronization.
+	 *
+	 * @param <R>        the type parameter
+	 * @param aggregates the aggregates
+	 * @return the aggregates returned by callbacks, in the order of the aggregates
+	 */
+	protected <R> List<R> triggerAfterConvertAll(List<R> aggregates) {
+		return aggregates.stream()
+			.map(this::triggerAfterConvert)
+			.collect(toList());
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityQueryMappingConfiguration;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class JdbcPlusSqlPreWarmerTest {
+	@Test
+	@DisplayName("mapping context 의 모든 aggregate root 를 pre-warm 하고, 실패한 entity 는 건너뛴다.")
+	void preWarm() {
+		// given
+		RelationalMappingContext mappingContext = new RelationalMappingContext();
+		mappingContext.getRequiredPersistentEntity(Order.class);
+		mappingContext.getRequiredPersistentEntity(Broken.class);
+		SqlProvider sqlProvider = mock(SqlProvider.class);
+		doThrow(new MappingException("broken")).when(sqlProvider).warmUp(Broken.class);
+		EntityQueryMappingConfiguration queryMappingConfiguration = mock(EntityQueryMappingConfiguration.class);
+		JdbcPlusSqlPreWarmer sut = new JdbcPlusSqlPreWarmer(
+			mappingContext, sqlProvider, queryMappingConfiguration, ApplicationStartup.DEFAULT, Runnable::run);
+
+		// when
+		int warmed = sut.preWarm();
+
+		// then
+		assertThat(warmed).isEqualTo(1);
+		verify(sqlProvider).warmUp(Order.class);
+		verify(queryMappingConfiguration).warmUp(Order.class);
+		verify(queryMappingConfiguration, never()).warmUp(Broken.class);
+	}
+
+	@Test
+	@DisplayName("id 가 없는 entity 는 aggregate root 가 아니므로 pre-warm 하지 않는다.")
+	void skipEntityWithoutId() {
+		// given
+		RelationalMappingContext mappingContext = new RelationalMappingContext();
+		mappingContext.getRequiredPersistentEntity(Order.class);
+		mappingContext.getRequiredPersistentEntity(Address.class);
+		SqlProvider sqlProvider = mock(SqlProvider.class);
+		JdbcPlusSqlPreWarmer sut = new JdbcPlusSqlPreWarmer(
+			mappingContext, sqlProvider, null, ApplicationStartup.DEFAULT, Runnable::run);
+
+		// when
+		sut.afterSingletonsInstantiated();
+
+		// then
+		verify(sqlProvider).warmUp(Order.class);
+		verify(sqlProvider, never()).warmUp(Address.class);
+	}
+
+	static class Order {
+		@Id
+		private Long id;
+	}
+
+	static class Broken {
+		@Id
+		private Long id;
+	}
+
+	static class Address {
+		private String city;
+	}
+}
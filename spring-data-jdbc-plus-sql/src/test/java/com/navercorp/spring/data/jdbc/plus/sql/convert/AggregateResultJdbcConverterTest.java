@@ -0,0 +1,310 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class AggregateResultJdbcConverterTest {
+	private static final List<String> BOARD_COLUMNS = List.of(
+		"id", "name",
+		"tags_id", "tags_content", "tags_board_id",
+		"labels_title", "labels_code", "labels_name", "labels_board_id", "labels_board_index",
+		"configs_title", "configs_code", "configs_name", "configs_board_id", "configs_config_key");
+
+	private final JdbcMappingContext mappingContext = new JdbcMappingContext();
+
+	private final AggregateResultJdbcConverter sut =
+		new AggregateResultJdbcConverter(this.mappingContext, mock(RelationResolver.class));
+
+	@Test
+	@DisplayName("id 컬럼이 없는 list, map 원소는 join fan-out 에서도 값이 같아도 key 로 구분한다.")
+	void mapAggregateIdLessDuplicateValues() throws SQLException {
+		// given
+		Object[] label = {"a", "x", "same", 1L};
+		Object[] config = {"b", "y", "same", 1L};
+		ResultSet resultSet = resultSet(
+			BOARD_COLUMNS,
+			boardRow(1L, "tag1", label, 0, config, "k1"),
+			boardRow(2L, "tag2", label, 0, config, "k1"),
+			boardRow(1L, "tag1", label, 1, config, "k2"),
+			boardRow(2L, "tag2", label, 1, config, "k2"));
+
+		// when
+		List<Board> actual = this.sut.mapAggregate(this.boardEntity(), resultSet);
+
+		// then
+		Label expectedLabel = new Label(new LabelId("a", "x"), "same");
+		Label expectedConfig = new Label(new LabelId("b", "y"), "same");
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(0).tags()).extracting(Tag::id).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(actual.get(0).labels()).containsExactly(expectedLabel, expectedLabel);
+		assertThat(actual.get(0).configs()).containsOnly(
+			Map.entry("k1", expectedConfig), Map.entry("k2", expectedConfig));
+	}
+
+	@Test
+	@DisplayName("id 컬럼이 없는 list, map 원소는 join fan-out 에서 key 가 같으면 하나로 합친다.")
+	void mapAggregateIdLessSameKey() throws SQLException {
+		// given
+		Object[] label = {"a", "x", "same", 1L};
+		Object[] config = {"b", "y", "same", 1L};
+		ResultSet resultSet = resultSet(
+			BOARD_COLUMNS,
+			boardRow(1L, "tag1", label, 0, config, "k1"),
+			boardRow(2L, "tag2", label, 0, config, "k1"));
+
+		// when
+		List<Board> actual = this.sut.mapAggregate(this.boardEntity(), resultSet);
+
+		// then
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(0).tags()).hasSize(2);
+		assertThat(actual.get(0).labels()).hasSize(1);
+		assertThat(actual.get(0).configs()).containsOnlyKeys("k1");
+	}
+
+	@Test
+	@DisplayName("1:N:M join 에서 이미 읽은 root, relation 의 fan-out 행 수를 센다.")
+	void fanOutSkipCount() throws SQLException {
+		// given
+		ResultSet resultSet = resultSet(
+			List.of("id", "name", "sections_id", "sections_title", "sections_article_id", "sections_article_index",
+				"sections_tags_id", "sections_tags_content", "sections_tags_section_id"),
+			new Object[] {1L, "article", 10L, "s1", 1L, 0, 11L, "t11", 10L},
+			new Object[] {1L, "article", 10L, "s1", 1L, 0, 12L, "t12", 10L},
+			new Object[] {1L, "article", 20L, "s2", 1L, 1, 21L, "t21", 20L},
+			new Object[] {1L, "article", 20L, "s2", 1L, 1, 22L, "t22", 20L});
+
+		// when
+		List<Article> actual = this.sut.mapAggregate(this.articleEntity(), resultSet);
+
+		// then
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(0).sections()).extracting(Section::id).containsExactly(10L, 20L);
+		assertThat(actual.get(0).sections().get(0).tags()).extracting(Tag::id).containsExactlyInAnyOrder(11L, 12L);
+		assertThat(actual.get(0).sections().get(1).tags()).extracting(Tag::id).containsExactlyInAnyOrder(21L, 22L);
+		assertThat(this.sut.getFanOutSkipCount()).isEqualTo(3 + 2);
+	}
+
+	@Test
+	@DisplayName("같은 sql 의 column layout 은 컬럼 개수가 다르면 다시 읽고, 순서가 달라 mapping 에 실패하면 다음 실행에서 다시 읽는다.")
+	void mapAggregateSameSqlOtherColumns() throws SQLException {
+		// given
+		String sql = "SELECT * FROM n_article";
+		List<String> columns = List.of("id", "name", "sections_id", "sections_title", "sections_article_id");
+		List<String> reordered = List.of("sections_title", "sections_id", "name", "id", "sections_article_id");
+		List<String> narrowed = List.of("name", "id");
+		Object[] reorderedRow = {"s2", 20L, "article2", 2L, 2L};
+
+		// when
+		List<Article> actual = this.sut.mapAggregate(
+			this.articleEntity(),
+			resultSet(columns, new Object[] {1L, "article", 10L, "s1", 1L}),
+			null,
+			sql);
+		Throwable staleLayoutFailure = catchThrowable(() -> this.sut.mapAggregate(
+			this.articleEntity(),
+			resultSet(reordered, reorderedRow),
+			null,
+			sql));
+		List<Article> reorderedActual = this.sut.mapAggregate(
+			this.articleEntity(),
+			resultSet(reordered, reorderedRow),
+			null,
+			sql);
+		List<Article> narrowedActual = this.sut.mapAggregate(
+			this.articleEntity(),
+			resultSet(narrowed, new Object[] {"article3", 3L}),
+			null,
+			sql);
+
+		// then
+		assertThat(actual).singleElement().satisfies(article -> {
+			assertThat(article.id()).isEqualTo(1L);
+			assertThat(article.name()).isEqualTo("article");
+			assertThat(article.sections()).extracting(Section::title).containsExactly("s1");
+		});
+		assertThat(staleLayoutFailure).isInstanceOf(MappingException.class);
+		assertThat(reorderedActual).singleElement().satisfies(article -> {
+			assertThat(article.id()).isEqualTo(2L);
+			assertThat(article.name()).isEqualTo("article2");
+			assertThat(article.sections()).extracting(Section::id, Section::title)
+				.containsExactly(tuple(20L, "s2"));
+		});
+		assertThat(narrowedActual).singleElement().satisfies(article -> {
+			assertThat(article.id()).isEqualTo(3L);
+			assertThat(article.name()).isEqualTo("article3");
+			assertThat(article.sections()).isEmpty();
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private RelationalPersistentEntity<Article> articleEntity() {
+		return (RelationalPersistentEntity<Article>)this.mappingContext.getRequiredPersistentEntity(Article.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RelationalPersistentEntity<Board> boardEntity() {
+		return (RelationalPersistentEntity<Board>)this.mappingContext.getRequiredPersistentEntity(Board.class);
+	}
+
+	private static Object[] boardRow(
+		long tagId, String tagContent, Object[] label, int labelIndex, Object[] config, String configKey) {
+
+		return new Object[] {
+			1L, "board",
+			tagId, tagContent, 1L,
+			label[0], label[1], label[2], label[3], labelIndex,
+			config[0], config[1], config[2], config[3], configKey};
+	}
+
+	/**
+	 * Result set of the rows, reading values by the column index.
+	 */
+	static ResultSet resultSet(List<String> columns, Object[]... rows) throws SQLException {
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(columns.size());
+		for (int i = 0; i < columns.size(); i++) {
+			when(metaData.getColumnLabel(i + 1)).thenReturn(columns.get(i));
+		}
+
+		AtomicInteger cursor = new AtomicInteger(-1);
+		AtomicBoolean wasNull = new AtomicBoolean();
+		return mock(ResultSet.class, invocation -> {
+			String method = invocation.getMethod().getName();
+			switch (method) {
+				case "next":
+					return cursor.incrementAndGet() < rows.length;
+				case "getMetaData":
+					return metaData;
+				case "wasNull":
+					return wasNull.get();
+				case "getObject", "getString", "getLong", "getInt":
+					Object value = rows[cursor.get()][(int)invocation.getArgument(0) - 1];
+					wasNull.set(value == null);
+					if (method.equals("getLong")) {
+						return value != null ? ((Number)value).longValue() : 0L;
+					} else if (method.equals("getInt")) {
+						return value != null ? ((Number)value).intValue() : 0;
+					} else if (method.equals("getString")) {
+						return value != null ? value.toString() : null;
+					}
+					return value;
+				default:
+					return RETURNS_DEFAULTS.answer(invocation);
+			}
+		});
+	}
+
+	@Table("n_board")
+	record Board(
+		@Id
+		Long id,
+
+		String name,
+
+		@MappedCollection(idColumn = "board_id")
+		Set<Tag> tags,
+
+		@MappedCollection(idColumn = "board_id", keyColumn = "board_index")
+		List<Label> labels,
+
+		@MappedCollection(idColumn = "board_id", keyColumn = "config_key")
+		Map<String, Label> configs
+	) {
+	}
+
+	@Table("n_article")
+	record Article(
+		@Id
+		Long id,
+
+		String name,
+
+		@MappedCollection(idColumn = "article_id", keyColumn = "article_index")
+		List<Section> sections
+	) {
+	}
+
+	@Table("n_section")
+	record Section(
+		@Id
+		Long id,
+
+		String title,
+
+		@MappedCollection(idColumn = "section_id")
+		Set<Tag> tags
+	) {
+	}
+
+	@Table("n_tag")
+	record Tag(
+		@Id
+		Long id,
+
+		String content
+	) {
+	}
+
+	@Table("n_label")
+	record Label(
+		@Id
+		@Embedded.Empty
+		LabelId id,
+
+		String name
+	) {
+	}
+
+	record LabelId(
+		String title,
+
+		String code
+	) {
+	}
+}
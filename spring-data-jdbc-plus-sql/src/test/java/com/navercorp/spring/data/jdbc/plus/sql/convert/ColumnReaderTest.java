@@ -0,0 +1,124 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class ColumnReaderTest {
+	@Test
+	@DisplayName("primitive 타입은 typed getter 로 읽고 SQL NULL 은 null 로 읽는다.")
+	void readPrimitive() throws SQLException {
+		// given
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong(1)).thenReturn(0L);
+		when(resultSet.getLong(2)).thenReturn(0L);
+		when(resultSet.getInt(3)).thenReturn(7);
+		when(resultSet.wasNull()).thenReturn(false, true);
+		when(resultSet.getTimestamp(4)).thenReturn(Timestamp.valueOf("2026-01-02 03:04:05"));
+
+		ColumnReader longReader = ColumnReader.of(long.class, new JdbcCustomConversions());
+		ColumnReader intReader = ColumnReader.of(Integer.class, new JdbcCustomConversions());
+		ColumnReader dateTimeReader = ColumnReader.of(LocalDateTime.class, new JdbcCustomConversions());
+
+		// when
+		Object zero = longReader.read(resultSet, 1);
+		Object nullValue = longReader.read(resultSet, 2);
+		Object intValue = intReader.read(resultSet, 3);
+		Object dateTime = dateTimeReader.read(resultSet, 4);
+
+		// then
+		assertThat(zero).isEqualTo(0L);
+		assertThat(nullValue).isNull();
+		assertThat(intValue).isEqualTo(7);
+		assertThat(dateTime).isEqualTo(LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	@DisplayName("지원하지 않거나 custom 읽기 변환이 등록된 타입은 getObject 로 읽는다.")
+	void readObject() {
+		JdbcCustomConversions conversions = new JdbcCustomConversions(List.of(LongToBooleanConverter.INSTANCE));
+
+		assertThat(ColumnReader.of(TestStatus.class, conversions)).isSameAs(ColumnReader.OBJECT);
+		assertThat(ColumnReader.of(boolean.class, conversions)).isSameAs(ColumnReader.OBJECT);
+		assertThat(ColumnReader.of(Long.class, conversions)).isNotSameAs(ColumnReader.OBJECT);
+	}
+
+	@Test
+	@DisplayName("사용자 읽기 변환이 등록된 타입은 변환의 원본 타입과 관계없이 getObject 로 읽는다.")
+	void readObjectByUserConversion() {
+		JdbcCustomConversions conversions = new JdbcCustomConversions(
+			List.of(TimestampToLocalDateTimeConverter.INSTANCE, LocalDateTimeToStringConverter.INSTANCE));
+
+		assertThat(ColumnReader.of(LocalDateTime.class, conversions)).isSameAs(ColumnReader.OBJECT);
+		assertThat(ColumnReader.of(LocalDateTime.class, new JdbcCustomConversions()))
+			.isNotSameAs(ColumnReader.OBJECT);
+		assertThat(ColumnReader.of(String.class, conversions)).isNotSameAs(ColumnReader.OBJECT);
+	}
+
+	enum TestStatus {
+		READY
+	}
+
+	@ReadingConverter
+	enum LongToBooleanConverter implements Converter<Long, Boolean> {
+		INSTANCE;
+
+		@Override
+		public Boolean convert(Long source) {
+			return source != 0;
+		}
+	}
+
+	@ReadingConverter
+	enum TimestampToLocalDateTimeConverter implements Converter<Timestamp, LocalDateTime> {
+		INSTANCE;
+
+		@Override
+		public LocalDateTime convert(Timestamp source) {
+			return source.toLocalDateTime().plusHours(9);
+		}
+	}
+
+	@WritingConverter
+	enum LocalDateTimeToStringConverter implements Converter<LocalDateTime, String> {
+		INSTANCE;
+
+		@Override
+		public String convert(LocalDateTime source) {
+			return source.toString();
+		}
+	}
+}
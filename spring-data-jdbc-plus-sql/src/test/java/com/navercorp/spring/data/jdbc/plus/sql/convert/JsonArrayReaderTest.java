@@ -0,0 +1,77 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.MappingException;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class JsonArrayReaderTest {
+	@Test
+	@DisplayName("JSON 배열의 객체를 Map 으로 읽는다.")
+	void read() {
+		// given
+		String json = "[{\"reviews_review_id\": 1, \"reviews_review_nm\": \"good \\\"one\\\"\\u0021\", "
+			+ "\"reviews_score\": 4.5, \"reviews_deleted\": false, \"reviews_memo\": null}, "
+			+ "{\"reviews_review_id\": 2, \"reviews_tags\": [\"a\", {\"b\": []}]}]";
+
+		// when
+		List<Map<String, Object>> actual = JsonArrayReader.read(json);
+
+		// then
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get(0))
+			.containsEntry("reviews_review_id", 1L)
+			.containsEntry("reviews_review_nm", "good \"one\"!")
+			.containsEntry("reviews_score", new BigDecimal("4.5"))
+			.containsEntry("reviews_deleted", false)
+			.containsEntry("reviews_memo", null);
+		assertThat(actual.get(1))
+			.containsEntry("reviews_review_id", 2L)
+			.containsEntry("reviews_tags", List.of("a", Map.of("b", List.of())));
+	}
+
+	@Test
+	@DisplayName("null 과 byte 배열 JSON 을 읽는다.")
+	void readNullAndBytes() {
+		assertThat(JsonArrayReader.read(null)).isEmpty();
+		assertThat(JsonArrayReader.read("[]".getBytes(StandardCharsets.UTF_8))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("객체 배열이 아니면 MappingException 이 발생한다.")
+	void readInvalid() {
+		assertThatThrownBy(() -> JsonArrayReader.read("{\"a\": 1}"))
+			.isInstanceOf(MappingException.class);
+		assertThatThrownBy(() -> JsonArrayReader.read("[1, 2]"))
+			.isInstanceOf(MappingException.class);
+		assertThatThrownBy(() -> JsonArrayReader.read("[{\"a\": 1}"))
+			.isInstanceOf(MappingException.class);
+	}
+}
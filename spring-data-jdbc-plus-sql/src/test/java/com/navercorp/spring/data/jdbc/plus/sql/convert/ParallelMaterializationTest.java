@@ -0,0 +1,93 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class ParallelMaterializationTest {
+	@Test
+	@DisplayName("threshold 이상이면 병렬로 변환하고 순서를 유지한다.")
+	void mapParallel() {
+		// given
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		ParallelMaterialization sut = new ParallelMaterialization(executor, 10, 4);
+		List<Integer> sources = IntStream.range(0, 1_001).boxed().toList();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		// when
+		List<String> actual = sut.map(sources, source -> {
+			threads.add(Thread.currentThread().getName());
+			return "v" + source;
+		});
+
+		// then
+		assertThat(actual).containsExactlyElementsOf(sources.stream().map(source -> "v" + source).toList());
+		assertThat(threads).contains(Thread.currentThread().getName()).hasSizeGreaterThan(1);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("threshold 미만이면 호출 thread 에서 순차로 변환한다.")
+	void mapSequential() {
+		// given
+		ParallelMaterialization sut = new ParallelMaterialization(
+			command -> {
+				throw new IllegalStateException("must not be called");
+			}, 10, 4);
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		// when
+		List<Integer> actual = sut.map(List.of(1, 2, 3), source -> {
+			threads.add(Thread.currentThread().getName());
+			return source * 2;
+		});
+
+		// then
+		assertThat(actual).containsExactly(2, 4, 6);
+		assertThat(threads).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	@DisplayName("병렬 변환 중 발생한 예외를 그대로 던진다.")
+	void mapParallelFailure() {
+		// given
+		ParallelMaterialization sut = new ParallelMaterialization(Runnable::run, 2, 2);
+
+		// when, then
+		assertThatThrownBy(() -> sut.map(List.of(1, 2, 3, 4), source -> {
+			if (source == 4) {
+				throw new IllegalArgumentException("failure");
+			}
+			return source;
+		})).isInstanceOf(IllegalArgumentException.class).hasMessage("failure");
+	}
+}
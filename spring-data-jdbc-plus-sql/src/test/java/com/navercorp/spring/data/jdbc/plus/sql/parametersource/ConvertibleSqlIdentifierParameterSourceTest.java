@@ -0,0 +1,92 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.parametersource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+import com.navercorp.spring.jdbc.plus.support.parametersource.ProbingSqlParameterSource;
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.DefaultJdbcParameterSourceConverter;
+import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackParameterSource;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class ConvertibleSqlIdentifierParameterSourceTest {
+	private final ConvertibleSqlIdentifierParameterSource sut = new ConvertibleSqlIdentifierParameterSource(
+		new DefaultJdbcParameterSourceConverter(List.of()), new TestFallbackParamSource());
+
+	@Test
+	@DisplayName("등록된 파라미터의 값을 반환합니다.")
+	void getValue() {
+		// given
+		this.sut.addValue(SqlIdentifier.unquoted("name"), "jack");
+
+		// when
+		Object actual = this.sut.getValue("name");
+
+		// then
+		assertThat(actual).isEqualTo("jack");
+	}
+
+	@Test
+	@DisplayName("등록되지 않은 fallback 파라미터는 fallback 값을 반환합니다.")
+	void getValueFallback() {
+		// when
+		Object actual = this.sut.getValue("none");
+
+		// then
+		assertThat(actual).isEqualTo("fallback");
+		assertThat(this.sut.hasValue("none")).isFalse();
+	}
+
+	@Test
+	@DisplayName("등록되지 않고 fallback 도 아닌 파라미터는 IllegalArgumentException 을 던집니다.")
+	void getValueUnknown() {
+		// given
+		this.sut.addValue(SqlIdentifier.unquoted("name"), "jack");
+
+		// when
+		Object probed = this.sut.probeValue("nmae");
+
+		// then
+		assertThat(probed).isSameAs(ProbingSqlParameterSource.ABSENT);
+		assertThatThrownBy(() -> this.sut.getValue("nmae"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("nmae");
+	}
+
+	static class TestFallbackParamSource implements FallbackParameterSource {
+		@Override
+		public boolean isFallback(String paramName) {
+			return paramName.equals("none");
+		}
+
+		@Override
+		public Object fallback(String paramName) {
+			return "fallback";
+		}
+	}
+}
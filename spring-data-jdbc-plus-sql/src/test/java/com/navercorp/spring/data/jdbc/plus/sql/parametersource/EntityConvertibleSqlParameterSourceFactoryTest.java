@@ -0,0 +1,127 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.sql.parametersource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.navercorp.spring.jdbc.plus.support.parametersource.ConvertibleParameterSourceFactory;
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.DefaultJdbcParameterSourceConverter;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class EntityConvertibleSqlParameterSourceFactoryTest {
+	private final RelationalMappingContext context = new JdbcMappingContext();
+	private final JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	private final EntityConvertibleSqlParameterSourceFactory sut = new EntityConvertibleSqlParameterSourceFactory(
+		new ConvertibleParameterSourceFactory(new DefaultJdbcParameterSourceConverter(List.of()), null),
+		this.context,
+		this.converter
+	);
+
+	@Test
+	@DisplayName("Entity 의 column 과 embedded column 을 파라미터로 바인딩하고, 연관 entity 는 제외합니다.")
+	void entityParameterSource() {
+		// given
+		Order order = new Order(1L, "ORDER-1", new Address("Seongnam", "13561"), List.of(new OrderItem("item")));
+
+		// when
+		SqlParameterSource actual = this.sut.entityParameterSource(order);
+
+		// then
+		assertThat(actual.getValue("id")).isEqualTo(1L);
+		assertThat(actual.getValue("order_no")).isEqualTo("ORDER-1");
+		assertThat(actual.getValue("address_city")).isEqualTo("Seongnam");
+		assertThat(actual.getValue("address_zip_code")).isEqualTo("13561");
+		assertThat(actual.hasValue("items")).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 타입의 Entity 는 binding plan 을 재사용하고, null embedded 는 null 로 바인딩합니다.")
+	void entityParameterSourceSameType() {
+		// given
+		Order first = new Order(1L, "ORDER-1", new Address("Seongnam", "13561"), List.of());
+		Order second = new Order(2L, "ORDER-2", null, List.of());
+
+		// when
+		SqlParameterSource firstSource = this.sut.entityParameterSource(first);
+		SqlParameterSource secondSource = this.sut.entityParameterSource(second);
+
+		// then
+		assertThat(firstSource.getValue("order_no")).isEqualTo("ORDER-1");
+		assertThat(secondSource.getValue("order_no")).isEqualTo("ORDER-2");
+		assertThat(secondSource.hasValue("address_city")).isTrue();
+		assertThat(secondSource.getValue("address_city")).isNull();
+	}
+
+	@Test
+	@DisplayName("Entity 목록을 column 단위로 바인딩하여 row 별 SqlParameterSource 로 반환합니다.")
+	void entityBatchParameterSource() {
+		// given
+		List<Order> orders = List.of(
+			new Order(1L, "ORDER-1", new Address("Seongnam", "13561"), List.of()),
+			new Order(2L, "ORDER-2", null, List.of())
+		);
+
+		// when
+		SqlParameterSource[] actual = this.sut.entityBatchParameterSource(orders);
+
+		// then
+		assertThat(actual).hasSize(2);
+		assertThat(actual[0].getValue("order_no")).isEqualTo("ORDER-1");
+		assertThat(actual[0].getValue("address_zip_code")).isEqualTo("13561");
+		assertThat(actual[1].getValue("id")).isEqualTo(2L);
+		assertThat(actual[1].hasValue("address_city")).isTrue();
+		assertThat(actual[1].getValue("address_city")).isNull();
+		assertThat(actual[1].hasValue("items")).isFalse();
+		assertThatThrownBy(() -> actual[1].getValue("items"))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+		assertThat(actual[0].getSqlType("order_no"))
+			.isEqualTo(this.sut.entityParameterSource(orders.get(0)).getSqlType("order_no"));
+	}
+
+	record Order(
+		@Id Long id,
+		String orderNo,
+		@Embedded.Nullable(prefix = "address_") Address address,
+		List<OrderItem> items
+	) {
+	}
+
+	record Address(String city, String zipCode) {
+	}
+
+	record OrderItem(String name) {
+	}
+}
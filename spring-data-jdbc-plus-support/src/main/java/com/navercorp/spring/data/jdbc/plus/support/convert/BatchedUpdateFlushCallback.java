@@ -0,0 +1,50 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.support.convert;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+
+/**
+ * Flushes the current {@link BatchedUpdateScope} before the other after save events and callbacks,
+ * so they read the updated rows and the entities not updated are reported before them.
+ *
+ * @author Myeonghyeon Lee
+ */
+public class BatchedUpdateFlushCallback
+	implements AfterSaveCallback<Object>, ApplicationListener<AfterSaveEvent<?>>, Ordered {
+
+	@Override
+	public void onApplicationEvent(AfterSaveEvent<?> event) {
+		BatchedUpdateScope.flush();
+	}
+
+	@Override
+	public Object onAfterSave(Object aggregate) {
+		BatchedUpdateScope.flush();
+		return aggregate;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.support.convert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Thread-bound scope deferring the updates of {@link JdbcPlusDataAccessStrategy},
+ * which are executed as JDBC batches of the same update statement when the scope is flushed or completes.
+ * Only the updates of entities without relations are deferred, and {@link BatchedUpdateFlushCallback}
+ * flushes the scope before the after save events and callbacks.
+ * The affected rows of each entity are verified when the batches are executed,
+ * so updated rows are not visible to queries inside the scope until it is flushed.
+ *
+ * @author Myeonghyeon Lee
+ */
+public final class BatchedUpdateScope {
+	private static final ThreadLocal<@Nullable BatchedUpdateScope> CURRENT = new ThreadLocal<>();
+
+	private final Map<JdbcPlusDataAccessStrategy, List<PendingUpdate>> pendingUpdates = new LinkedHashMap<>();
+
+	private BatchedUpdateScope() {
+	}
+
+	/**
+	 * Execute the action deferring updates, and execute the deferred updates as batches after the action.
+	 * Nested executions join the outer scope.
+	 *
+	 * @param <R>    the result type parameter
+	 * @param action the action
+	 * @return the result of the action
+	 */
+	public static <R> R execute(Supplier<R> action) {
+		if (CURRENT.get() != null) {
+			return action.get();
+		}
+
+		BatchedUpdateScope scope = new BatchedUpdateScope();
+		CURRENT.set(scope);
+		R result;
+		try {
+			result = action.get();
+		} finally {
+			CURRENT.remove();
+		}
+
+		scope.executePendingUpdates();
+		return result;
+	}
+
+	/**
+	 * Execute the updates deferred so far in the current scope as batches, if any.
+	 */
+	public static void flush() {
+		BatchedUpdateScope scope = CURRENT.get();
+		if (scope != null) {
+			scope.executePendingUpdates();
+		}
+	}
+
+	static @Nullable BatchedUpdateScope current() {
+		return CURRENT.get();
+	}
+
+	void defer(JdbcPlusDataAccessStrategy strategy, PendingUpdate update) {
+		this.pendingUpdates.computeIfAbsent(strategy, s -> new ArrayList<>()).add(update);
+	}
+
+	private void executePendingUpdates() {
+		Map<JdbcPlusDataAccessStrategy, List<PendingUpdate>> updates = new LinkedHashMap<>(this.pendingUpdates);
+		this.pendingUpdates.clear();
+		updates.forEach(JdbcPlusDataAccessStrategy::executeBatchedUpdates);
+	}
+
+	/**
+	 * Deferred update of an entity.
+	 */
+	record PendingUpdate(
+		String sql,
+		SqlParameterSource parameterSource,
+		Object instance,
+		Class<?> domainType,
+		boolean versioned
+	) {
+	}
+}
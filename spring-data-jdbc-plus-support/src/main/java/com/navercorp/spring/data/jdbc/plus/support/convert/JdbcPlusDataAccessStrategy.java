@@ -3,17 +3,37 @@ package com.navercorp.spring.data.jdbc.plus.support.convert;
 import static com.navercorp.spring.data.jdbc.plus.support.convert.SqlGenerator.VERSION_SQL_PARAMETER;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.dialect.IdGeneration;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.util.Assert;
 
+import com.navercorp.spring.data.jdbc.plus.support.parametersource.BatchSqlParametersFactory;
+import com.navercorp.spring.data.jdbc.plus.support.parametersource.BindParameterNameSanitizer;
+import com.navercorp.spring.data.jdbc.plus.support.parametersource.MutableSqlIdentifierParameterSource;
 import com.navercorp.spring.data.jdbc.plus.support.parametersource.SoftDeleteSqlParametersFactory;
 
 public class JdbcPlusDataAccessStrategy extends DelegatingDataAccessStrategy {
@@ -22,6 +42,8 @@ public class JdbcPlusDataAccessStrategy extends DelegatingDataAccessStrategy {
 	private final NamedParameterJdbcOperations operations;
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final SoftDeleteSqlParametersFactory softDeleteSqlParametersFactory;
+	private final BatchSqlParametersFactory batchSqlParametersFactory;
+	private final Map<Class<?>, Boolean> relationsCache = new ConcurrentHashMap<>();
 
 	public JdbcPlusDataAccessStrategy(
 		DataAccessStrategy delegate,
@@ -29,6 +51,24 @@ public class JdbcPlusDataAccessStrategy extends DelegatingDataAccessStrategy {
 		NamedParameterJdbcOperations operations,
 		SqlGeneratorSource sqlGeneratorSource,
 		SoftDeleteSqlParametersFactory softDeleteSqlParametersFactory
+	) {
+		this(
+			delegate,
+			context,
+			operations,
+			sqlGeneratorSource,
+			softDeleteSqlParametersFactory,
+			new BatchSqlParametersFactory(context, sqlGeneratorSource.getConverter())
+		);
+	}
+
+	public JdbcPlusDataAccessStrategy(
+		DataAccessStrategy delegate,
+		RelationalMappingContext context,
+		NamedParameterJdbcOperations operations,
+		SqlGeneratorSource sqlGeneratorSource,
+		SoftDeleteSqlParametersFactory softDeleteSqlParametersFactory,
+		BatchSqlParametersFactory batchSqlParametersFactory
 	) {
 		super(delegate);
 
@@ -36,11 +76,148 @@ public class JdbcPlusDataAccessStrategy extends DelegatingDataAccessStrategy {
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
 		Assert.notNull(sqlGeneratorSource, "SqlGeneratorSource must not be null");
 		Assert.notNull(softDeleteSqlParametersFactory, "SoftDeleteSqlParameterFactory must not be null");
+		Assert.notNull(batchSqlParametersFactory, "BatchSqlParametersFactory must not be null");
 
 		this.context = context;
 		this.operations = operations;
 		this.sqlGeneratorSource = sqlGeneratorSource;
 		this.softDeleteSqlParametersFactory = softDeleteSqlParametersFactory;
+		this.batchSqlParametersFactory = batchSqlParametersFactory;
+	}
+
+	/**
+	 * Inserts the rows in chunks of multi-row {@code INSERT … VALUES (…), (…)} statements,
+	 * instead of a JDBC batch of single-row statements.
+	 * Falls back to the delegate if the dialect does not support multi-row insert,
+	 * or does not return the generated keys of every row.
+	 */
+	@Override
+	public <T> Object[] insert(
+		List<InsertSubject<T>> insertSubjects,
+		Class<T> domainType,
+		IdValueSource idValueSource
+	) {
+		SqlGenerator sql = sql(domainType);
+		boolean generatedIds = IdValueSource.GENERATED.equals(idValueSource);
+		if (insertSubjects.size() < 2 || (generatedIds && !sql.supportsMultiRowInsertGeneratedKeys())) {
+			return super.insert(insertSubjects, domainType, idValueSource);
+		}
+
+		List<MutableSqlIdentifierParameterSource> rows = new ArrayList<>(insertSubjects.size());
+		for (InsertSubject<T> insertSubject : insertSubjects) {
+			rows.add(batchSqlParametersFactory.forInsert(
+				insertSubject.getInstance(),
+				domainType,
+				insertSubject.getIdentifier(),
+				idValueSource
+			));
+		}
+
+		Set<SqlIdentifier> additionalColumns = rows.get(0).getIdentifiers();
+		List<SqlIdentifier> columnNames = sql.getInsertColumns(additionalColumns);
+		int batchSize = sql.getMultiRowInsertBatchSize(columnNames.size());
+		if (batchSize < 2 || columnNames.isEmpty()
+			|| !rows.stream().allMatch(row -> row.getIdentifiers().equals(additionalColumns))) {
+			return super.insert(insertSubjects, domainType, idValueSource);
+		}
+
+		Object[] ids = new Object[rows.size()];
+		for (int from = 0; from < rows.size(); from += batchSize) {
+			int to = Math.min(from + batchSize, rows.size());
+			List<MutableSqlIdentifierParameterSource> chunk = rows.subList(from, to);
+			String insertSql = sql.getMultiRowInsert(additionalColumns, chunk.size());
+			SqlParameterSource parameterSource = getMultiRowParameterSource(columnNames, chunk);
+
+			if (!generatedIds) {
+				operations.update(insertSql, parameterSource);
+				continue;
+			}
+
+			List<Map<String, Object>> keys = executeWithGeneratedKeys(insertSql, parameterSource, domainType);
+			Assert.state(keys.size() == chunk.size(), () -> String.format(
+				"Expected %d generated keys of multi-row insert, but got %d", chunk.size(), keys.size()));
+			for (int i = 0; i < keys.size(); i++) {
+				ids[from + i] = getGeneratedId(keys.get(i), domainType);
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Deferred in a {@link BatchedUpdateScope} unless the entity has relations,
+	 * the affected rows are verified when the batch is executed.
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType) {
+		BatchedUpdateScope scope = BatchedUpdateScope.current();
+		if (scope == null || hasRelations(domainType)) {
+			return super.update(instance, domainType);
+		}
+
+		scope.defer(this, new BatchedUpdateScope.PendingUpdate(
+			sql(domainType).getUpdate(),
+			batchSqlParametersFactory.forUpdate(instance, domainType),
+			instance,
+			domainType,
+			false
+		));
+		return true;
+	}
+
+	/**
+	 * Deferred in a {@link BatchedUpdateScope} unless the entity has relations,
+	 * the versions are verified when the batch is executed.
+	 */
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
+		BatchedUpdateScope scope = BatchedUpdateScope.current();
+		if (scope == null || hasRelations(domainType)) {
+			return super.updateWithVersion(instance, domainType, previousVersion);
+		}
+
+		MutableSqlIdentifierParameterSource parameterSource = batchSqlParametersFactory.forUpdate(instance, domainType);
+		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
+		scope.defer(this, new BatchedUpdateScope.PendingUpdate(
+			sql(domainType).getUpdateWithVersion(),
+			parameterSource,
+			instance,
+			domainType,
+			true
+		));
+		return true;
+	}
+
+	/**
+	 * Upserts the rows of the aggregate roots as a JDBC batch of the cached upsert statement.
+	 * Ids must be provided, and the aggregates must not have entity relations.
+	 *
+	 * @param instances  the aggregate roots
+	 * @param domainType the type of the aggregate roots
+	 * @return the affected rows of each aggregate root, as reported by the driver
+	 */
+	public <T> int[] upsertAll(List<? extends T> instances, Class<T> domainType) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+		for (RelationalPersistentProperty property : persistentEntity) {
+			Assert.state(!property.isEntity() || property.isEmbedded(), () -> String.format(
+				"Upsert does not support the entity relation '%s' of %s", property.getName(), domainType.getName()));
+		}
+		if (instances.isEmpty()) {
+			return new int[0];
+		}
+
+		SqlParameterSource[] parameterSources = new SqlParameterSource[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			T instance = instances.get(i);
+			Assert.notNull(persistentEntity.getIdentifierAccessor(instance).getIdentifier(),
+				() -> "Upsert requires the id of " + domainType.getName());
+			parameterSources[i] = batchSqlParametersFactory.forInsert(
+				instance,
+				domainType,
+				Identifier.empty(),
+				IdValueSource.PROVIDED
+			);
+		}
+		return operations.batchUpdate(sql(domainType).getUpsert(), parameterSources);
 	}
 
 	@Override
@@ -182,6 +359,108 @@ public class JdbcPlusDataAccessStrategy extends DelegatingDataAccessStrategy {
 		);
 	}
 
+	/**
+	 * Execute the deferred updates as batches of the same statement, in the order of the first update of each
+	 * statement. Entities of rows not updated are reported at once, after all batches are executed.
+	 * Row counts unknown to the driver ({@link java.sql.Statement#SUCCESS_NO_INFO}) are regarded as updated.
+	 */
+	void executeBatchedUpdates(List<BatchedUpdateScope.PendingUpdate> updates) {
+		Map<String, List<BatchedUpdateScope.PendingUpdate>> updatesBySql = new LinkedHashMap<>();
+		for (BatchedUpdateScope.PendingUpdate update : updates) {
+			updatesBySql.computeIfAbsent(update.sql(), sql -> new ArrayList<>()).add(update);
+		}
+
+		List<BatchedUpdateScope.PendingUpdate> failures = new ArrayList<>();
+		updatesBySql.forEach((sql, batch) -> {
+			SqlParameterSource[] parameterSources = batch.stream()
+				.map(BatchedUpdateScope.PendingUpdate::parameterSource)
+				.toArray(SqlParameterSource[]::new);
+			int[] affectedRows = operations.batchUpdate(sql, parameterSources);
+			for (int i = 0; i < affectedRows.length; i++) {
+				if (affectedRows[i] == 0) {
+					failures.add(batch.get(i));
+				}
+			}
+		});
+
+		if (failures.isEmpty()) {
+			return;
+		}
+
+		List<String> failedEntities = failures.stream()
+			.map(update -> update.domainType().getName() + " [id=" + context
+				.getRequiredPersistentEntity(update.domainType())
+				.getIdentifierAccessor(update.instance())
+				.getIdentifier() + "]")
+			.toList();
+		if (failures.stream().anyMatch(BatchedUpdateScope.PendingUpdate::versioned)) {
+			throw new OptimisticLockingFailureException(
+				String.format("Optimistic lock exception updating entities %s", failedEntities));
+		}
+		throw new IncorrectUpdateSemanticsDataAccessException(
+			String.format("Failed to update entities %s; Id not found in database", failedEntities));
+	}
+
+	/**
+	 * The rows of child entities are deleted and inserted right after the root update,
+	 * so the root update of an aggregate with relations is not deferred behind them.
+	 */
+	private boolean hasRelations(Class<?> domainType) {
+		return relationsCache.computeIfAbsent(domainType, type -> !context.findPersistentPropertyPaths(
+			type, property -> property.isEntity() && !property.isEmbedded()).isEmpty());
+	}
+
+	private SqlParameterSource getMultiRowParameterSource(
+		List<SqlIdentifier> columnNames,
+		List<MutableSqlIdentifierParameterSource> rows
+	) {
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		for (int row = 0; row < rows.size(); row++) {
+			MutableSqlIdentifierParameterSource rowSource = rows.get(row);
+			for (SqlIdentifier columnName : columnNames) {
+				String name = BindParameterNameSanitizer.sanitize(columnName.getReference());
+				String multiRowName = SqlGenerator.multiRowInsertParameterName(row, columnName);
+				if (rowSource.hasValue(name)) {
+					parameterSource.addValue(multiRowName, rowSource.getValue(name), rowSource.getSqlType(name));
+				} else {
+					parameterSource.addValue(multiRowName, null);
+				}
+			}
+		}
+		return parameterSource;
+	}
+
+	private List<Map<String, Object>> executeWithGeneratedKeys(
+		String insertSql,
+		SqlParameterSource parameterSource,
+		Class<?> domainType
+	) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		IdGeneration idGeneration = sqlGeneratorSource.getDialect().getIdGeneration();
+		if (idGeneration.driverRequiresKeyColumnNames()) {
+			SqlIdentifier idColumn = context.getRequiredPersistentEntity(domainType).getRequiredIdProperty()
+				.getColumnName();
+			String[] keyColumnNames = {idGeneration.getKeyColumnName(idColumn)};
+			operations.update(insertSql, parameterSource, keyHolder, keyColumnNames);
+		} else {
+			operations.update(insertSql, parameterSource, keyHolder);
+		}
+		return keyHolder.getKeyList();
+	}
+
+	/**
+	 * The generated key maps are case-insensitive, and may contain the other columns of the row.
+	 */
+	private @Nullable Object getGeneratedId(Map<String, Object> keys, Class<?> domainType) {
+		if (keys.size() == 1) {
+			return keys.values().iterator().next();
+		}
+
+		SqlIdentifier idColumn = context.getRequiredPersistentEntity(domainType).getRequiredIdProperty()
+			.getColumnName();
+		return keys.get(idColumn.getReference());
+	}
+
 	private boolean supportsSoftDelete(Class<?> domainType) {
 		return getSoftDeleteProperty(domainType).exists();
 	}
@@ -22,6 +22,7 @@ import org.springframework.data.jdbc.core.dialect.JdbcDialect;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
+import com.navercorp.spring.data.jdbc.plus.support.parametersource.BatchSqlParametersFactory;
 import com.navercorp.spring.data.jdbc.plus.support.parametersource.SoftDeleteSqlParametersFactory;
 
 /**
@@ -80,7 +81,8 @@ public class JdbcPlusDataAccessStrategyFactory {
 			this.converter.getMappingContext(),
 			this.operations,
 			jdbcPlusSqlGeneratorSource,
-			softDeleteSqlParametersFactory
+			softDeleteSqlParametersFactory,
+			new BatchSqlParametersFactory(converter)
 		);
 	}
 }
@@ -0,0 +1,91 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.support.convert;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+
+/**
+ * JSON array aggregate function of a {@link Dialect},
+ * for relations applied {@link com.navercorp.spring.jdbc.plus.commons.annotations.SqlFetchMode.Mode#JSON}.
+ *
+ * @author Myeonghyeon Lee
+ */
+enum JsonArrayAggregation {
+	/**
+	 * {@code json_agg(json_build_object('key', value, ...))}
+	 */
+	POSTGRES("json_agg(json_build_object(", ", ", "))"),
+
+	/**
+	 * {@code JSON_ARRAYAGG(JSON_OBJECT('key', value, ...))}
+	 */
+	MYSQL("JSON_ARRAYAGG(JSON_OBJECT(", ", ", "))"),
+
+	/**
+	 * {@code JSON_ARRAYAGG(JSON_OBJECT('key' VALUE value, ...))} of SQL:2016, such as H2 and Oracle.
+	 */
+	STANDARD("JSON_ARRAYAGG(JSON_OBJECT(", " VALUE ", "))");
+
+	private final String prefix;
+	private final String keyValueDelimiter;
+	private final String suffix;
+
+	JsonArrayAggregation(String prefix, String keyValueDelimiter, String suffix) {
+		this.prefix = prefix;
+		this.keyValueDelimiter = keyValueDelimiter;
+		this.suffix = suffix;
+	}
+
+	/**
+	 * Render aggregate function of JSON objects.
+	 *
+	 * @param keyValues the JSON keys and the value expressions
+	 * @return the aggregate function expression
+	 */
+	String render(Map<String, String> keyValues) {
+		StringJoiner joiner = new StringJoiner(", ", this.prefix, this.suffix);
+		for (Map.Entry<String, String> keyValue : keyValues.entrySet()) {
+			joiner.add("'" + keyValue.getKey().replace("'", "''") + "'" + this.keyValueDelimiter + keyValue.getValue());
+		}
+		return joiner.toString();
+	}
+
+	/**
+	 * Resolve the JSON array aggregate function of the dialect.
+	 *
+	 * @param dialect the dialect
+	 * @return the json array aggregation
+	 */
+	static JsonArrayAggregation of(Dialect dialect) {
+		if (dialect instanceof PostgresDialect) {
+			return POSTGRES;
+		} else if (dialect instanceof MySqlDialect) {
+			return MYSQL;
+		} else if (dialect instanceof SqlServerDialect) {
+			throw new UnsupportedOperationException(
+				"JSON array aggregation is not supported. dialect: " + dialect.getClass());
+		}
+		return STANDARD;
+	}
+}
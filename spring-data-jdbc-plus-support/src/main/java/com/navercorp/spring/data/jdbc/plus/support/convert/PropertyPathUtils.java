@@ -16,14 +16,20 @@
 
 package com.navercorp.spring.data.jdbc.plus.support.convert;
 
+import java.util.Set;
+
 import javax.annotation.Nullable;
 
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.AggregatePathTraversal;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.navercorp.spring.jdbc.plus.commons.annotations.SqlFetchMode;
+
 /**
  * PropertyPathUtils to get ColumnAlias and TableAlias applied @SqlTableAlias
  * This methods call is for internal interlocking purposes. Do not call directly.
@@ -99,6 +105,162 @@ public class PropertyPathUtils {
 		return getTableAliasFromTableOwner(tableOwner);
 	}
 
+	/**
+	 * isSplitFetch applied @SqlFetchMode
+	 * Whether the path is a relation of the aggregate root loaded with a separate query.
+	 * Both of the aggregate root and the relation entity must have a single column id.
+	 *
+	 * @param path
+	 * @return
+	 */
+	public static boolean isSplitFetch(AggregatePath path) {
+		if (path.isRoot() || !path.getParentPath().isRoot() || !path.isEntity() || path.isEmbedded()) {
+			return false;
+		}
+
+		if (!hasSingleColumnId(path.getParentPath()) || !hasSingleColumnId(path)) {
+			return false;
+		}
+
+		return getFetchMode(path) == SqlFetchMode.Mode.SPLIT;
+	}
+
+	/**
+	 * isJsonFetch applied @SqlFetchMode
+	 * Whether the path is a collection or map relation of the aggregate root folded into a JSON array column.
+	 * The relation entity must not have nested relations except embedded.
+	 *
+	 * @param path
+	 * @return
+	 */
+	public static boolean isJsonFetch(AggregatePath path) {
+		if (path.isRoot() || !path.getParentPath().isRoot() || !path.isEntity() || path.isEmbedded()) {
+			return false;
+		}
+
+		if (!(path.isCollectionLike() || path.isMap()) || hasNestedRelation(path)) {
+			return false;
+		}
+
+		return getFetchMode(path) == SqlFetchMode.Mode.JSON;
+	}
+
+	/**
+	 * getJsonColumnAlias applied @SqlTableAlias
+	 * Column alias of the JSON array column of a relation applied @SqlFetchMode(JSON).
+	 *
+	 * @param path
+	 * @return
+	 */
+	public static SqlIdentifier getJsonColumnAlias(AggregatePath path) {
+		return getReverseColumnAlias(path, SqlIdentifier.unquoted("json"));
+	}
+
+	/**
+	 * getFetchMode applied @SqlFetchMode
+	 * The annotation of the relation property takes precedence over the annotation of the owner entity.
+	 *
+	 * @param path
+	 * @return
+	 */
+	public static SqlFetchMode.Mode getFetchMode(AggregatePath path) {
+		if (path.isRoot()) {
+			return SqlFetchMode.Mode.JOIN;
+		}
+
+		SqlFetchMode fetchMode = path.getRequiredPersistentPropertyPath().getLeafProperty()
+			.findAnnotation(SqlFetchMode.class);
+		if (fetchMode == null) {
+			RelationalPersistentEntity<?> owner = path.getParentPath().getLeafEntity();
+			fetchMode = owner != null ? owner.findAnnotation(SqlFetchMode.class) : null;
+		}
+		return fetchMode != null ? fetchMode.value() : SqlFetchMode.Mode.JOIN;
+	}
+
+	/**
+	 * getSplitFetchPath applied @SqlFetchMode
+	 * Returns the relation of the aggregate root loaded with a separate query, which contains the path.
+	 *
+	 * @param path
+	 * @return
+	 */
+	@Nullable
+	public static AggregatePath getSplitFetchPath(AggregatePath path) {
+		AggregatePath relationPath = getRootRelationPath(path);
+		return relationPath != null && isSplitFetch(relationPath) ? relationPath : null;
+	}
+
+	/**
+	 * getJsonFetchPath applied @SqlFetchMode
+	 * Returns the relation of the aggregate root folded into a JSON array column, which contains the path.
+	 *
+	 * @param path
+	 * @return
+	 */
+	@Nullable
+	public static AggregatePath getJsonFetchPath(AggregatePath path) {
+		AggregatePath relationPath = getRootRelationPath(path);
+		return relationPath != null && isJsonFetch(relationPath) ? relationPath : null;
+	}
+
+	/**
+	 * isIncludedPath
+	 * Whether every relation containing the path, except embedded, is one of the include paths.
+	 * Properties of the aggregate root are always included.
+	 *
+	 * @param path
+	 * @param includePaths dot paths of the included relations
+	 * @return
+	 */
+	public static boolean isIncludedPath(AggregatePath path, Set<String> includePaths) {
+		AggregatePath relationPath = path;
+		while (!relationPath.isRoot()) {
+			if (relationPath.isEntity() && !relationPath.isEmbedded()
+				&& !includePaths.contains(relationPath.getRequiredPersistentPropertyPath().toDotPath())) {
+				return false;
+			}
+			relationPath = relationPath.getParentPath();
+		}
+		return true;
+	}
+
+	@Nullable
+	private static AggregatePath getRootRelationPath(AggregatePath path) {
+		if (path.isRoot()) {
+			return null;
+		}
+
+		AggregatePath relationPath = path;
+		while (!relationPath.getParentPath().isRoot()) {
+			relationPath = relationPath.getParentPath();
+		}
+		return relationPath;
+	}
+
+	private static boolean hasNestedRelation(AggregatePath path) {
+		RelationalPersistentEntity<?> entity = path.getLeafEntity();
+		if (entity == null) {
+			return false;
+		}
+
+		for (RelationalPersistentProperty property : entity) {
+			if (property.isEmbedded()) {
+				if (hasNestedRelation(path.append(property))) {
+					return true;
+				}
+			} else if (property.isEntity()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasSingleColumnId(AggregatePath path) {
+		RelationalPersistentEntity<?> entity = path.getLeafEntity();
+		RelationalPersistentProperty idProperty = entity != null ? entity.getIdProperty() : null;
+		return idProperty != null && !idProperty.isEmbedded();
+	}
+
 	@Nullable
 	private static SqlIdentifier getTableAliasFromTableOwner(AggregatePath tableOwner) {
 		if (!tableOwner.isRoot()) {    // path != null
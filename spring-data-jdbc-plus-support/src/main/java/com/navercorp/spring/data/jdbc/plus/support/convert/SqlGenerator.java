@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -46,8 +47,15 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.dialect.Db2Dialect;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.AggregatePath.ColumnInfo;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -127,6 +135,25 @@ public class SqlGenerator {
 	 */
 	private static final int FIRST_NON_ROOT_LENGTH = 2;
 
+	/**
+	 * DIFF
+	 * Maximum number of cached statements for each shape of dynamic statements.
+	 */
+	private static final int STATEMENT_CACHE_SIZE = 256;
+
+	/**
+	 * DIFF
+	 * Limit and offset of the cached paged statements, replaced by the limit clause of each page.
+	 */
+	private static final int PAGED_TEMPLATE_LIMIT = 1_000_003;
+	private static final long PAGED_TEMPLATE_OFFSET = 2_000_003L;
+
+	/**
+	 * DIFF
+	 * Maximum number of rows of a multi-row insert statement, which is the row limit of SQL Server.
+	 */
+	private static final int MULTI_ROW_INSERT_MAX_ROWS = 1000;
+
 	private final RelationalPersistentEntity<?> entity;
 	private final RelationalMappingContext mappingContext;
 	private final RenderContext renderContext;
@@ -155,6 +182,24 @@ public class SqlGenerator {
 
 	private final Lazy<String> softDeleteByIdInSql = Lazy.of(this::createSoftDeleteByIdInSql);
 	private final Lazy<String> softDeleteByIdAndVersionSql = Lazy.of(this::createSoftDeleteByIdAndVersionSql);
+
+	// DIFF: dynamic statements are cached by the statement shape
+	private final StatementCache<Sort> findAllSortedSql =
+		new StatementCache<>(STATEMENT_CACHE_SIZE, this::createFindAllSortedSql);
+	private final StatementCache<Sort> findAllPagedSql =
+		new StatementCache<>(STATEMENT_CACHE_SIZE, this::createFindAllPagedTemplateSql);
+	private final Lazy<String> pagedTemplateClause = Lazy.of(
+		() -> this.dialect.limit().getLimitOffset(PAGED_TEMPLATE_LIMIT, PAGED_TEMPLATE_OFFSET));
+	private final StatementCache<ByPropertyShape> findAllByPropertySql =
+		new StatementCache<>(STATEMENT_CACHE_SIZE, this::createFindAllByPropertySql);
+	private final StatementCache<Set<SqlIdentifier>> insertSql =
+		new StatementCache<>(STATEMENT_CACHE_SIZE, this::createInsertSql);
+	private final StatementCache<MultiRowInsertShape> multiRowInsertSql =
+		new StatementCache<>(STATEMENT_CACHE_SIZE, this::createMultiRowInsertSql);
+	private final StatementCache<LockMode> acquireLockByIdSql =
+		new StatementCache<>(LockMode.values().length, this::createAcquireLockById);
+	private final StatementCache<LockMode> acquireLockAllSql =
+		new StatementCache<>(LockMode.values().length, this::createAcquireLockAll);
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
 	private final SoftDeleteProperty softDeleteProperty;
@@ -332,7 +377,7 @@ public class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+		return findAllSortedSql.get(sort);
 	}
 
 	/**
@@ -343,7 +388,37 @@ public class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+		if (pageable.isUnpaged()) {
+			return findAllSortedSql.get(pageable.getSort());
+		}
+
+		// DIFF: a statement is cached per sort, the limit clause of the template values is replaced for each page
+		String template = findAllPagedSql.get(pageable.getSort());
+		String templateClause = pagedTemplateClause.get();
+		int index = template.lastIndexOf(templateClause);
+		if (index < 0) {
+			return createFindAllPagedSql(pageable.getSort(), pageable.getPageSize(), pageable.getOffset());
+		}
+		return template.substring(0, index)
+			+ this.dialect.limit().getLimitOffset(pageable.getPageSize(), pageable.getOffset())
+			+ template.substring(index + templateClause.length());
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method.
+	 * Statistics of the cached dynamic statements, such as sorted, paged, by property, insert and lock statements.
+	 *
+	 * @return the statistics summed up for all shapes of dynamic statements
+	 */
+	public StatementCacheStatistics getStatementCacheStatistics() {
+		return findAllSortedSql.getStatistics()
+			.plus(findAllPagedSql.getStatistics())
+			.plus(findAllByPropertySql.getStatistics())
+			.plus(insertSql.getStatistics())
+			.plus(multiRowInsertSql.getStatistics())
+			.plus(acquireLockByIdSql.getStatistics())
+			.plus(acquireLockAllSql.getStatistics());
 	}
 
 	/**
@@ -389,6 +464,14 @@ public class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 			"If the SQL statement should be ordered a keyColumn to order by must be provided");
 
+		return findAllByPropertySql.get(
+			new ByPropertyShape(List.copyOf(parentIdentifier.toMap().keySet()), keyColumn, ordered));
+	}
+
+	private String createFindAllByPropertySql(ByPropertyShape shape) {
+		AggregatePath.ColumnInfo keyColumn = shape.keyColumn();
+		boolean ordered = shape.ordered();
+
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder(
@@ -397,7 +480,7 @@ public class SqlGenerator {
 				: Collections.singleton(keyColumn.name())
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForBackReference(shape.backReferenceColumns(), table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
 		Select select = ordered //
@@ -407,10 +490,10 @@ public class SqlGenerator {
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	private Condition buildConditionForBackReference(List<SqlIdentifier> backReferenceColumns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : backReferenceColumns) {
 			Assert.isTrue(
 				!SqlIdentifier.EMPTY.equals(backReferenceColumn),
 				"An empty SqlIdentifier can't be used in condition. "
@@ -452,7 +535,7 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockById(LockMode lockMode) {
-		return this.createAcquireLockById(lockMode);
+		return this.acquireLockByIdSql.get(lockMode);
 	}
 
 	/**
@@ -462,7 +545,7 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockAll(LockMode lockMode) {
-		return this.createAcquireLockAll(lockMode);
+		return this.acquireLockAllSql.get(lockMode);
 	}
 
 	/**
@@ -471,7 +554,77 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return insertSql.get(Set.copyOf(additionalColumns));
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method.
+	 * Create a {@code INSERT INTO … (…) VALUES (…), (…)} statement of the rows.
+	 * The values of each row are bound by {@link #multiRowInsertParameterName(int, SqlIdentifier)}.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getMultiRowInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+		return multiRowInsertSql.get(new MultiRowInsertShape(Set.copyOf(additionalColumns), rows));
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method.
+	 * The columns of {@link #getInsert(Set)} and {@link #getMultiRowInsert(Set, int)}, in the rendered order.
+	 */
+	List<SqlIdentifier> getInsertColumns(Set<SqlIdentifier> additionalColumns) {
+		Set<SqlIdentifier> columnNamesForInsert =
+			new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForInsert.addAll(columns.getInsertableColumns());
+		columnNamesForInsert.addAll(additionalColumns);
+		return new ArrayList<>(columnNamesForInsert);
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method.
+	 * Maximum number of rows of a multi-row insert statement, bounded by the bind parameter limit of the dialect.
+	 *
+	 * @return the number of rows, or {@literal 0} if the dialect does not support multi-row insert.
+	 */
+	int getMultiRowInsertBatchSize(int columnCount) {
+		int maxBindParameters;
+		if (dialect instanceof SqlServerDialect) {
+			maxBindParameters = 2000;
+		} else if (dialect instanceof MySqlDialect) {
+			maxBindParameters = 65535;
+		} else if (dialect instanceof PostgresDialect
+			|| dialect instanceof H2Dialect
+			|| dialect instanceof HsqlDbDialect
+			|| dialect instanceof Db2Dialect) {
+			maxBindParameters = Short.MAX_VALUE;
+		} else {
+			return 0;
+		}
+
+		return Math.min(MULTI_ROW_INSERT_MAX_ROWS, maxBindParameters / Math.max(columnCount, 1));
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method.
+	 * Whether the driver of the dialect returns the generated keys of every row of a multi-row insert in order.
+	 */
+	boolean supportsMultiRowInsertGeneratedKeys() {
+		return dialect instanceof PostgresDialect
+			|| dialect instanceof MySqlDialect
+			|| dialect instanceof H2Dialect;
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method.
+	 * Name of the bind parameter of the column value of the row in a multi-row insert statement.
+	 */
+	static String multiRowInsertParameterName(int row, SqlIdentifier columnName) {
+		return "r" + row + "_" + BindParameterNameSanitizer.sanitize(columnName.getReference());
 	}
 
 	/**
@@ -497,8 +650,11 @@ public class SqlGenerator {
 	 * Create a {@code INSERT INTO … SET ID = :id,… ON DUPLICATE KEY UPDATE …} statement.
 	 * ON DUPLICATE KEY UPDATE of this statement supports MySQL Dialect.
 	 * Don't use it as it provides an experimental method.
+	 * DIFF: {@code ON CONFLICT} for PostgreSQL, {@code MERGE … KEY} for H2
+	 * and {@code MERGE} for Oracle and SQL Server.
 	 *
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the dialect is none of the above.
 	 */
 	String getUpsert() {
 		return upsertSql.get();
@@ -740,6 +896,20 @@ public class SqlGenerator {
 		return render(selectBuilder().build());
 	}
 
+	private String createFindAllSortedSql(Sort sort) {
+		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+	}
+
+	private String createFindAllPagedTemplateSql(Sort sort) {
+		return createFindAllPagedSql(sort, PAGED_TEMPLATE_LIMIT, PAGED_TEMPLATE_OFFSET);
+	}
+
+	private String createFindAllPagedSql(Sort sort, int limit, long offset) {
+		SelectBuilder.SelectOrdered sortable = this.selectBuilder(Collections.emptyList());
+		sortable = applyLimitOffset(limit, offset, sortable);
+		return render(sortable.orderBy(extractOrderByFields(sort)).build());
+	}
+
 	private SelectBuilder.SelectWhere selectBuilder() {
 		return selectBuilder(Collections.emptyList());
 	}
@@ -886,12 +1056,24 @@ public class SqlGenerator {
 			return select;
 		}
 
+		return applyLimitOffset(pageable.getPageSize(), pageable.getOffset(), select);
+	}
+
+	/**
+	 * DIFF
+	 * Split from {@link #applyPagination(Pageable, SelectBuilder.SelectOrdered)} to render cached page shapes.
+	 */
+	private SelectBuilder.SelectOrdered applyLimitOffset(
+		int limit,
+		long offset,
+		SelectBuilder.SelectOrdered select
+	) {
+
 		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
 			() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
 
 		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset)select;
-		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(
-			pageable.getPageSize(), pageable.getOffset());
+		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(limit, offset);
 
 		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
 			"The result of applying the limit-clause must be of type SelectOrdered "
@@ -961,8 +1143,53 @@ public class SqlGenerator {
 	/**
 	 * DIFF
 	 * Additional custom method for {@link SqlProvider}.
+	 * Relations of {@link com.navercorp.spring.jdbc.plus.commons.annotations.SqlFetchMode.Mode#SPLIT}
+	 * are excluded, they are selected by {@link #selectAggregateSplitFrom(AggregatePath)}.
+	 * Relations of {@link com.navercorp.spring.jdbc.plus.commons.annotations.SqlFetchMode.Mode#JSON}
+	 * are selected as a JSON array column by a correlated subquery.
 	 */
 	String selectAggregateFrom() {
+		return this.render(selectAggregate(path -> true).build());
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method for {@link SqlProvider}.
+	 * Same as {@link #selectAggregateFrom()}, only the relations of the include paths are selected and joined.
+	 * Parent relations of an include path are included as well.
+	 */
+	String selectAggregateFrom(Set<String> includePaths) {
+		Set<String> includeRelationPaths = new HashSet<>();
+		for (String includePath : includePaths) {
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath =
+				mappingContext.getPersistentPropertyPath(includePath, entity.getType());
+			if (!propertyPath.getRequiredLeafProperty().isEntity()) {
+				throw new MappingException(
+					"Include path must be a relation. path: " + includePath + ", entity: " + entity.getType());
+			}
+			for (int index = includePath.indexOf('.'); index > 0; index = includePath.indexOf('.', index + 1)) {
+				includeRelationPaths.add(includePath.substring(0, index));
+			}
+			includeRelationPaths.add(includePath);
+		}
+		return this.render(selectAggregate(
+			path -> PropertyPathUtils.isIncludedPath(path, includeRelationPaths)).build());
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method for {@link SqlProvider}.
+	 * Same as {@link #selectAggregateFrom()}, filtered by root ids {@code IN (:ids)}.
+	 */
+	String selectAggregateInIds() {
+		List<Column> idColumns = getIdColumns();
+		Condition condition = Conditions.in(
+			idColumns.size() == 1 ? idColumns.get(0) : TupleExpression.create(idColumns),
+			getBindMarker(IDS_SQL_PARAMETER));
+		return this.render(selectAggregate(path -> true).where(condition).build());
+	}
+
+	private SelectBuilder.SelectWhere selectAggregate(Predicate<AggregatePath> pathFilter) {
 		Table table = getTable();
 
 		List<Expression> columnExpressions = new ArrayList<>();
@@ -972,56 +1199,178 @@ public class SqlGenerator {
 			.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
 			AggregatePath extPath = mappingContext.getAggregatePath(path);
+			if (PropertyPathUtils.getSplitFetchPath(extPath) != null || !pathFilter.test(extPath)) {
+				continue;
+			}
+
+			AggregatePath jsonPath = PropertyPathUtils.getJsonFetchPath(extPath);
+			if (jsonPath != null) {
+				if (jsonPath.equals(extPath)) {
+					columnExpressions.add(getAggregateJsonColumn(jsonPath));
+				}
+				continue;
+			}
 
 			// add a join if necessary
-			if (extPath.isEntity() && !extPath.isEmbedded()) {
-				Table currentTable = sqlContext.getTable(extPath);
-				AggregatePath.ColumnInfos backRefColumnInfos = extPath.getTableInfo().backReferenceColumnInfos();
+			Join join = getAggregateJoin(extPath);
+			if (join != null) {
+				joinTables.add(join);
+			}
+
+			Column column = getAggregateColumn(extPath);
+			if (column != null) {
+				columnExpressions.add(column);
+			}
+		}
 
-				AggregatePath idDefiningParentPath = extPath.getIdDefiningParentPath();
-				Table parentTable = sqlContext.getTable(idDefiningParentPath);
+		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
+		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
 
-				AggregatePath.ColumnInfos idColumnInfos = idDefiningParentPath.getTableInfo().idColumnInfos();
+		return (SelectBuilder.SelectWhere)addJoins(baseSelect, Joins.of(joinTables));
+	}
 
-				Condition joinCondition = backRefColumnInfos.reduce(
-					Conditions.unrestricted(), (aggregatePath, columnInfo) -> {
+	/**
+	 * DIFF
+	 * Additional custom method for {@link SqlProvider}.
+	 * Selects a relation of the aggregate root and its nested relations, filtered by back reference {@code IN (:ids)}.
+	 * Columns are aliased same as {@link #selectAggregateFrom()}, and the back reference column is added.
+	 */
+	String selectAggregateSplitFrom(AggregatePath splitPath) {
+		Assert.isTrue(PropertyPathUtils.isSplitFetch(splitPath), "splitPath must be a split fetch relation.");
 
-						AggregatePath.ColumnInfo idColumnInfo = idColumnInfos.get(aggregatePath);
+		Table table = sqlContext.getTable(splitPath);
 
-						Assert.notNull(idColumnInfo, "IdColumnInfo must not be null");
+		List<Expression> columnExpressions = new ArrayList<>();
+		columnExpressions.add(sqlContext.getAnyReverseColumn(splitPath));
 
-						return currentTable.column(
-							columnInfo.name()).isEqualTo(parentTable.column(idColumnInfo.name()));
-					}, Condition::and);
+		List<Join> joinTables = new ArrayList<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+			.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
-				joinTables.add(new Join(currentTable, joinCondition));
+			AggregatePath extPath = mappingContext.getAggregatePath(path);
+			if (!splitPath.equals(PropertyPathUtils.getSplitFetchPath(extPath))) {
+				continue;
 			}
 
-			Column column;
-			if (extPath.isEmbedded()) {
-				column = null;
-			} else if (extPath.isEntity()) {
-				if (extPath.isQualified() //
-					|| extPath.isCollectionLike() //
-					|| extPath.hasIdProperty() //
-				) {
-					column = null;
-				} else {
-					column = sqlContext.getAnyReverseColumn(extPath);
-				}
-			} else {
-				column = sqlContext.getColumn(extPath);
+			// the split relation table is the base table
+			Join join = extPath.equals(splitPath) ? null : getAggregateJoin(extPath);
+			if (join != null) {
+				joinTables.add(join);
 			}
 
+			Column column = getAggregateColumn(extPath);
 			if (column != null) {
 				columnExpressions.add(column);
 			}
 		}
 
+		Column backReferenceColumn = table.column(splitPath.getTableInfo().backReferenceColumnInfos().any().name());
+		Condition condition = Conditions.in(backReferenceColumn, getBindMarker(IDS_SQL_PARAMETER));
+
 		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
 		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
 
-		return this.render(addJoins(baseSelect, Joins.of(joinTables)).build());
+		SelectBuilder.SelectWhere selectWhere = (SelectBuilder.SelectWhere)addJoins(baseSelect, Joins.of(joinTables));
+		return this.render(selectWhere.where(condition).build());
+	}
+
+	/**
+	 * DIFF
+	 * Additional custom method for {@link SqlProvider}.
+	 */
+	List<AggregatePath> getSplitFetchPaths() {
+		List<AggregatePath> splitPaths = new ArrayList<>();
+		AggregatePath rootPath = mappingContext.getAggregatePath(entity);
+		for (RelationalPersistentProperty property : entity) {
+			AggregatePath relationPath = rootPath.append(property);
+			if (PropertyPathUtils.isSplitFetch(relationPath)) {
+				splitPaths.add(relationPath);
+			}
+		}
+		return splitPaths;
+	}
+
+	private Expression getAggregateJsonColumn(AggregatePath jsonPath) {
+		IdentifierProcessing identifierProcessing = this.renderContext.getIdentifierProcessing();
+		Table table = sqlContext.getTable(jsonPath);
+
+		Map<String, String> jsonValues = new LinkedHashMap<>();
+		if (jsonPath.isMap()) {
+			SqlIdentifier tableAlias = Objects.requireNonNull(PropertyPathUtils.getTableAlias(jsonPath));
+			SqlIdentifier keyColumn = Objects.requireNonNull(jsonPath.getTableInfo().qualifierColumnInfo()).name();
+			jsonValues.put(
+				tableAlias.getReference() + "_" + keyColumn.getReference(),
+				table.getReferenceName().toSql(identifierProcessing) + "." + keyColumn.toSql(identifierProcessing));
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+			.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			AggregatePath extPath = mappingContext.getAggregatePath(path);
+			if (extPath.isEntity() || !jsonPath.equals(PropertyPathUtils.getJsonFetchPath(extPath))) {
+				continue;
+			}
+
+			Table columnTable = sqlContext.getTable(extPath);
+			jsonValues.put(
+				PropertyPathUtils.getColumnAlias(extPath).getReference(),
+				columnTable.getReferenceName().toSql(identifierProcessing)
+					+ "." + extPath.getColumnInfo().name().toSql(identifierProcessing));
+		}
+
+		Join join = Objects.requireNonNull(getAggregateJoin(jsonPath));
+		Select select = StatementBuilder
+			.select(Expressions.just(JsonArrayAggregation.of(dialect).render(jsonValues)))
+			.from(table)
+			.where(join.getOn())
+			.build();
+
+		return Expressions.just("(" + render(select) + ") AS "
+			+ PropertyPathUtils.getJsonColumnAlias(jsonPath).toSql(identifierProcessing));
+	}
+
+	@Nullable
+	private Join getAggregateJoin(AggregatePath extPath) {
+		if (!extPath.isEntity() || extPath.isEmbedded()) {
+			return null;
+		}
+
+		Table currentTable = sqlContext.getTable(extPath);
+		AggregatePath.ColumnInfos backRefColumnInfos = extPath.getTableInfo().backReferenceColumnInfos();
+
+		AggregatePath idDefiningParentPath = extPath.getIdDefiningParentPath();
+		Table parentTable = sqlContext.getTable(idDefiningParentPath);
+
+		AggregatePath.ColumnInfos idColumnInfos = idDefiningParentPath.getTableInfo().idColumnInfos();
+
+		Condition joinCondition = backRefColumnInfos.reduce(
+			Conditions.unrestricted(), (aggregatePath, columnInfo) -> {
+
+				AggregatePath.ColumnInfo idColumnInfo = idColumnInfos.get(aggregatePath);
+
+				Assert.notNull(idColumnInfo, "IdColumnInfo must not be null");
+
+				return currentTable.column(
+					columnInfo.name()).isEqualTo(parentTable.column(idColumnInfo.name()));
+			}, Condition::and);
+
+		return new Join(currentTable, joinCondition);
+	}
+
+	@Nullable
+	private Column getAggregateColumn(AggregatePath extPath) {
+		if (extPath.isEmbedded()) {
+			return null;
+		} else if (extPath.isEntity()) {
+			if (extPath.isQualified() //
+				|| extPath.isCollectionLike() //
+				|| extPath.hasIdProperty() //
+			) {
+				return null;
+			}
+			return sqlContext.getAnyReverseColumn(extPath);
+		}
+		return sqlContext.getColumn(extPath);
 	}
 
 	/**
@@ -1173,6 +1522,39 @@ public class SqlGenerator {
 		return render(insertWithValues.build());
 	}
 
+	private String createMultiRowInsertSql(MultiRowInsertShape shape) {
+		Assert.isTrue(shape.rows() > 0, "Multi-row insert requires at least one row");
+
+		List<SqlIdentifier> columnNamesForInsert = getInsertColumns(shape.additionalColumns());
+		Assert.isTrue(!columnNamesForInsert.isEmpty(), "Multi-row insert requires at least one column");
+
+		Table table = getDmlTable();
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
+		for (SqlIdentifier cn : columnNamesForInsert) {
+			insert = insert.column(table.column(cn));
+		}
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+		for (SqlIdentifier cn : columnNamesForInsert) {
+			insertWithValues = (insertWithValues == null
+				? insert
+				: insertWithValues).values(SQL.bindMarker(":" + multiRowInsertParameterName(0, cn)));
+		}
+
+		StringBuilder sql = new StringBuilder(render(insertWithValues.build()));
+		for (int row = 1; row < shape.rows(); row++) {
+			sql.append(", (");
+			for (int i = 0; i < columnNamesForInsert.size(); i++) {
+				if (i > 0) {
+					sql.append(", ");
+				}
+				sql.append(':').append(multiRowInsertParameterName(row, columnNamesForInsert.get(i)));
+			}
+			sql.append(')');
+		}
+		return sql.toString();
+	}
+
 	private String createUpdateSql() {
 		return render(createBaseUpdate().build());
 	}
@@ -1204,31 +1586,107 @@ public class SqlGenerator {
 	}
 
 	private String createUpsertSql() {
+		if (dialect instanceof MySqlDialect) {
+			return createOnDuplicateKeyUpsertSql();
+		}
+		if (dialect instanceof PostgresDialect) {
+			return createOnConflictUpsertSql();
+		}
+		if (dialect instanceof H2Dialect) {
+			return createMergeKeyUpsertSql();
+		}
+		if (dialect instanceof OracleDialect || dialect instanceof SqlServerDialect) {
+			return createMergeUpsertSql();
+		}
+		throw new UnsupportedOperationException("Upsert is not supported by dialect " + dialect.getClass().getName());
+	}
+
+	/**
+	 * DIFF
+	 * {@code INSERT INTO … SET … ON DUPLICATE KEY UPDATE …} of MySQL and MariaDB,
+	 * the id is assigned to itself when there are no updatable columns.
+	 */
+	private String createOnDuplicateKeyUpsertSql() {
+		String updatableAssignments = upsertAssignments(columns.getUpdatableColumns());
+		if (updatableAssignments.isEmpty()) {
+			String idColumnName = upsertColumnNames(List.of(columns.idColumnNames.get(0)));
+			updatableAssignments = idColumnName + " = " + idColumnName;
+		}
+		return "INSERT INTO " + upsertTableName() + " SET " + upsertAssignments(upsertInsertColumns())
+			+ " ON DUPLICATE KEY UPDATE " + updatableAssignments;
+	}
+
+	/**
+	 * DIFF
+	 * {@code INSERT INTO … (…) VALUES (…) ON CONFLICT (ID) DO UPDATE SET …} of PostgreSQL.
+	 */
+	private String createOnConflictUpsertSql() {
+		String updatableAssignments = upsertAssignments(columns.getUpdatableColumns());
+		return "INSERT INTO " + upsertTableName() + " (" + upsertColumnNames(upsertInsertColumns()) + ")"
+			+ " VALUES (" + upsertBindMarkers(upsertInsertColumns()) + ")"
+			+ " ON CONFLICT (" + upsertColumnNames(columns.idColumnNames) + ")"
+			+ (updatableAssignments.isEmpty() ? " DO NOTHING" : " DO UPDATE SET " + updatableAssignments);
+	}
+
+	/**
+	 * DIFF
+	 * {@code MERGE INTO … (…) KEY (ID) VALUES (…)} of H2, insert only columns are also updated.
+	 */
+	private String createMergeKeyUpsertSql() {
+		return "MERGE INTO " + upsertTableName() + " (" + upsertColumnNames(upsertInsertColumns()) + ")"
+			+ " KEY (" + upsertColumnNames(columns.idColumnNames) + ")"
+			+ " VALUES (" + upsertBindMarkers(upsertInsertColumns()) + ")";
+	}
+
+	/**
+	 * DIFF
+	 * {@code MERGE INTO … USING … ON (ID = :id) WHEN MATCHED … WHEN NOT MATCHED …} of Oracle and SQL Server.
+	 */
+	private String createMergeUpsertSql() {
+		boolean oracle = dialect instanceof OracleDialect;
+		String idCondition = columns.idColumnNames.stream()
+			.map(columnName -> upsertColumnNames(List.of(columnName)) + " = " + upsertBindMarkers(List.of(columnName)))
+			.collect(Collectors.joining(" AND "));
+		String updatableAssignments = upsertAssignments(columns.getUpdatableColumns());
+
+		return "MERGE INTO " + upsertTableName()
+			+ (oracle ? " USING DUAL" : " USING (SELECT 1 AS one) AS upsert_source")
+			+ " ON (" + idCondition + ")"
+			+ (updatableAssignments.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + updatableAssignments)
+			+ " WHEN NOT MATCHED THEN INSERT (" + upsertColumnNames(upsertInsertColumns()) + ")"
+			+ " VALUES (" + upsertBindMarkers(upsertInsertColumns()) + ")"
+			+ (oracle ? "" : ";");
+	}
+
+	private String upsertTableName() {
+		return this.renderContext.getNamingStrategy().getName(getDmlTable())
+			.toSql(this.renderContext.getIdentifierProcessing());
+	}
+
+	private List<SqlIdentifier> upsertInsertColumns() {
+		return Stream.concat(columns.idColumnNames.stream(), columns.getInsertableColumns().stream()).toList();
+	}
+
+	private String upsertColumnNames(Collection<SqlIdentifier> columnNames) {
 		Table table = getDmlTable();
 		RenderNamingStrategy namingStrategy = this.renderContext.getNamingStrategy();
 		IdentifierProcessing identifierProcessing = this.renderContext.getIdentifierProcessing();
-
-		String tableName = namingStrategy.getName(table).toSql(identifierProcessing);
-		String insertableAssignmentsSql = Stream.concat(
-				columns.idColumnNames.stream(),
-				columns.getInsertableColumns().stream()
-			)
-			.map(columnName -> {
-				String name = namingStrategy.getName(table.column(columnName)).toSql(identifierProcessing);
-				String bindMarkerName = ((Named)getBindMarker(columnName)).getName().toSql(identifierProcessing);
-				return name + " = " + bindMarkerName;
-			})
+		return columnNames.stream()
+			.map(columnName -> namingStrategy.getName(table.column(columnName)).toSql(identifierProcessing))
 			.collect(Collectors.joining(", "));
-		String updatableAssignmentsSql = columns.getUpdatableColumns().stream()
-			.map(columnName -> {
-				String name = namingStrategy.getName(table.column(columnName)).toSql(identifierProcessing);
-				String bindMarkerName = ((Named)getBindMarker(columnName)).getName().toSql(identifierProcessing);
-				return name + " = " + bindMarkerName;
-			})
+	}
+
+	private String upsertBindMarkers(Collection<SqlIdentifier> columnNames) {
+		IdentifierProcessing identifierProcessing = this.renderContext.getIdentifierProcessing();
+		return columnNames.stream()
+			.map(columnName -> ((Named)getBindMarker(columnName)).getName().toSql(identifierProcessing))
 			.collect(Collectors.joining(", "));
+	}
 
-		return "INSERT INTO " + tableName + " SET " + insertableAssignmentsSql
-			+ " ON DUPLICATE KEY UPDATE " + updatableAssignmentsSql;
+	private String upsertAssignments(Collection<SqlIdentifier> columnNames) {
+		return columnNames.stream()
+			.map(columnName -> upsertColumnNames(List.of(columnName)) + " = " + upsertBindMarkers(List.of(columnName)))
+			.collect(Collectors.joining(", "));
 	}
 
 	private String createDeleteByIdSql() {
@@ -1798,6 +2256,24 @@ public class SqlGenerator {
 	record Join(Table joinTable, Condition condition) {
 	}
 
+	/**
+	 * DIFF
+	 * Shape of a multi-row insert statement.
+	 */
+	private record MultiRowInsertShape(Set<SqlIdentifier> additionalColumns, int rows) {
+	}
+
+	/**
+	 * DIFF
+	 * Shape of a statement selecting rows referencing a parent entity.
+	 */
+	private record ByPropertyShape(
+		List<SqlIdentifier> backReferenceColumns,
+		AggregatePath.@Nullable ColumnInfo keyColumn,
+		boolean ordered
+	) {
+	}
+
 	/**
 	 * Value object encapsulating column name caches.
 	 *
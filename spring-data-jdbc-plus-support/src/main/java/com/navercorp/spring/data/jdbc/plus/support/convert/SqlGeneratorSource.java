@@ -17,6 +17,7 @@
 package com.navercorp.spring.data.jdbc.plus.support.convert;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -42,6 +43,8 @@ import org.springframework.util.ConcurrentReferenceHashMap;
 public class SqlGeneratorSource {
 
 	private final Map<Class<?>, SqlGenerator> cache = new ConcurrentReferenceHashMap<>();
+	// DIFF: generators pinned by pre-warming, which are not evicted
+	private final Map<Class<?>, SqlGenerator> pinned = new ConcurrentHashMap<>();
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
@@ -70,6 +73,11 @@ public class SqlGeneratorSource {
 	 * Additional instantiate for internal extension.
 	 */
 	public SqlGenerator getSqlGenerator(Class<?> domainType) {
+		SqlGenerator pinnedGenerator = pinned.get(domainType);
+		if (pinnedGenerator != null) {
+			return pinnedGenerator;
+		}
+
 		return cache.computeIfAbsent(domainType, t -> {
 			RelationalPersistentEntity<?> persistentEntity =
 				context.getRequiredPersistentEntity(domainType);
@@ -82,6 +90,28 @@ public class SqlGeneratorSource {
 		});
 	}
 
+	/**
+	 * DIFF
+	 * Additional method for pre-warming.
+	 * Gets the generator of the domain type, and keeps it from being evicted by the garbage collector.
+	 *
+	 * @param domainType the domain type
+	 * @return the pinned generator
+	 */
+	public SqlGenerator pin(Class<?> domainType) {
+		return pinned.computeIfAbsent(domainType, this::getSqlGenerator);
+	}
+
+	/**
+	 * DIFF
+	 * Additional method for {@link JdbcPlusDataAccessStrategy}.
+	 *
+	 * @return the converter of the created {@link SqlGenerator} instances.
+	 */
+	public JdbcConverter getConverter() {
+		return converter;
+	}
+
 	/**
 	 * @return the {@link Dialect} used by the created {@link SqlGenerator} instances. Guaranteed to be not
 	 *         {@literal null}.
@@ -18,12 +18,19 @@
 
 package com.navercorp.spring.data.jdbc.plus.support.convert;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -37,6 +44,10 @@ public class SqlProvider {
 	private final Map<Class<?>, String> fromTableCache = new ConcurrentHashMap<>();
 	private final Map<Class<?>, String> selectAggregateColumnCache = new ConcurrentHashMap<>();
 	private final Map<Class<?>, String> fromAggregateTableCache = new ConcurrentHashMap<>();
+	private final Map<Class<?>, String> aggregateInIdsCache = new ConcurrentHashMap<>();
+	private final Map<PartialAggregateKey, String> selectPartialAggregateColumnCache = new ConcurrentHashMap<>();
+	private final Map<PartialAggregateKey, String> fromPartialAggregateTableCache = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<AggregatePath, String>> aggregateSplitQueryCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates a new Sql provider.
@@ -133,6 +144,125 @@ public class SqlProvider {
 		});
 	}
 
+	/**
+	 * Aggregate columns string, only the relations of the include paths are selected.
+	 * Parent relations of an include path are included as well, e.g. {@code "items.options"} includes {@code "items"}.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	public String aggregateColumns(Class<?> entityType, String... includePaths) {
+		PartialAggregateKey key = new PartialAggregateKey(entityType, Set.copyOf(Arrays.asList(includePaths)));
+		return this.selectPartialAggregateColumnCache.computeIfAbsent(key, k -> {
+			SqlGenerator generator = this.generatorSource.getSqlGenerator(entityType);
+			String selectAggregateFrom = generator.selectAggregateFrom(k.includePaths());
+			int fromIndex = selectAggregateFrom.lastIndexOf(" FROM ");
+			return fromIndex > 0
+				? selectAggregateFrom.substring(6, fromIndex) + " "
+				: selectAggregateFrom + " ";
+		});
+	}
+
+	/**
+	 * Aggregate tables string, only the relations of the include paths are joined.
+	 * Parent relations of an include path are included as well, e.g. {@code "items.options"} includes {@code "items"}.
+	 *
+	 * @param entityType   the entity type
+	 * @param includePaths the dot paths of the included relations
+	 * @return the string
+	 */
+	public String aggregateTables(Class<?> entityType, String... includePaths) {
+		PartialAggregateKey key = new PartialAggregateKey(entityType, Set.copyOf(Arrays.asList(includePaths)));
+		return this.fromPartialAggregateTableCache.computeIfAbsent(key, k -> {
+			SqlGenerator generator = this.generatorSource.getSqlGenerator(entityType);
+			String selectAggregateFrom = generator.selectAggregateFrom(k.includePaths());
+			int fromIndex = selectAggregateFrom.lastIndexOf(" FROM ");
+			if (fromIndex < 0) {
+				throw new MappingException(
+					"Can not generate aggregateTables clause. mapping id does not exist. entity: "
+						+ entityType);
+			}
+			return " " + selectAggregateFrom.substring(fromIndex + 6) + " ";
+		});
+	}
+
+	/**
+	 * Aggregate split queries of relations applied @SqlFetchMode(SPLIT).
+	 * Each query selects the relation rows with the back reference column, filtered by {@code IN (:ids)}.
+	 *
+	 * @param entityType the entity type
+	 * @return the split queries by relation path, empty if the aggregate has no split fetch relation
+	 */
+	public Map<AggregatePath, String> aggregateSplitQueries(Class<?> entityType) {
+		return this.aggregateSplitQueryCache.computeIfAbsent(entityType, e -> {
+			SqlGenerator generator = this.generatorSource.getSqlGenerator(entityType);
+			Map<AggregatePath, String> splitQueries = new LinkedHashMap<>();
+			for (AggregatePath splitPath : generator.getSplitFetchPaths()) {
+				splitQueries.put(splitPath, generator.selectAggregateSplitFrom(splitPath));
+			}
+			return Collections.unmodifiableMap(splitQueries);
+		});
+	}
+
+	/**
+	 * Aggregate query filtered by root ids {@code IN (:ids)}.
+	 *
+	 * @param entityType the entity type
+	 * @return the string
+	 */
+	public String aggregateInIds(Class<?> entityType) {
+		return this.aggregateInIdsCache.computeIfAbsent(entityType, e -> {
+			SqlGenerator generator = this.generatorSource.getSqlGenerator(entityType);
+			return generator.selectAggregateInIds();
+		});
+	}
+
+	/**
+	 * Pre-warm the sql generator and the clauses of the entity type.
+	 * The sql generator is pinned once all clauses are built, so that it is not rebuilt after garbage collection.
+	 *
+	 * @param entityType the entity type
+	 */
+	public void warmUp(Class<?> entityType) {
+		this.columns(entityType);
+		this.tables(entityType);
+		this.aggregateColumns(entityType);
+		this.aggregateTables(entityType);
+		this.aggregateSplitQueries(entityType);
+		this.aggregateInIds(entityType);
+		this.generatorSource.pin(entityType);
+	}
+
+	/**
+	 * Append limit and offset of the pageable to the sql, with the limit clause of the dialect.
+	 * The sql must select a single row per aggregate root without limit and offset, since rows are counted as roots.
+	 * Sort of the pageable is not appended, so the sql should be ordered,
+	 * which some dialects require for the limit clause, e.g. {@code OFFSET ... FETCH} of SQL Server.
+	 *
+	 * @param sql      the sql
+	 * @param pageable the pageable
+	 * @return the paged sql, or the sql itself if unpaged
+	 */
+	public String paged(String sql, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return sql;
+		}
+
+		LimitClause limitClause = this.generatorSource.getDialect().limit();
+		return sql + " " + limitClause.getLimitOffset(pageable.getPageSize(), pageable.getOffset());
+	}
+
+	/**
+	 * Count rows of the sql.
+	 *
+	 * @param sql the sql
+	 * @return the count sql
+	 */
+	public String count(String sql) {
+		return "SELECT COUNT(*) FROM (" + sql + ") count_root";
+	}
+
 	/**
 	 * Gets sql generator source.
 	 *
@@ -141,4 +271,7 @@ public class SqlProvider {
 	public SqlGeneratorSource getSqlGeneratorSource() {
 		return this.generatorSource;
 	}
+
+	private record PartialAggregateKey(Class<?> entityType, Set<String> includePaths) {
+	}
 }
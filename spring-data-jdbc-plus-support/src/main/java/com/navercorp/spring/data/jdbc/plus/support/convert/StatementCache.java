@@ -0,0 +1,72 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.support.convert;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of rendered statements, keyed by the shape of the statement.
+ * Least recently used statements are evicted over the capacity.
+ *
+ * @param <K> the type of the statement shape
+ * @author Myeonghyeon Lee
+ */
+final class StatementCache<K> {
+	private final ConcurrentLruCache<K, String> cache;
+	private final LongAdder requestCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * Instantiates a new Statement cache.
+	 *
+	 * @param capacity the maximum number of statements
+	 * @param renderer renders the statement of the shape on cache miss
+	 */
+	StatementCache(int capacity, Function<K, String> renderer) {
+		this.cache = new ConcurrentLruCache<>(capacity, shape -> {
+			this.missCount.increment();
+			return renderer.apply(shape);
+		});
+	}
+
+	/**
+	 * Gets the statement of the shape, rendered on first request.
+	 *
+	 * @param shape the statement shape
+	 * @return the statement
+	 */
+	String get(K shape) {
+		this.requestCount.increment();
+		return this.cache.get(shape);
+	}
+
+	/**
+	 * Gets the statistics of the cache.
+	 *
+	 * @return the statistics
+	 */
+	StatementCacheStatistics getStatistics() {
+		long requests = this.requestCount.sum();
+		long misses = this.missCount.sum();
+		return new StatementCacheStatistics(Math.max(requests - misses, 0), misses, this.cache.size());
+	}
+}
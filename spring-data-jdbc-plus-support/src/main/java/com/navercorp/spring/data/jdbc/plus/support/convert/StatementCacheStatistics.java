@@ -0,0 +1,65 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.support.convert;
+
+/**
+ * Statistics of the cached dynamic statements of a {@link SqlGenerator}.
+ *
+ * @param hitCount  the number of requests served from the cache
+ * @param missCount the number of requests rendering a new statement
+ * @param size      the number of cached statements
+ * @author Myeonghyeon Lee
+ */
+public record StatementCacheStatistics(long hitCount, long missCount, int size) {
+
+	/**
+	 * Empty statistics.
+	 */
+	public static final StatementCacheStatistics EMPTY = new StatementCacheStatistics(0, 0, 0);
+
+	/**
+	 * Gets the number of requests.
+	 *
+	 * @return the request count
+	 */
+	public long requestCount() {
+		return this.hitCount + this.missCount;
+	}
+
+	/**
+	 * Gets the ratio of requests served from the cache, {@code 1.0} if there is no request.
+	 *
+	 * @return the hit rate
+	 */
+	public double hitRate() {
+		long requestCount = this.requestCount();
+		return requestCount == 0 ? 1.0 : (double)this.hitCount / requestCount;
+	}
+
+	/**
+	 * Sums up the statistics.
+	 *
+	 * @param other the other statistics
+	 * @return the summed statistics
+	 */
+	public StatementCacheStatistics plus(StatementCacheStatistics other) {
+		return new StatementCacheStatistics(
+			this.hitCount + other.hitCount, this.missCount + other.missCount, this.size + other.size);
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.support.parametersource;
+
+import java.sql.SQLType;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Creates the {@link SqlParameterSource} of each row for multi-row insert and batched update SQL operations.
+ *
+ * @author Myeonghyeon Lee
+ * @see org.springframework.data.jdbc.core.convert.SqlParametersFactory
+ */
+public class BatchSqlParametersFactory {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+
+	public BatchSqlParametersFactory(JdbcConverter converter) {
+		this(converter.getMappingContext(), converter);
+	}
+
+	public BatchSqlParametersFactory(
+		RelationalMappingContext context,
+		JdbcConverter converter
+	) {
+		this.context = context;
+		this.converter = converter;
+	}
+
+	/**
+	 * COPY {@link org.springframework.data.jdbc.core.convert.SqlParametersFactory#forInsert}
+	 */
+	public <T> MutableSqlIdentifierParameterSource forInsert(
+		T instance,
+		Class<T> domainType,
+		Identifier identifier,
+		IdValueSource idValueSource
+	) {
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+		addPropertyValues(parameterSource, instance, persistentEntity, "", RelationalPersistentProperty::isIdProperty);
+
+		identifier.forEach((name, value, type) -> addConvertedValue(
+			parameterSource,
+			value,
+			name,
+			type,
+			JdbcUtil.targetSqlTypeFor(type)
+		));
+
+		if (IdValueSource.PROVIDED.equals(idValueSource)) {
+			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+			Object idValue = persistentEntity.getIdentifierAccessor(instance).getRequiredIdentifier();
+			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+		}
+		return parameterSource;
+	}
+
+	/**
+	 * COPY {@link org.springframework.data.jdbc.core.convert.SqlParametersFactory#forUpdate}
+	 */
+	public <T> MutableSqlIdentifierParameterSource forUpdate(T instance, Class<T> domainType) {
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+		addPropertyValues(
+			parameterSource,
+			instance,
+			getRequiredPersistentEntity(domainType),
+			"",
+			RelationalPersistentProperty::isInsertOnly
+		);
+		return parameterSource;
+	}
+
+	/**
+	 * COPY {@link org.springframework.data.jdbc.core.convert.SqlParametersFactory#getParameterSource}
+	 * DIFF: values of a null embedded instance are added as null, instead of using a NoValuePropertyAccessor.
+	 */
+	@SuppressWarnings("unchecked")
+	private <S> void addPropertyValues(
+		SqlIdentifierParameterSource parameterSource,
+		@Nullable S instance,
+		RelationalPersistentEntity<S> persistentEntity,
+		String prefix,
+		Predicate<RelationalPersistentProperty> skipProperty
+	) {
+		@Nullable PersistentPropertyAccessor<S> propertyAccessor =
+			instance != null ? persistentEntity.getPropertyAccessor(instance) : null;
+
+		persistentEntity.doWithAll(property -> {
+			if (skipProperty.test(property) || !property.isWritable()) {
+				return;
+			}
+			if (property.isEntity() && !property.isEmbedded()) {
+				return;
+			}
+
+			Object value = propertyAccessor != null ? propertyAccessor.getProperty(property) : null;
+			if (property.isEmbedded()) {
+				RelationalPersistentEntity<Object> embeddedEntity = (RelationalPersistentEntity<Object>)context
+					.getRequiredPersistentEntity(property.getTypeInformation());
+				addPropertyValues(
+					parameterSource,
+					value,
+					embeddedEntity,
+					prefix + property.getEmbeddedPrefix(),
+					skipProperty
+				);
+			} else {
+				SqlIdentifier paramName = property.getColumnName().transform(prefix::concat);
+				addConvertedPropertyValue(parameterSource, property, value, paramName);
+			}
+		});
+	}
+
+	/**
+	 * COPY {@link org.springframework.data.jdbc.core.convert.SqlParametersFactory#getRequiredPersistentEntity}
+	 */
+	@SuppressWarnings("unchecked")
+	private <S> RelationalPersistentEntity<S> getRequiredPersistentEntity(Class<S> domainType) {
+		return (RelationalPersistentEntity<S>)context.getRequiredPersistentEntity(domainType);
+	}
+
+	/**
+	 * COPY {@link org.springframework.data.jdbc.core.convert.SqlParametersFactory#addConvertedPropertyValue}
+	 */
+	private void addConvertedPropertyValue(
+		SqlIdentifierParameterSource parameterSource,
+		RelationalPersistentProperty property,
+		@Nullable Object value,
+		SqlIdentifier name
+	) {
+		addConvertedValue(
+			parameterSource,
+			value,
+			name,
+			converter.getColumnType(property),
+			converter.getTargetSqlType(property)
+		);
+	}
+
+	/**
+	 * COPY {@link org.springframework.data.jdbc.core.convert.SqlParametersFactory#addConvertedValue}
+	 */
+	private void addConvertedValue(
+		SqlIdentifierParameterSource parameterSource,
+		@Nullable Object value,
+		SqlIdentifier paramName,
+		Class<?> javaType,
+		SQLType sqlType
+	) {
+		JdbcValue jdbcValue = converter.writeJdbcValue(
+			value,
+			javaType,
+			sqlType
+		);
+
+		parameterSource.addValue(
+			paramName,
+			jdbcValue.getValue(),
+			jdbcValue.getJdbcType().getVendorTypeNumber()
+		);
+	}
+}
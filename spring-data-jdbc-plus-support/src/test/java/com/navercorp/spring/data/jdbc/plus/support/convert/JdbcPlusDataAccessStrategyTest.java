@@ -0,0 +1,296 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.data.jdbc.plus.support.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.jdbc.core.dialect.JdbcDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
+import org.springframework.data.jdbc.core.dialect.JdbcHsqlDbDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcSqlServerDialect;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class JdbcPlusDataAccessStrategyTest {
+	private final RelationalMappingContext context = new RelationalMappingContext();
+	private final JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	private final DataAccessStrategy delegate = mock(DataAccessStrategy.class);
+	private final NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+	private final DataAccessStrategy sut = new JdbcPlusDataAccessStrategyFactory(
+		delegate, converter, operations, NonQuotingDialect.INSTANCE).create();
+
+	@Test
+	@DisplayName("BatchedUpdateScope 안의 version update 는 하나의 batch 로 실행하고, 실패한 entity 를 모두 알려준다.")
+	void batchedUpdatesWithVersion() {
+		// given
+		when(operations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] {1, 0, 0});
+		String updateSql = new SqlGeneratorSource(context, converter, NonQuotingDialect.INSTANCE)
+			.getSqlGenerator(VersionedArticle.class)
+			.getUpdateWithVersion();
+
+		// when
+		// then
+		assertThatThrownBy(() -> BatchedUpdateScope.execute(() -> {
+			sut.updateWithVersion(new VersionedArticle(1L, "first", 2L), VersionedArticle.class, 1L);
+			sut.updateWithVersion(new VersionedArticle(2L, "second", 2L), VersionedArticle.class, 1L);
+			sut.updateWithVersion(new VersionedArticle(3L, "third", 2L), VersionedArticle.class, 1L);
+			return null;
+		}))
+			.isInstanceOf(OptimisticLockingFailureException.class)
+			.hasMessageContaining("[id=2]")
+			.hasMessageContaining("[id=3]")
+			.hasMessageNotContaining("[id=1]");
+		verify(operations).batchUpdate(eq(updateSql), argThat((SqlParameterSource[] sources) ->
+			sources.length == 3 && Long.valueOf(1L).equals(sources[0].getValue("___oldOptimisticLockingVersion"))));
+		verify(operations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	@DisplayName("BatchedUpdateScope 안이라도 relation 이 있는 entity 의 update 는 delegate 로 바로 실행한다.")
+	void updateWithRelationsInScope() {
+		// given
+		Board board = new Board(1L, "board", List.of(new Comment("comment")));
+		when(delegate.update(board, Board.class)).thenReturn(true);
+
+		// when
+		boolean updated = BatchedUpdateScope.execute(() -> sut.update(board, Board.class));
+
+		// then
+		assertThat(updated).isTrue();
+		verify(delegate).update(board, Board.class);
+		verify(operations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+
+	@Test
+	@DisplayName("after save callback 은 그때까지 미뤄진 update 를 batch 로 실행하고, scope 가 끝나면 남은 update 만 실행한다.")
+	void flushBatchedUpdatesOnAfterSave() {
+		// given
+		List<Integer> batchSizes = new ArrayList<>();
+		doAnswer(invocation -> {
+			int[] affectedRows = new int[invocation.<SqlParameterSource[]>getArgument(1).length];
+			Arrays.fill(affectedRows, 1);
+			batchSizes.add(affectedRows.length);
+			return affectedRows;
+		}).when(operations).batchUpdate(anyString(), any(SqlParameterSource[].class));
+		BatchedUpdateFlushCallback callback = new BatchedUpdateFlushCallback();
+
+		// when
+		BatchedUpdateScope.execute(() -> {
+			sut.updateWithVersion(new VersionedArticle(1L, "first", 2L), VersionedArticle.class, 1L);
+			sut.updateWithVersion(new VersionedArticle(2L, "second", 2L), VersionedArticle.class, 1L);
+			callback.onAfterSave(new Object());
+			callback.onAfterSave(new Object());
+			sut.updateWithVersion(new VersionedArticle(3L, "third", 2L), VersionedArticle.class, 1L);
+			return null;
+		});
+
+		// then
+		assertThat(batchSizes).containsExactly(2, 1);
+	}
+
+	@Test
+	@DisplayName("BatchedUpdateScope 밖의 update 는 delegate 로 바로 실행한다.")
+	void updateOutOfScope() {
+		// given
+		VersionedArticle article = new VersionedArticle(1L, "first", 2L);
+		when(delegate.updateWithVersion(article, VersionedArticle.class, 1L)).thenReturn(true);
+
+		// when
+		boolean updated = sut.updateWithVersion(article, VersionedArticle.class, 1L);
+
+		// then
+		assertThat(updated).isTrue();
+		verify(delegate).updateWithVersion(article, VersionedArticle.class, 1L);
+		verify(operations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+
+	@Test
+	@DisplayName("Multi-row insert 는 bind parameter 제한을 넘는 row 부터 다음 statement 로 나누어 실행한다.")
+	void insertChunksByBindParameterLimit() {
+		// given
+		DataAccessStrategy sut = create(JdbcSqlServerDialect.INSTANCE);
+		SqlGenerator sqlGenerator = new SqlGeneratorSource(context, converter, JdbcSqlServerDialect.INSTANCE)
+			.getSqlGenerator(Post.class);
+		int columnCount = sqlGenerator.getInsertColumns(Collections.emptySet()).size() + 1;
+		int batchSize = sqlGenerator.getMultiRowInsertBatchSize(columnCount);
+		List<InsertSubject<Post>> insertSubjects = new ArrayList<>();
+		for (long id = 1; id <= batchSize + 1; id++) {
+			insertSubjects.add(InsertSubject.describedBy(new Post(id, "title" + id, "content"), Identifier.empty()));
+		}
+
+		// when
+		sut.insert(insertSubjects, Post.class, IdValueSource.PROVIDED);
+
+		// then
+		assertThat(columnCount).isEqualTo(3);
+		assertThat(batchSize * columnCount).isLessThanOrEqualTo(2000);
+		assertThat((batchSize + 1) * columnCount).isGreaterThan(2000);
+		verify(operations).update(anyString(), argThat((SqlParameterSource source) ->
+			source.getParameterNames().length == batchSize * columnCount
+				&& Long.valueOf(1L).equals(source.getValue("r0_id"))));
+		verify(operations).update(anyString(), argThat((SqlParameterSource source) ->
+			source.getParameterNames().length == columnCount
+				&& Long.valueOf(batchSize + 1).equals(source.getValue("r0_id"))));
+		verify(delegate, never()).insert(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Multi-row insert 로 생성된 id 는 입력 순서대로 반환한다.")
+	void insertReturnsGeneratedIdsInOrder() {
+		// given
+		DataAccessStrategy sut = create(JdbcH2Dialect.INSTANCE);
+		List<InsertSubject<Post>> insertSubjects = List.of(
+			InsertSubject.describedBy(new Post(null, "first", "content"), Identifier.empty()),
+			InsertSubject.describedBy(new Post(null, "second", "content"), Identifier.empty()),
+			InsertSubject.describedBy(new Post(null, "third", "content"), Identifier.empty()));
+		List<Map<String, Object>> generatedKeys = List.of(Map.of("ID", 10L), Map.of("ID", 11L), Map.of("ID", 12L));
+		doAnswer(invocation -> {
+			invocation.getArgument(2, KeyHolder.class).getKeyList().addAll(generatedKeys);
+			return generatedKeys.size();
+		}).when(operations).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+		doAnswer(invocation -> {
+			invocation.getArgument(2, KeyHolder.class).getKeyList().addAll(generatedKeys);
+			return generatedKeys.size();
+		}).when(operations).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class), any());
+
+		// when
+		Object[] ids = sut.insert(insertSubjects, Post.class, IdValueSource.GENERATED);
+
+		// then
+		assertThat(ids).containsExactly(10L, 11L, 12L);
+		verify(delegate, never()).insert(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("여러 row 의 생성된 key 를 반환하지 않는 Dialect 는 delegate 로 insert 한다.")
+	void insertFallbackWithoutMultiRowGeneratedKeys() {
+		// given
+		DataAccessStrategy sut = create(JdbcHsqlDbDialect.INSTANCE);
+		List<InsertSubject<Post>> insertSubjects = List.of(
+			InsertSubject.describedBy(new Post(null, "first", "content"), Identifier.empty()),
+			InsertSubject.describedBy(new Post(null, "second", "content"), Identifier.empty()));
+		when(delegate.insert(insertSubjects, Post.class, IdValueSource.GENERATED)).thenReturn(new Object[] {1L, 2L});
+
+		// when
+		Object[] ids = sut.insert(insertSubjects, Post.class, IdValueSource.GENERATED);
+
+		// then
+		assertThat(ids).containsExactly(1L, 2L);
+		verify(delegate).insert(insertSubjects, Post.class, IdValueSource.GENERATED);
+		verify(operations, never()).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+		verify(operations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	private DataAccessStrategy create(JdbcDialect dialect) {
+		return new JdbcPlusDataAccessStrategyFactory(delegate, converter, operations, dialect).create();
+	}
+
+	@Table("board")
+	static class Board {
+		@Id
+		private final Long id;
+
+		private final String name;
+
+		private final List<Comment> comments;
+
+		Board(Long id, String name, List<Comment> comments) {
+			this.id = id;
+			this.name = name;
+			this.comments = comments;
+		}
+	}
+
+	@Table("comment")
+	static class Comment {
+		private final String content;
+
+		Comment(String content) {
+			this.content = content;
+		}
+	}
+
+	@Table("post")
+	static class Post {
+		@Id
+		private final Long id;
+
+		private final String title;
+
+		private final String content;
+
+		Post(Long id, String title, String content) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+		}
+	}
+
+	@Table("article")
+	static class VersionedArticle {
+		@Id
+		private final Long id;
+
+		private final String title;
+
+		@Version
+		private final Long version;
+
+		VersionedArticle(Long id, String title, Long version) {
+			this.id = id;
+			this.title = title;
+			this.version = version;
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.util.Set;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.ReadOnlyProperty;
@@ -21,6 +22,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.Identifier;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
 import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
 import org.springframework.data.jdbc.core.dialect.JdbcSqlServerDialect;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -28,6 +30,7 @@ import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
@@ -39,6 +42,7 @@ import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.Aliased;
 import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.TableLike;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -305,6 +309,30 @@ class SqlGeneratorTest {
 			"LIMIT 10");
 	}
 
+	@Test
+	@DisplayName("동적 statement 는 shape 별로 캐싱하고, paged statement 는 page 와 관계없이 sort 별로 하나만 캐싱한다.")
+	void dynamicStatementsAreCachedByShape() {
+		// given
+		String paged = sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("name")));
+		String sorted = sqlGenerator.getFindAll(Sort.by("name"));
+
+		// when
+		String pagedAgain = sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("name")));
+		String otherPage = sqlGenerator.getFindAll(PageRequest.of(4, 10, Sort.by("name")));
+		String sortedAgain = sqlGenerator.getFindAll(Sort.by("name"));
+		String unpaged = sqlGenerator.getFindAll(Pageable.unpaged(Sort.by("name")));
+		StatementCacheStatistics statistics = sqlGenerator.getStatementCacheStatistics();
+
+		// then
+		assertThat(pagedAgain).isEqualTo(paged);
+		assertThat(otherPage).isEqualTo(paged.replace("OFFSET 30", "OFFSET 40"));
+		assertThat(sortedAgain).isSameAs(sorted);
+		assertThat(unpaged).isSameAs(sorted);
+		assertThat(statistics.missCount()).isEqualTo(2);
+		assertThat(statistics.hitCount()).isEqualTo(4);
+		assertThat(statistics.size()).isEqualTo(2);
+	}
+
 	@Test // DATAJDBC-1803
 	void selectByQueryWithColumnLimit() {
 
@@ -531,7 +559,7 @@ class SqlGeneratorTest {
 	@Test
 	public void getUpsert() {
 
-		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, new MySqlDialect(IdentifierProcessing.ANSI));
 
 		assertThat(sqlGenerator.getUpsert()).isEqualTo( //
 			"INSERT INTO \"DUMMY_ENTITY\" SET \"id1\" = :id1, \"X_NAME\" = :x_name, \"X_OTHER\" = :x_other"
@@ -542,7 +570,7 @@ class SqlGeneratorTest {
 	public void getUpsertForQuotedColumnName() {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(
-			EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
+			EntityWithQuotedColumnName.class, new MySqlDialect(IdentifierProcessing.ANSI));
 
 		String upsert = sqlGenerator.getUpsert();
 
@@ -552,6 +580,61 @@ class SqlGeneratorTest {
 				+ " ON DUPLICATE KEY UPDATE \"test\"\"_@123\" = :test_123");
 	}
 
+	@Test
+	@DisplayName("MySQL Dialect 의 upsert 는 update 할 column 이 없으면 id 를 그대로 assign 한다.")
+	void getUpsertWithoutUpdatableColumns() {
+		// given
+		SqlGenerator sqlGenerator = createSqlGenerator(IdOnlyEntity.class, new MySqlDialect(IdentifierProcessing.ANSI));
+
+		// when
+		String upsert = sqlGenerator.getUpsert();
+
+		// then
+		assertThat(upsert.toUpperCase()).endsWith(" ON DUPLICATE KEY UPDATE \"ID\" = \"ID\"");
+	}
+
+	@Test
+	@DisplayName("upsert statement 를 지원하지 않는 Dialect 는 예외를 던진다.")
+	void getUpsertForUnsupportedDialect() {
+		// given
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		// when
+		// then
+		assertThatThrownBy(sqlGenerator::getUpsert).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("H2 Dialect 의 upsert 는 MERGE … KEY statement 로 생성한다.")
+	void getUpsertForH2() {
+		// given
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, JdbcH2Dialect.INSTANCE);
+
+		// when
+		String upsert = sqlGenerator.getUpsert();
+
+		// then
+		assertThat(upsert).isEqualToIgnoringCase(
+			"MERGE INTO \"DUMMY_ENTITY\" (\"id1\", \"X_NAME\", \"X_OTHER\") KEY (\"id1\")"
+				+ " VALUES (:id1, :x_name, :x_other)");
+	}
+
+	@Test
+	@DisplayName("PostgreSQL Dialect 의 upsert 는 ON CONFLICT statement 로 생성한다.")
+	void getUpsertForPostgres() {
+		// given
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, JdbcPostgresDialect.INSTANCE);
+
+		// when
+		String upsert = sqlGenerator.getUpsert();
+
+		// then
+		assertThat(upsert).isEqualToIgnoringCase(
+			"INSERT INTO \"DUMMY_ENTITY\" (\"id1\", \"X_NAME\", \"X_OTHER\")"
+				+ " VALUES (:id1, :x_name, :x_other)"
+				+ " ON CONFLICT (\"id1\") DO UPDATE SET \"X_NAME\" = :x_name, \"X_OTHER\" = :x_other");
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -578,6 +661,42 @@ class SqlGeneratorTest {
 			+ "WHERE \"ENTITY_WITH_QUOTED_COLUMN_NAME\".\"test\"\"_@id\" = :test_id");
 	}
 
+	@Test
+	@DisplayName("여러 row 를 한 번에 insert 하는 statement 를 row 별 bind parameter 로 생성한다.")
+	void getMultiRowInsert() {
+		// given
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, JdbcPostgresDialect.INSTANCE);
+
+		// when
+		String insert = sqlGenerator.getMultiRowInsert(emptySet(), 3);
+
+		// then
+		assertThat(insert).isEqualToIgnoringCase("INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_NAME\") "
+			+ "VALUES (:r0_x_name), (:r1_x_name), (:r2_x_name)");
+		assertThat(sqlGenerator.getMultiRowInsert(emptySet(), 3)).isSameAs(insert);
+	}
+
+	@Test
+	@DisplayName("Multi-row insert 의 row 수는 Dialect 의 bind parameter 제한을 넘지 않는다.")
+	void getMultiRowInsertBatchSize() {
+		// given
+		SqlGenerator postgres = createSqlGenerator(DummyEntity.class, JdbcPostgresDialect.INSTANCE);
+		SqlGenerator sqlServer = createSqlGenerator(DummyEntity.class, JdbcSqlServerDialect.INSTANCE);
+		SqlGenerator ansi = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		// when
+		int postgresSmall = postgres.getMultiRowInsertBatchSize(3);
+		int postgresLarge = postgres.getMultiRowInsertBatchSize(100);
+		int sqlServerSmall = sqlServer.getMultiRowInsertBatchSize(3);
+		int ansiSmall = ansi.getMultiRowInsertBatchSize(3);
+
+		// then
+		assertThat(postgresSmall).isEqualTo(1000);
+		assertThat(postgresLarge).isEqualTo(327);
+		assertThat(sqlServerSmall).isEqualTo(666);
+		assertThat(ansiSmall).isZero();
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateInsertSql() {
 
@@ -19,21 +19,31 @@
 package com.navercorp.spring.data.jdbc.plus.support.convert;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
 import org.springframework.data.jdbc.core.dialect.JdbcMySqlDialect;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
+import com.navercorp.spring.jdbc.plus.commons.annotations.SqlFetchMode;
 import com.navercorp.spring.jdbc.plus.commons.annotations.SqlFunction;
 import com.navercorp.spring.jdbc.plus.commons.annotations.SqlTableAlias;
 
@@ -311,6 +321,134 @@ class SqlProviderTest {
 		);
 	}
 
+	@Test
+	@DisplayName("@SqlFetchMode(SPLIT) 연관은 aggregate 조회에서 제외하고 IN 조회를 생성한다.")
+	void aggregateSplitQueries() {
+		// given
+		RelationalMappingContext context = new RelationalMappingContext();
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		});
+		SqlProvider sut = new SqlProvider(context, converter, NonQuotingDialect.INSTANCE);
+
+		// when
+		String tables = sut.aggregateTables(TestWithSplitFetch.class);
+		Map<AggregatePath, String> splitQueries = sut.aggregateSplitQueries(TestWithSplitFetch.class);
+
+		// then
+		assertThat(tables).doesNotContain("test_split_relation_entity");
+		assertThat(splitQueries.size()).isEqualTo(1);
+
+		String splitQuery = splitQueries.values().iterator().next();
+		assertThat(splitQuery).contains("reviews.test_root_id AS reviews_test_root_id");
+		assertThat(splitQuery).contains("reviews.review_nm AS reviews_review_nm");
+		assertThat(splitQuery).contains("FROM test_split_relation_entity reviews");
+		assertThat(splitQuery).contains("WHERE reviews.test_root_id IN (:ids)");
+	}
+
+	@Test
+	@DisplayName("@SqlFetchMode(JSON) 연관은 JSON 배열 컬럼 서브쿼리로 조회한다.")
+	void aggregateColumnsWithJsonFetch() {
+		// given
+		RelationalMappingContext context = new RelationalMappingContext();
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		});
+		SqlProvider sut = new SqlProvider(context, converter, NonQuotingDialect.INSTANCE);
+
+		// when
+		String columns = sut.aggregateColumns(TestWithJsonFetch.class);
+		String tables = sut.aggregateTables(TestWithJsonFetch.class);
+
+		// then
+		assertThat(columns).contains("(SELECT JSON_ARRAYAGG(JSON_OBJECT(");
+		assertThat(columns).contains("'reviews_review_id' VALUE reviews.review_id");
+		assertThat(columns).contains("'reviews_review_nm' VALUE reviews.review_nm");
+		assertThat(columns).contains(
+			"FROM test_split_relation_entity reviews "
+				+ "WHERE reviews.test_root_id = twjf.root_id) AS reviews_json"
+		);
+		assertThat(tables).isEqualTo(" test_table twjf ");
+	}
+
+	@Test
+	@DisplayName("Root id IN 조건으로 aggregate 를 조회한다.")
+	void aggregateInIds() {
+		// given
+		RelationalMappingContext context = new RelationalMappingContext();
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		});
+		SqlProvider sut = new SqlProvider(context, converter, NonQuotingDialect.INSTANCE);
+
+		// when
+		String sql = sut.aggregateInIds(TestWithEntityTableAlias.class);
+
+		// then
+		assertThat(sql).contains(
+			"FROM test_table tweta "
+				+ "LEFT OUTER JOIN test_outer_entity testOuter "
+				+ "ON testOuter.test_root_id = tweta.root_id "
+				+ "LEFT OUTER JOIN test_inner_entity testOuter_address "
+				+ "ON testOuter_address.tester_outer_id = tweta.root_id "
+				+ "WHERE tweta.root_id IN (:ids)"
+		);
+	}
+
+	@Test
+	@DisplayName("include 경로의 연관만 aggregate 조회에 포함한다.")
+	void aggregateWithIncludePaths() {
+		// given
+		RelationalMappingContext context = new RelationalMappingContext();
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		});
+		SqlProvider sut = new SqlProvider(context, converter, NonQuotingDialect.INSTANCE);
+
+		// when
+		String rootTables = sut.aggregateTables(TestWithEntityTableAlias.class, new String[0]);
+		String outerColumns = sut.aggregateColumns(TestWithEntityTableAlias.class, "testOuter");
+		String outerTables = sut.aggregateTables(TestWithEntityTableAlias.class, "testOuter");
+		String nestedTables = sut.aggregateTables(TestWithEntityTableAlias.class, "testOuter.testInner");
+
+		// then
+		assertThat(rootTables).isEqualTo(" test_table tweta ");
+		assertThat(outerColumns).contains("testOuter.tester_nm AS testOuter_tester_nm");
+		assertThat(outerColumns).doesNotContain("testOuter_address.");
+		assertThat(outerTables).isEqualTo(
+			" test_table tweta "
+				+ "LEFT OUTER JOIN test_outer_entity testOuter "
+				+ "ON testOuter.test_root_id = tweta.root_id "
+		);
+		assertThat(nestedTables).isEqualTo(sut.aggregateTables(TestWithEntityTableAlias.class));
+		assertThat(sut.aggregateTables(TestWithEntityTableAlias.class, "testOuter")).isSameAs(outerTables);
+		assertThatThrownBy(() -> sut.aggregateTables(TestWithEntityTableAlias.class, "unknown"))
+			.isInstanceOf(MappingException.class);
+	}
+
+	@Test
+	@DisplayName("Dialect 의 limit 절로 Root 조회를 페이징한다.")
+	void paged() {
+		// given
+		RelationalMappingContext context = new RelationalMappingContext();
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		});
+		SqlProvider sut = new SqlProvider(context, converter, NonQuotingDialect.INSTANCE);
+		String sql = "SELECT " + sut.columns(TestWithEntityTableAlias.class)
+			+ "FROM" + sut.tables(TestWithEntityTableAlias.class) + "ORDER BY tweta.root_id";
+
+		// when
+		String paged = sut.paged(sql, PageRequest.of(2, 10));
+		String unpaged = sut.paged(sql, Pageable.unpaged());
+
+		// then
+		assertThat(paged).startsWith(sql);
+		assertThat(paged).contains("OFFSET 20");
+		assertThat(paged).contains("LIMIT 10");
+		assertThat(unpaged).isEqualTo(sql);
+	}
+
 	@SqlTableAlias("ts")
 	static class TestOuterEntity {
 		private Long testerId;
@@ -389,6 +527,41 @@ class SqlProviderTest {
 		private TestOuterEntity testOuter;
 	}
 
+	@Table("test_table")
+	@SqlTableAlias("twsf")
+	static class TestWithSplitFetch {
+		@Id
+		private Long rootId;
+
+		@Column("root_name")
+		private String rootName;
+
+		@SqlFetchMode(SqlFetchMode.Mode.SPLIT)
+		@SqlTableAlias("reviews")
+		@MappedCollection(idColumn = "test_root_id")
+		private Set<TestSplitRelationEntity> reviews;
+	}
+
+	@Table("test_table")
+	@SqlTableAlias("twjf")
+	@SqlFetchMode(SqlFetchMode.Mode.JSON)
+	static class TestWithJsonFetch {
+		@Id
+		private Long rootId;
+
+		@SqlTableAlias("reviews")
+		@MappedCollection(idColumn = "test_root_id")
+		private Set<TestSplitRelationEntity> reviews;
+	}
+
+	static class TestSplitRelationEntity {
+		@Id
+		private Long reviewId;
+
+		@Column("review_nm")
+		private String reviewName;
+	}
+
 	private static class PrefixingNamingStrategy implements NamingStrategy {
 
 		@Override
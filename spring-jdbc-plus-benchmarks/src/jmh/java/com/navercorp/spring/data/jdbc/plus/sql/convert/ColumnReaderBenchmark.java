@@ -0,0 +1,103 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.data.jdbc.plus.sql.convert;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import com.navercorp.spring.jdbc.plus.benchmarks.BenchmarkEntities;
+import com.navercorp.spring.jdbc.plus.benchmarks.BenchmarkEnvironment;
+
+/**
+ * Typed {@link ColumnReader}s compared with {@link ColumnReader#OBJECT} followed by the value conversion,
+ * reading every column of a 24 columns result set.
+ * Placed in the package of {@link ColumnReader} to reach the package-private readers.
+ *
+ * @author Myeonghyeon Lee
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnReaderBenchmark {
+	@Param({"100"})
+	int rows;
+
+	private AggregateResultJdbcConverter converter;
+	private SimpleResultSet resultSet;
+	private TypeInformation<?>[] types;
+	private ColumnReader[] readers;
+
+	@Setup
+	public void setUp() throws SQLException {
+		BenchmarkEnvironment environment = BenchmarkEnvironment.create(0, 0, 0, rows);
+		this.converter = environment.getJdbcConverter();
+		this.resultSet = environment.copyResultSet(environment.selectWideRows());
+
+		RelationalPersistentEntity<?> entity =
+			environment.getMappingContext().getRequiredPersistentEntity(BenchmarkEntities.WideRow.class);
+		Map<String, RelationalPersistentProperty> properties = new LinkedCaseInsensitiveMap<>();
+		entity.forEach(property -> properties.put(property.getColumnName().getReference(), property));
+
+		int columnCount = this.resultSet.getColumnCount();
+		this.types = new TypeInformation<?>[columnCount];
+		this.readers = new ColumnReader[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			RelationalPersistentProperty property = properties.get(this.resultSet.getColumnLabel(i + 1));
+			this.types[i] = property.getTypeInformation();
+			this.readers[i] = ColumnReader.of(property.getType(), this.converter.getConversions());
+		}
+	}
+
+	@Benchmark
+	public void objectRead(Blackhole blackhole) throws SQLException {
+		this.resultSet.beforeFirst();
+		while (this.resultSet.next()) {
+			for (int i = 0; i < this.types.length; i++) {
+				Object value = ColumnReader.OBJECT.read(this.resultSet, i + 1);
+				blackhole.consume(this.converter.readValue(value, this.types[i]));
+			}
+		}
+	}
+
+	@Benchmark
+	public void typedRead(Blackhole blackhole) throws SQLException {
+		this.resultSet.beforeFirst();
+		while (this.resultSet.next()) {
+			for (int i = 0; i < this.types.length; i++) {
+				Object value = this.readers[i].read(this.resultSet, i + 1);
+				blackhole.consume(this.converter.readValue(value, this.types[i]));
+			}
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Entities of the benchmark schema created by {@link BenchmarkEnvironment}.
+ *
+ * @author Myeonghyeon Lee
+ */
+public final class BenchmarkEntities {
+	private BenchmarkEntities() {
+	}
+
+	/**
+	 * Aggregate root of three levels, order - items - options.
+	 */
+	@Table("bench_order")
+	public static class Order {
+		@Id
+		Long orderId;
+		String orderNo;
+		String buyerName;
+		Integer status;
+		BigDecimal amount;
+		Boolean paid;
+		LocalDateTime orderedAt;
+		LocalDateTime updatedAt;
+
+		@MappedCollection(idColumn = "order_id", keyColumn = "item_seq")
+		List<OrderItem> items = new ArrayList<>();
+	}
+
+	@Table("bench_order_item")
+	public static class OrderItem {
+		@Id
+		Long itemId;
+		String productName;
+		Integer quantity;
+		BigDecimal price;
+
+		@MappedCollection(idColumn = "item_id")
+		Set<OrderItemOption> options = new HashSet<>();
+	}
+
+	@Table("bench_order_item_option")
+	public static class OrderItemOption {
+		@Id
+		Long optionId;
+		String optionName;
+		String optionValue;
+	}
+
+	/**
+	 * Single table entity of 24 columns.
+	 */
+	@Table("bench_wide_row")
+	public static class WideRow {
+		@Id
+		Long rowId;
+		String text1;
+		String text2;
+		String text3;
+		String text4;
+		String text5;
+		String text6;
+		Integer int1;
+		Integer int2;
+		Integer int3;
+		Integer int4;
+		Long long1;
+		Long long2;
+		Long long3;
+		BigDecimal decimal1;
+		BigDecimal decimal2;
+		BigDecimal decimal3;
+		BigDecimal decimal4;
+		LocalDateTime dateTime1;
+		LocalDateTime dateTime2;
+		LocalDateTime dateTime3;
+		Boolean flag1;
+		Boolean flag2;
+		Boolean flag3;
+	}
+
+	public enum OrderStatus {
+		ORDERED, PAID, DELIVERED
+	}
+
+	/**
+	 * Bean of query parameters, bound by bean property parameter sources.
+	 */
+	public static class OrderCriteria {
+		private final String orderNo;
+		private final List<Long> orderIds;
+		private final OrderStatus status;
+		private final LocalDateTime orderedFrom;
+		private final UUID buyerId;
+
+		public OrderCriteria(
+			String orderNo,
+			List<Long> orderIds,
+			OrderStatus status,
+			LocalDateTime orderedFrom,
+			UUID buyerId
+		) {
+			this.orderNo = orderNo;
+			this.orderIds = orderIds;
+			this.status = status;
+			this.orderedFrom = orderedFrom;
+			this.buyerId = buyerId;
+		}
+
+		public String getOrderNo() {
+			return this.orderNo;
+		}
+
+		public List<Long> getOrderIds() {
+			return this.orderIds;
+		}
+
+		public OrderStatus getStatus() {
+			return this.status;
+		}
+
+		public LocalDateTime getOrderedFrom() {
+			return this.orderedFrom;
+		}
+
+		public UUID getBuyerId() {
+			return this.buyerId;
+		}
+	}
+}
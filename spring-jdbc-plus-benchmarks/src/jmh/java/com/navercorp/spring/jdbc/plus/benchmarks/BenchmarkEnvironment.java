@@ -0,0 +1,266 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.SimpleResultSet;
+import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.sql.parametersource.DefaultSqlParameterSourceFactory;
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityJdbcProvider;
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityQueryMappingConfiguration;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
+
+/**
+ * In-memory H2 database of the benchmark schema, and the jdbc plus components wired as the auto configuration does.
+ *
+ * @author Myeonghyeon Lee
+ */
+public final class BenchmarkEnvironment {
+	private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	private final Dialect dialect = JdbcH2Dialect.INSTANCE;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final RelationalMappingContext mappingContext;
+	private final AggregateResultJdbcConverter jdbcConverter;
+	private final SqlProvider sqlProvider;
+	private final EntityQueryMappingConfiguration queryMappingConfiguration;
+	private final EntityJdbcProvider entityJdbcProvider;
+
+	private BenchmarkEnvironment() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+		JdbcCustomConversions conversions = new JdbcCustomConversions();
+		JdbcMappingContext jdbcMappingContext = new JdbcMappingContext();
+		jdbcMappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		this.mappingContext = jdbcMappingContext;
+		this.jdbcConverter = new AggregateResultJdbcConverter(
+			jdbcMappingContext,
+			(identifier, path) -> {
+				throw new UnsupportedOperationException();
+			},
+			conversions,
+			new DefaultJdbcTypeFactory(this.jdbcTemplate.getJdbcOperations()));
+		this.sqlProvider = new SqlProvider(jdbcMappingContext, this.jdbcConverter, this.dialect);
+		this.queryMappingConfiguration = new EntityQueryMappingConfiguration(jdbcMappingContext, this.jdbcConverter);
+		this.entityJdbcProvider = new EntityJdbcProvider(
+			this.jdbcTemplate,
+			this.sqlProvider,
+			new DefaultSqlParameterSourceFactory(jdbcMappingContext, this.jdbcConverter),
+			this.queryMappingConfiguration,
+			event -> {
+			},
+			EntityCallbacks.create());
+	}
+
+	/**
+	 * Create the benchmark database with {@code orders} aggregates,
+	 * each of {@code itemsPerOrder} items of {@code optionsPerItem} options, and {@code wideRows} wide rows.
+	 *
+	 * @param orders         the order count
+	 * @param itemsPerOrder  the item count of an order
+	 * @param optionsPerItem the option count of an item
+	 * @param wideRows       the wide row count
+	 * @return the benchmark environment
+	 */
+	public static BenchmarkEnvironment create(int orders, int itemsPerOrder, int optionsPerItem, int wideRows) {
+		BenchmarkEnvironment environment = new BenchmarkEnvironment();
+		environment.createSchema();
+		environment.insertOrders(orders, itemsPerOrder, optionsPerItem);
+		environment.insertWideRows(wideRows);
+		return environment;
+	}
+
+	/**
+	 * Copy the whole result of the sql into a rewindable in-memory result set,
+	 * so that mapping benchmarks measure the mapping without the driver.
+	 *
+	 * @param sql the sql
+	 * @return the result set, rewound by {@link SimpleResultSet#beforeFirst()}
+	 */
+	public SimpleResultSet copyResultSet(String sql) {
+		ResultSetExtractor<SimpleResultSet> extractor = BenchmarkEnvironment::copyOf;
+		return Objects.requireNonNull(this.jdbcTemplate.getJdbcOperations().query(sql, extractor));
+	}
+
+	private static SimpleResultSet copyOf(ResultSet resultSet) throws SQLException {
+		SimpleResultSet copy = new SimpleResultSet();
+		copy.setAutoClose(false);
+
+		ResultSetMetaData metaData = resultSet.getMetaData();
+		int columnCount = metaData.getColumnCount();
+		for (int i = 1; i <= columnCount; i++) {
+			copy.addColumn(
+				metaData.getColumnLabel(i), metaData.getColumnType(i), metaData.getPrecision(i), metaData.getScale(i));
+		}
+		while (resultSet.next()) {
+			Object[] row = new Object[columnCount];
+			for (int i = 1; i <= columnCount; i++) {
+				row[i - 1] = resultSet.getObject(i);
+			}
+			copy.addRow(row);
+		}
+		return copy;
+	}
+
+	/**
+	 * Gets the aggregate select sql of orders.
+	 *
+	 * @return the sql
+	 */
+	public String selectOrders() {
+		return "SELECT " + this.sqlProvider.aggregateColumns(BenchmarkEntities.Order.class)
+			+ " FROM " + this.sqlProvider.aggregateTables(BenchmarkEntities.Order.class)
+			+ " ORDER BY bench_order.order_id";
+	}
+
+	/**
+	 * Gets the select sql of wide rows.
+	 *
+	 * @return the sql
+	 */
+	public String selectWideRows() {
+		return "SELECT " + this.sqlProvider.columns(BenchmarkEntities.WideRow.class)
+			+ " FROM " + this.sqlProvider.tables(BenchmarkEntities.WideRow.class)
+			+ " ORDER BY bench_wide_row.row_id";
+	}
+
+	public Dialect getDialect() {
+		return this.dialect;
+	}
+
+	public NamedParameterJdbcTemplate getJdbcTemplate() {
+		return this.jdbcTemplate;
+	}
+
+	public RelationalMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	public AggregateResultJdbcConverter getJdbcConverter() {
+		return this.jdbcConverter;
+	}
+
+	public SqlProvider getSqlProvider() {
+		return this.sqlProvider;
+	}
+
+	public EntityQueryMappingConfiguration getQueryMappingConfiguration() {
+		return this.queryMappingConfiguration;
+	}
+
+	public EntityJdbcProvider getEntityJdbcProvider() {
+		return this.entityJdbcProvider;
+	}
+
+	private void createSchema() {
+		JdbcOperations operations = this.jdbcTemplate.getJdbcOperations();
+		operations.execute("CREATE TABLE bench_order ("
+			+ "order_id BIGINT PRIMARY KEY, order_no VARCHAR(40), buyer_name VARCHAR(40), status INT, "
+			+ "amount DECIMAL(19, 2), paid BOOLEAN, ordered_at TIMESTAMP, updated_at TIMESTAMP)");
+		operations.execute("CREATE TABLE bench_order_item ("
+			+ "item_id BIGINT PRIMARY KEY, order_id BIGINT NOT NULL, item_seq INT NOT NULL, "
+			+ "product_name VARCHAR(80), quantity INT, price DECIMAL(19, 2))");
+		operations.execute("CREATE INDEX bench_order_item_order_id ON bench_order_item (order_id)");
+		operations.execute("CREATE TABLE bench_order_item_option ("
+			+ "option_id BIGINT PRIMARY KEY, item_id BIGINT NOT NULL, "
+			+ "option_name VARCHAR(40), option_value VARCHAR(40))");
+		operations.execute("CREATE INDEX bench_order_item_option_item_id ON bench_order_item_option (item_id)");
+		operations.execute("CREATE TABLE bench_wide_row ("
+			+ "row_id BIGINT PRIMARY KEY, "
+			+ "text1 VARCHAR(40), text2 VARCHAR(40), text3 VARCHAR(40), "
+			+ "text4 VARCHAR(40), text5 VARCHAR(40), text6 VARCHAR(40), "
+			+ "int1 INT, int2 INT, int3 INT, int4 INT, long1 BIGINT, long2 BIGINT, long3 BIGINT, "
+			+ "decimal1 DECIMAL(19, 4), decimal2 DECIMAL(19, 4), decimal3 DECIMAL(19, 4), decimal4 DECIMAL(19, 4), "
+			+ "date_time1 TIMESTAMP, date_time2 TIMESTAMP, date_time3 TIMESTAMP, "
+			+ "flag1 BOOLEAN, flag2 BOOLEAN, flag3 BOOLEAN)");
+	}
+
+	private void insertOrders(int orders, int itemsPerOrder, int optionsPerItem) {
+		List<Object[]> orderRows = new ArrayList<>();
+		List<Object[]> itemRows = new ArrayList<>();
+		List<Object[]> optionRows = new ArrayList<>();
+		long itemId = 0;
+		long optionId = 0;
+		for (long orderId = 1; orderId <= orders; orderId++) {
+			Timestamp orderedAt = Timestamp.valueOf(BASE_DATE_TIME.plusMinutes(orderId));
+			orderRows.add(new Object[] {
+				orderId, "ORDER-" + orderId, "buyer-" + orderId, (int)(orderId % 3),
+				BigDecimal.valueOf(orderId * 1000, 2), orderId % 2 == 0, orderedAt, orderedAt});
+			for (int seq = 0; seq < itemsPerOrder; seq++) {
+				itemId++;
+				itemRows.add(new Object[] {
+					itemId, orderId, seq, "product-" + itemId, seq + 1, BigDecimal.valueOf(itemId * 100, 2)});
+				for (int option = 0; option < optionsPerItem; option++) {
+					optionId++;
+					optionRows.add(new Object[] {optionId, itemId, "option-" + option, "value-" + optionId});
+				}
+			}
+		}
+
+		JdbcOperations operations = this.jdbcTemplate.getJdbcOperations();
+		operations.batchUpdate("INSERT INTO bench_order VALUES (?, ?, ?, ?, ?, ?, ?, ?)", orderRows);
+		operations.batchUpdate("INSERT INTO bench_order_item VALUES (?, ?, ?, ?, ?, ?)", itemRows);
+		operations.batchUpdate("INSERT INTO bench_order_item_option VALUES (?, ?, ?, ?)", optionRows);
+	}
+
+	private void insertWideRows(int wideRows) {
+		List<Object[]> rows = new ArrayList<>();
+		for (long rowId = 1; rowId <= wideRows; rowId++) {
+			Timestamp dateTime = Timestamp.valueOf(BASE_DATE_TIME.plusSeconds(rowId));
+			int number = (int)rowId;
+			BigDecimal decimal = BigDecimal.valueOf(rowId, 4);
+			rows.add(new Object[] {
+				rowId,
+				"text1-" + rowId, "text2-" + rowId, "text3-" + rowId, "text4-" + rowId, "text5-" + rowId, null,
+				number, number + 1, number + 2, null,
+				rowId, rowId + 1, null,
+				decimal, decimal, decimal, null,
+				dateTime, dateTime, null,
+				true, false, null});
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(24, "?"));
+		this.jdbcTemplate.getJdbcOperations().batchUpdate(
+			"INSERT INTO bench_wide_row VALUES (" + placeholders + ")", rows);
+	}
+}
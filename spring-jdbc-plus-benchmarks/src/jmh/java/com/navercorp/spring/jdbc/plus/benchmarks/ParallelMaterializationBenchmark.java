@@ -0,0 +1,76 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.sql.convert.ParallelMaterialization;
+
+/**
+ * Sequential and parallel entity materialization of {@link AggregateResultJdbcConverter#mapAggregate},
+ * to find the crossover result size of {@link ParallelMaterialization}.
+ *
+ * @author Myeonghyeon Lee
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelMaterializationBenchmark {
+	@Param({"100", "1000", "10000", "50000"})
+	int orders;
+
+	@Param({"false", "true"})
+	boolean parallel;
+
+	private AggregateResultJdbcConverter converter;
+	private RelationalPersistentEntity<BenchmarkEntities.Order> entity;
+	private SimpleResultSet resultSet;
+	private String sql;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		BenchmarkEnvironment environment = BenchmarkEnvironment.create(orders, 2, 0, 0);
+		this.converter = environment.getJdbcConverter();
+		this.converter.setParallelMaterialization(parallel ? new ParallelMaterialization(1) : null);
+		this.entity = (RelationalPersistentEntity<BenchmarkEntities.Order>)
+			environment.getMappingContext().getRequiredPersistentEntity(BenchmarkEntities.Order.class);
+		this.sql = environment.selectOrders();
+		this.resultSet = environment.copyResultSet(this.sql);
+	}
+
+	@Benchmark
+	public List<BenchmarkEntities.Order> mapAggregate() throws SQLException {
+		this.resultSet.beforeFirst();
+		return this.converter.mapAggregate(this.entity, this.resultSet, null, this.sql);
+	}
+}
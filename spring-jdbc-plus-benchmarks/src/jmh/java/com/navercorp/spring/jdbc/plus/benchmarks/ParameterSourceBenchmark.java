@@ -0,0 +1,89 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.spring.jdbc.plus.support.parametersource.ConvertibleBeanPropertySqlParameterSource;
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.DefaultJdbcParameterSourceConverter;
+
+/**
+ * Parameter binding by {@link ConvertibleBeanPropertySqlParameterSource#getValue(String)}
+ * and {@link DefaultJdbcParameterSourceConverter#convert(String, Object)}.
+ *
+ * @author Myeonghyeon Lee
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParameterSourceBenchmark {
+	private static final String[] PARAMETER_NAMES = {"orderNo", "orderIds", "status", "orderedFrom", "buyerId"};
+
+	private DefaultJdbcParameterSourceConverter converter;
+	private BenchmarkEntities.OrderCriteria criteria;
+	private Object[] values;
+
+	@Setup
+	public void setUp() {
+		this.converter = new DefaultJdbcParameterSourceConverter(List.of());
+		this.criteria = new BenchmarkEntities.OrderCriteria(
+			"ORDER-1",
+			List.of(1L, 2L, 3L, 4L, 5L),
+			BenchmarkEntities.OrderStatus.PAID,
+			LocalDateTime.of(2026, 1, 1, 0, 0),
+			UUID.fromString("3f2a8f5e-0c1b-4d53-9d5e-1f9b3c6a7e21"));
+		this.values = new Object[] {
+			this.criteria.getOrderNo(),
+			this.criteria.getOrderIds(),
+			this.criteria.getStatus(),
+			this.criteria.getOrderedFrom(),
+			this.criteria.getBuyerId()
+		};
+	}
+
+	/**
+	 * A parameter source is created per statement, so the creation is measured together.
+	 */
+	@Benchmark
+	public void beanParameterSourceGetValue(Blackhole blackhole) {
+		ConvertibleBeanPropertySqlParameterSource parameterSource =
+			new ConvertibleBeanPropertySqlParameterSource(this.criteria, this.converter);
+		for (String parameterName : PARAMETER_NAMES) {
+			blackhole.consume(parameterSource.getValue(parameterName));
+		}
+	}
+
+	@Benchmark
+	public void converterConvert(Blackhole blackhole) {
+		for (int i = 0; i < PARAMETER_NAMES.length; i++) {
+			blackhole.consume(this.converter.convert(PARAMETER_NAMES[i], this.values[i]));
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityJdbcProvider;
+import com.navercorp.spring.data.jdbc.plus.sql.support.JdbcRepositorySupport;
+
+/**
+ * End-to-end {@link JdbcRepositorySupport#find} of aggregates and wide rows against in-memory H2.
+ *
+ * @author Myeonghyeon Lee
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryFindBenchmark {
+	@Param({"10", "100"})
+	int rows;
+
+	private OrderRepository orderRepository;
+	private WideRowRepository wideRowRepository;
+	private List<Long> ids;
+
+	@Setup
+	public void setUp() {
+		BenchmarkEnvironment environment = BenchmarkEnvironment.create(rows, 5, 2, rows);
+		this.orderRepository = new OrderRepository(environment.getEntityJdbcProvider());
+		this.wideRowRepository = new WideRowRepository(environment.getEntityJdbcProvider());
+		this.ids = LongStream.rangeClosed(1, rows).boxed().toList();
+	}
+
+	@Benchmark
+	public List<BenchmarkEntities.Order> findAggregates() {
+		return this.orderRepository.findByOrderIds(this.ids);
+	}
+
+	@Benchmark
+	public List<BenchmarkEntities.WideRow> findRows() {
+		return this.wideRowRepository.findByRowIds(this.ids);
+	}
+
+	static class OrderRepository extends JdbcRepositorySupport<BenchmarkEntities.Order> {
+		OrderRepository(EntityJdbcProvider entityJdbcProvider) {
+			super(BenchmarkEntities.Order.class, entityJdbcProvider);
+		}
+
+		List<BenchmarkEntities.Order> findByOrderIds(List<Long> orderIds) {
+			String sql = "SELECT " + aggregateColumns()
+				+ " FROM " + aggregateTables()
+				+ " WHERE bench_order.order_id IN (:orderIds)"
+				+ " ORDER BY bench_order.order_id";
+			return find(sql, mapParameterSource(Map.of("orderIds", orderIds)));
+		}
+	}
+
+	static class WideRowRepository extends JdbcRepositorySupport<BenchmarkEntities.WideRow> {
+		WideRowRepository(EntityJdbcProvider entityJdbcProvider) {
+			super(BenchmarkEntities.WideRow.class, entityJdbcProvider);
+		}
+
+		List<BenchmarkEntities.WideRow> findByRowIds(List<Long> rowIds) {
+			String sql = "SELECT " + columns()
+				+ " FROM " + tables()
+				+ " WHERE bench_wide_row.row_id IN (:rowIds)";
+			return find(sql, mapParameterSource(Map.of("rowIds", rowIds)), getRowMapper());
+		}
+	}
+}
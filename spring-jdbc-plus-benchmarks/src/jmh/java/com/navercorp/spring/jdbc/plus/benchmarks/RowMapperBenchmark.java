@@ -0,0 +1,80 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.navercorp.spring.data.jdbc.plus.sql.provider.EntityQueryMappingConfiguration;
+
+/**
+ * Row mapping of a 24 columns entity by {@link EntityQueryMappingConfiguration#getRowMapper(Class)}.
+ *
+ * @author Myeonghyeon Lee
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowMapperBenchmark {
+	@Param({"1", "100"})
+	int rows;
+
+	private EntityQueryMappingConfiguration queryMappingConfiguration;
+	private RowMapper<BenchmarkEntities.WideRow> rowMapper;
+	private SimpleResultSet resultSet;
+
+	@Setup
+	public void setUp() {
+		BenchmarkEnvironment environment = BenchmarkEnvironment.create(0, 0, 0, rows);
+		this.queryMappingConfiguration = environment.getQueryMappingConfiguration();
+		this.rowMapper = this.queryMappingConfiguration.getRowMapper(BenchmarkEntities.WideRow.class);
+		this.resultSet = environment.copyResultSet(environment.selectWideRows());
+	}
+
+	@Benchmark
+	public void mapRows(Blackhole blackhole) throws SQLException {
+		this.resultSet.beforeFirst();
+		int rowNum = 0;
+		while (this.resultSet.next()) {
+			blackhole.consume(this.rowMapper.mapRow(this.resultSet, rowNum++));
+		}
+	}
+
+	@Benchmark
+	public void getRowMapperAndMapRows(Blackhole blackhole) throws SQLException {
+		RowMapper<BenchmarkEntities.WideRow> mapper =
+			this.queryMappingConfiguration.getRowMapper(BenchmarkEntities.WideRow.class);
+		this.resultSet.beforeFirst();
+		int rowNum = 0;
+		while (this.resultSet.next()) {
+			blackhole.consume(mapper.mapRow(this.resultSet, rowNum++));
+		}
+	}
+}
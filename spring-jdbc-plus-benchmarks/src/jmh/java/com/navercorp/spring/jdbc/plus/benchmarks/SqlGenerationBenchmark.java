@@ -0,0 +1,76 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.spring.jdbc.plus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+import com.navercorp.spring.data.jdbc.plus.sql.convert.AggregateResultJdbcConverter;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlGenerator;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlGeneratorSource;
+import com.navercorp.spring.data.jdbc.plus.support.convert.SqlProvider;
+
+/**
+ * {@link SqlGenerator} construction and {@link SqlProvider#aggregateColumns(Class)} rendering.
+ *
+ * @author Myeonghyeon Lee
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqlGenerationBenchmark {
+	private RelationalMappingContext mappingContext;
+	private AggregateResultJdbcConverter converter;
+	private Dialect dialect;
+	private SqlProvider sqlProvider;
+
+	@Setup
+	public void setUp() {
+		BenchmarkEnvironment environment = BenchmarkEnvironment.create(0, 0, 0, 0);
+		this.mappingContext = environment.getMappingContext();
+		this.converter = environment.getJdbcConverter();
+		this.dialect = environment.getDialect();
+		this.sqlProvider = environment.getSqlProvider();
+	}
+
+	@Benchmark
+	public SqlGenerator createSqlGenerator() {
+		return new SqlGeneratorSource(this.mappingContext, this.converter, this.dialect)
+			.getSqlGenerator(BenchmarkEntities.Order.class);
+	}
+
+	@Benchmark
+	public String aggregateColumnsUncached() {
+		return new SqlProvider(this.mappingContext, this.converter, this.dialect)
+			.aggregateColumns(BenchmarkEntities.Order.class);
+	}
+
+	@Benchmark
+	public String aggregateColumnsCached() {
+		return this.sqlProvider.aggregateColumns(BenchmarkEntities.Order.class);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.commons.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation Sql fetch mode.
+ * Decides how a relation of the aggregate root is loaded by aggregate queries.
+ * Applied on the aggregate root type, it is the default of the relations which are not annotated.
+ *
+ * <pre>
+ * <code>
+ * &#64;SqlFetchMode(SqlFetchMode.Mode.SPLIT)
+ * private List&lt;Review&gt; reviews;
+ * </code>
+ * </pre>
+ *
+ * @author Myeonghyeon Lee
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+@Documented
+public @interface SqlFetchMode {
+
+	Mode value() default Mode.JOIN;
+
+	/**
+	 * Loading strategy of a relation.
+	 */
+	enum Mode {
+		/**
+		 * Joined into the aggregate query with {@code LEFT OUTER JOIN}.
+		 */
+		JOIN,
+
+		/**
+		 * Loaded with a separate query for all roots, filtered by {@code IN (:ids)} on the back reference column.
+		 * Only applied to relations of the aggregate root, nested relations are joined into the separate query.
+		 * Both of the aggregate root and the relation entity must have a single column id, otherwise joined.
+		 */
+		SPLIT,
+
+		/**
+		 * Folded into a JSON array column of the aggregate query by a correlated subquery,
+		 * so that the aggregate query returns a single row per root.
+		 * Only applied to collection and map relations of the aggregate root without nested relations,
+		 * otherwise joined. Values are decoded from JSON text and converted to the property types.
+		 */
+		JSON
+	}
+}
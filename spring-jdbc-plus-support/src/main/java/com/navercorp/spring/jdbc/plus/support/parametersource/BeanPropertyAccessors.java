@@ -0,0 +1,111 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.support.parametersource;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * The read accessors of the bean properties, compiled to {@link MethodHandle}s once per bean class.
+ * The getters are unreflected with the access checks of this class, without making them accessible,
+ * so the getters of classes not accessible from this package, such as private classes of other packages,
+ * have no accessor. Properties without an accessor, such as nested property paths, are read by the
+ * {@code BeanWrapper}.
+ *
+ * @author Myeonghyeon Lee
+ */
+final class BeanPropertyAccessors {
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final ClassValue<BeanPropertyAccessors> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected BeanPropertyAccessors computeValue(Class<?> type) {
+			return new BeanPropertyAccessors(type);
+		}
+	};
+
+	private final Map<String, Accessor> accessors;
+
+	private BeanPropertyAccessors(Class<?> type) {
+		Map<String, Accessor> accessors = new HashMap<>();
+		for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+			Method readMethod = descriptor.getReadMethod();
+			MethodHandle getter = readMethod != null ? unreflect(readMethod) : null;
+			if (getter != null) {
+				accessors.put(descriptor.getName(), new Accessor(getter, descriptor.getPropertyType()));
+			}
+		}
+		this.accessors = accessors;
+	}
+
+	/**
+	 * Gets the accessors of the bean class.
+	 *
+	 * @param type the bean class
+	 * @return the accessors
+	 */
+	static BeanPropertyAccessors of(Class<?> type) {
+		return ACCESSORS.get(type);
+	}
+
+	/**
+	 * Gets the accessor of the property.
+	 *
+	 * @param propertyName the property name
+	 * @return the accessor, {@literal null} if the property has no compiled accessor
+	 */
+	@Nullable Accessor get(String propertyName) {
+		return this.accessors.get(propertyName);
+	}
+
+	private static @Nullable MethodHandle unreflect(Method readMethod) {
+		try {
+			return MethodHandles.lookup().unreflect(readMethod).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The read accessor of a property.
+	 *
+	 * @param getter       the getter of {@code (Object) -> Object} type
+	 * @param propertyType the property type
+	 */
+	record Accessor(MethodHandle getter, Class<?> propertyType) {
+		@Nullable Object get(Object bean) {
+			try {
+				return (Object)this.getter.invokeExact(bean);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UndeclaredThrowableException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.support.parametersource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * The sql parameter sources of the rows of a batch, storing the values column-wise.
+ * A column is resolved for all rows at its first lookup, and the source of a row only holds its row index.
+ * Not thread-safe, as a batch is bound by a single thread.
+ *
+ * @author Myeonghyeon Lee
+ */
+public class ColumnarBatchSqlParameterSource {
+	private static final Column ABSENT_COLUMN = new Column(new Object[0], new int[0], false);
+
+	private final int rowCount;
+	private final ColumnResolver columnResolver;
+	private final Map<String, Column> columns = new HashMap<>();
+
+	/**
+	 * Instantiates a new Columnar batch sql parameter source.
+	 *
+	 * @param rowCount       the row count
+	 * @param columnResolver the column resolver
+	 */
+	public ColumnarBatchSqlParameterSource(int rowCount, ColumnResolver columnResolver) {
+		this.rowCount = rowCount;
+		this.columnResolver = columnResolver;
+	}
+
+	/**
+	 * Gets the sql parameter sources of the rows, to be used for
+	 * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations#batchUpdate}.
+	 *
+	 * @return the sql parameter sources of the rows
+	 */
+	public SqlParameterSource[] getRows() {
+		SqlParameterSource[] rows = new SqlParameterSource[this.rowCount];
+		for (int i = 0; i < this.rowCount; i++) {
+			rows[i] = new Row(i);
+		}
+		return rows;
+	}
+
+	private @Nullable Column getColumn(String paramName) {
+		Column column = this.columns.get(paramName);
+		if (column == null) {
+			Column resolved = this.columnResolver.resolve(paramName);
+			column = resolved != null ? resolved : ABSENT_COLUMN;
+			this.columns.put(paramName, column);
+		}
+		return column != ABSENT_COLUMN ? column : null;
+	}
+
+	/**
+	 * The resolver of the column of a parameter.
+	 */
+	@FunctionalInterface
+	public interface ColumnResolver {
+		/**
+		 * Resolve the column of the parameter for all rows.
+		 *
+		 * @param paramName the param name
+		 * @return the column, {@literal null} if the parameter is absent
+		 */
+		@Nullable Column resolve(String paramName);
+	}
+
+	/**
+	 * The values of a parameter for all rows.
+	 *
+	 * @param values   the values of the rows
+	 * @param sqlTypes the sql types of the rows
+	 * @param present  whether the rows have the parameter, false if the values are fallback values
+	 */
+	public record Column(@Nullable Object[] values, int[] sqlTypes, boolean present) {
+	}
+
+	private class Row implements SqlParameterSource {
+		private final int index;
+
+		Row(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public boolean hasValue(String paramName) {
+			Column column = getColumn(paramName);
+			return column != null && column.present();
+		}
+
+		@Override
+		public @Nullable Object getValue(String paramName) throws IllegalArgumentException {
+			Column column = getColumn(paramName);
+			if (column == null) {
+				throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
+			}
+			return column.values()[this.index];
+		}
+
+		@Override
+		public int getSqlType(String paramName) {
+			Column column = getColumn(paramName);
+			return column != null ? column.sqlTypes()[this.index] : TYPE_UNKNOWN;
+		}
+	}
+}
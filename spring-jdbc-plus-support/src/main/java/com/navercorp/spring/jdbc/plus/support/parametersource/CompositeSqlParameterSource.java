@@ -30,7 +30,7 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
  *
  * @author Myeonghyeon Lee
  */
-public class CompositeSqlParameterSource implements SqlParameterSource {
+public class CompositeSqlParameterSource implements ProbingSqlParameterSource {
 	private final List<SqlParameterSource> sqlParameterSources;
 
 	/**
@@ -63,13 +63,30 @@ public class CompositeSqlParameterSource implements SqlParameterSource {
 
 	@Override
 	public @Nullable Object getValue(String paramName) throws IllegalArgumentException {
+		Object value = this.probeValue(paramName);
+		if (value == ABSENT) {
+			throw new IllegalArgumentException(
+				"Can not find '" + paramName + "' parameter in CompositeSqlParameterSource.");
+		}
+		return value;
+	}
+
+	/**
+	 * The {@link ProbingSqlParameterSource}s are probed once, the others are checked by hasValue before getValue.
+	 */
+	@Override
+	public @Nullable Object probeValue(String paramName) {
 		for (SqlParameterSource each : this.sqlParameterSources) {
-			if (each.hasValue(paramName)) {
+			if (each instanceof ProbingSqlParameterSource probing) {
+				Object value = probing.probeValue(paramName);
+				if (value != ABSENT) {
+					return value;
+				}
+			} else if (each.hasValue(paramName)) {
 				return each.getValue(paramName);
 			}
 		}
-		throw new IllegalArgumentException(
-			"Can not find '" + paramName + "' parameter in CompositeSqlParameterSource.");
+		return ABSENT;
 	}
 
 	@Override
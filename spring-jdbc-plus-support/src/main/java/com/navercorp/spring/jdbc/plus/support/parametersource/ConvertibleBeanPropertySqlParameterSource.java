@@ -31,11 +31,17 @@ import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackP
 
 /**
  * The type Convertible bean property sql parameter source.
+ * Properties are read by the accessors compiled per bean class. The {@code BeanWrapper} of the super class is
+ * still created per bean, but it introspects and reads the bean only for nested property paths, properties
+ * without an accessible getter and the sql type lookup.
  *
  * @author Myeonghyeon Lee
  * @author IAM20
  */
-public class ConvertibleBeanPropertySqlParameterSource extends BeanPropertySqlParameterSource {
+public class ConvertibleBeanPropertySqlParameterSource extends BeanPropertySqlParameterSource
+	implements ProbingSqlParameterSource {
+	private final Object bean;
+	private final BeanPropertyAccessors accessors;
 	private final JdbcParameterSourceConverter converter;
 	private final @Nullable FallbackParameterSource fallbackParameterSource;
 	private final @Nullable String prefix;
@@ -101,6 +107,8 @@ public class ConvertibleBeanPropertySqlParameterSource extends BeanPropertySqlPa
 	) {
 
 		super(bean);
+		this.bean = bean;
+		this.accessors = BeanPropertyAccessors.of(bean.getClass());
 		this.prefix = prefix != null ? prefix.trim() : null;
 		this.converter = Objects.requireNonNull(converter, "Converter must not be null.");
 		this.fallbackParameterSource = fallbackParameterSource;
@@ -108,44 +116,42 @@ public class ConvertibleBeanPropertySqlParameterSource extends BeanPropertySqlPa
 
 	@Override
 	public boolean hasValue(String paramName) {
-		String patchedParamName;
-		try {
-			patchedParamName = this.patchParamName(paramName);
-		} catch (IllegalArgumentException e) {
-			return false;
-		}
-		return super.hasValue(patchedParamName);
+		String patchedParamName = this.patchParamName(paramName);
+		return patchedParamName != null
+			&& (this.accessors.get(patchedParamName) != null || super.hasValue(patchedParamName));
 	}
 
 	@Nullable
 	@Override
 	public Object getValue(String paramName) {
-		String patchedParamName = paramName;
-		Object value = null;
-
-		try {
-			patchedParamName = this.patchParamName(paramName);
-			value = super.getValue(patchedParamName);
-		} catch (IllegalArgumentException e) {
-			if (!this.isFallback(patchedParamName)) {
-				throw e;
+		String patchedParamName = this.patchParamName(paramName);
+		if (patchedParamName == null) {
+			if (!this.isFallback(paramName)) {
+				throw new IllegalArgumentException("Param name does not starts with " + this.prefix);
 			}
+			return this.resolveValue(paramName, null);
 		}
 
-		if (value == null && this.isFallback(patchedParamName)) {
-			value = this.fallback(patchedParamName);
+		Object value = this.readValue(patchedParamName);
+		if (value == ABSENT) {
+			if (!this.isFallback(patchedParamName)) {
+				throw new IllegalArgumentException(
+					"Can not find '" + patchedParamName + "' property in " + this.bean.getClass().getName());
+			}
+			value = null;
 		}
+		return this.resolveValue(patchedParamName, value);
+	}
 
-		value = this.converter.convert(patchedParamName, value);
-		if (this.paddingIterableParams) {
-			value = IterableExpandPadding.expandIfIterable(
-				value,
-				padArray,
-				this.paddingIterableBoundaries
-			);
+	@Override
+	public @Nullable Object probeValue(String paramName) {
+		String patchedParamName = this.patchParamName(paramName);
+		if (patchedParamName == null) {
+			return ABSENT;
 		}
 
-		return value;
+		Object value = this.readValue(patchedParamName);
+		return value == ABSENT ? ABSENT : this.resolveValue(patchedParamName, value);
 	}
 
 	/**
@@ -166,6 +172,37 @@ public class ConvertibleBeanPropertySqlParameterSource extends BeanPropertySqlPa
 		this.paddingIterableParams = padding;
 	}
 
+	/**
+	 * Reads the property by the compiled accessor, or by the {@code BeanWrapper} for nested property paths
+	 * and properties without an accessible getter.
+	 *
+	 * @return the property value, or {@link #ABSENT} if the property is not readable
+	 */
+	private @Nullable Object readValue(String paramName) {
+		BeanPropertyAccessors.Accessor accessor = this.accessors.get(paramName);
+		if (accessor != null) {
+			return accessor.get(this.bean);
+		}
+		return super.hasValue(paramName) ? super.getValue(paramName) : ABSENT;
+	}
+
+	private @Nullable Object resolveValue(String paramName, @Nullable Object value) {
+		if (value == null && this.isFallback(paramName)) {
+			value = this.fallback(paramName);
+		}
+
+		value = this.converter.convert(paramName, value);
+		if (this.paddingIterableParams) {
+			value = IterableExpandPadding.expandIfIterable(
+				value,
+				padArray,
+				this.paddingIterableBoundaries
+			);
+		}
+
+		return value;
+	}
+
 	private boolean isFallback(String paramName) {
 		return this.fallbackParameterSource != null && this.fallbackParameterSource.isFallback(paramName);
 	}
@@ -176,13 +213,16 @@ public class ConvertibleBeanPropertySqlParameterSource extends BeanPropertySqlPa
 		return this.fallbackParameterSource.fallback(paramName);
 	}
 
-	private String patchParamName(String paramName) {
+	/**
+	 * @return the param name without the prefix, {@literal null} if the param name does not start with the prefix
+	 */
+	private @Nullable String patchParamName(String paramName) {
 		if (!StringUtils.hasText(prefix)) {
 			return paramName;
 		}
 
 		if (!paramName.startsWith(prefix)) {
-			throw new IllegalArgumentException("Param name does not starts with " + this.prefix);
+			return null;
 		}
 
 		return paramName.substring(prefix.length());
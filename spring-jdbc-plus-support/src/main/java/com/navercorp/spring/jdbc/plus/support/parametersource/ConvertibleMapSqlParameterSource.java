@@ -35,7 +35,7 @@ import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackP
  * @author Myeonghyeon Lee
  * @author IAM20
  */
-public class ConvertibleMapSqlParameterSource extends MapSqlParameterSource {
+public class ConvertibleMapSqlParameterSource extends MapSqlParameterSource implements ProbingSqlParameterSource {
 	private final JdbcParameterSourceConverter converter;
 	private final @Nullable FallbackParameterSource fallbackParameterSource;
 
@@ -73,29 +73,18 @@ public class ConvertibleMapSqlParameterSource extends MapSqlParameterSource {
 	@Nullable
 	@Override
 	public Object getValue(String paramName) {
-		Object value = null;
-		try {
-			value = super.getValue(paramName);
-		} catch (IllegalArgumentException e) {
+		if (!this.hasValue(paramName)) {
 			if (!this.isFallback(paramName)) {
-				throw e;
+				throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
 			}
+			return this.resolveValue(paramName, null);
 		}
+		return this.resolveValue(paramName, super.getValue(paramName));
+	}
 
-		if (value == null && this.isFallback(paramName)) {
-			value = this.fallback(paramName);
-		}
-
-		value = this.converter.convert(paramName, value);
-		if (this.paddingIterableParams) {
-			value = IterableExpandPadding.expandIfIterable(
-				value,
-				this.padArray,
-				this.paddingIterableBoundaries
-			);
-		}
-
-		return value;
+	@Override
+	public @Nullable Object probeValue(String paramName) {
+		return this.hasValue(paramName) ? this.resolveValue(paramName, super.getValue(paramName)) : ABSENT;
 	}
 
 	/**
@@ -116,6 +105,23 @@ public class ConvertibleMapSqlParameterSource extends MapSqlParameterSource {
 		this.paddingIterableParams = padding;
 	}
 
+	private @Nullable Object resolveValue(String paramName, @Nullable Object value) {
+		if (value == null && this.isFallback(paramName)) {
+			value = this.fallback(paramName);
+		}
+
+		value = this.converter.convert(paramName, value);
+		if (this.paddingIterableParams) {
+			value = IterableExpandPadding.expandIfIterable(
+				value,
+				this.padArray,
+				this.paddingIterableBoundaries
+			);
+		}
+
+		return value;
+	}
+
 	private boolean isFallback(String paramName) {
 		return this.fallbackParameterSource != null && this.fallbackParameterSource.isFallback(paramName);
 	}
@@ -18,12 +18,16 @@
 
 package com.navercorp.spring.jdbc.plus.support.parametersource;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.StatementCreatorUtils;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.IterableExpandPadding;
 import com.navercorp.spring.jdbc.plus.support.parametersource.converter.JdbcParameterSourceConverter;
 import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackParameterSource;
 
@@ -105,6 +109,46 @@ public class ConvertibleParameterSourceFactory {
 		return paramSource;
 	}
 
+	/**
+	 * Bean batch parameter source sql parameter sources.
+	 * The values are read column-wise by the compiled property accessors shared by the rows of the same bean class.
+	 *
+	 * @param beans the beans
+	 * @return the sql parameter sources of the beans
+	 */
+	public SqlParameterSource[] beanBatchParameterSource(List<?> beans) {
+		Class<?> beanType = beans.isEmpty() ? null : beans.get(0).getClass();
+		for (Object bean : beans) {
+			if (bean.getClass() != beanType) {
+				return beans.stream().map(this::beanParameterSource).toArray(SqlParameterSource[]::new);
+			}
+		}
+
+		BeanPropertyAccessors accessors = beanType != null ? BeanPropertyAccessors.of(beanType) : null;
+		return new ColumnarBatchSqlParameterSource(
+			beans.size(), paramName -> this.resolveBeanColumn(beans, accessors, paramName)).getRows();
+	}
+
+	/**
+	 * Convert value as the convertible parameter sources of this factory do,
+	 * with the fallback value for {@literal null}, the converter and the iterable padding.
+	 *
+	 * @param paramName the param name
+	 * @param value     the value
+	 * @return the converted value
+	 */
+	public @Nullable Object convertValue(String paramName, @Nullable Object value) {
+		if (value == null && this.isFallback(paramName)) {
+			value = this.fallbackParameterSource.fallback(paramName);
+		}
+
+		value = this.converter.convert(paramName, value);
+		if (this.paddingIterableParams) {
+			value = IterableExpandPadding.expandIfIterable(value, false, this.paddingIterableBoundaries);
+		}
+		return value;
+	}
+
 	/**
 	 * Sets padding iterable param.
 	 *
@@ -150,6 +194,46 @@ public class ConvertibleParameterSourceFactory {
 		return this.converter;
 	}
 
+	private ColumnarBatchSqlParameterSource.@Nullable Column resolveBeanColumn(
+		List<?> beans, @Nullable BeanPropertyAccessors accessors, String paramName) {
+
+		int rowCount = beans.size();
+		Object[] values = new Object[rowCount];
+		int[] sqlTypes = new int[rowCount];
+		BeanPropertyAccessors.Accessor accessor = accessors != null ? accessors.get(paramName) : null;
+		if (accessor != null) {
+			int sqlType = StatementCreatorUtils.javaTypeToSqlParameterType(accessor.propertyType());
+			for (int i = 0; i < rowCount; i++) {
+				values[i] = this.convertValue(paramName, accessor.get(beans.get(i)));
+				sqlTypes[i] = sqlType;
+			}
+			return new ColumnarBatchSqlParameterSource.Column(values, sqlTypes, true);
+		}
+
+		if (rowCount > 0 && new BeanPropertySqlParameterSource(beans.get(0)).hasValue(paramName)) {
+			for (int i = 0; i < rowCount; i++) {
+				BeanPropertySqlParameterSource row = new BeanPropertySqlParameterSource(beans.get(i));
+				values[i] = this.convertValue(paramName, row.getValue(paramName));
+				sqlTypes[i] = row.getSqlType(paramName);
+			}
+			return new ColumnarBatchSqlParameterSource.Column(values, sqlTypes, true);
+		}
+
+		if (!this.isFallback(paramName)) {
+			return null;
+		}
+		Object value = this.convertValue(paramName, null);
+		for (int i = 0; i < rowCount; i++) {
+			values[i] = value;
+			sqlTypes[i] = SqlParameterSource.TYPE_UNKNOWN;
+		}
+		return new ColumnarBatchSqlParameterSource.Column(values, sqlTypes, false);
+	}
+
+	private boolean isFallback(String paramName) {
+		return this.fallbackParameterSource != null && this.fallbackParameterSource.isFallback(paramName);
+	}
+
 	/**
 	 * Gets fallback.
 	 *
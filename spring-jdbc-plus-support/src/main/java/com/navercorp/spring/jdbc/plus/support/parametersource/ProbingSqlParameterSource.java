@@ -0,0 +1,50 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.support.parametersource;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * The sql parameter source resolving the presence and the value of a parameter in a single call.
+ * Probing never throws for absent parameters, so that {@link CompositeSqlParameterSource} probes its sources
+ * without filling stack traces.
+ *
+ * @author Myeonghyeon Lee
+ */
+public interface ProbingSqlParameterSource extends SqlParameterSource {
+	/**
+	 * The value probed for absent parameters.
+	 */
+	Object ABSENT = new Object() {
+		@Override
+		public String toString() {
+			return "ABSENT";
+		}
+	};
+
+	/**
+	 * Probe the value of the parameter,
+	 * equivalent to {@link #getValue(String)} if {@link #hasValue(String)}, {@link #ABSENT} otherwise.
+	 *
+	 * @param paramName the param name
+	 * @return the value, or {@link #ABSENT} if the parameter is absent
+	 */
+	@Nullable Object probeValue(String paramName);
+}
@@ -20,12 +20,16 @@ package com.navercorp.spring.jdbc.plus.support.parametersource.converter;
 
 import static java.util.stream.Collectors.toMap;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.ResolvableType;
@@ -45,6 +49,8 @@ public class DefaultJdbcParameterSourceConverter implements JdbcParameterSourceC
 	private final Converter<Enum<?>, Object> enumConverter;
 	private final Map<Class<?>, Unwrapper<?>> unwrappers;
 	private final List<ConditionalUnwrapper<?>> conditionalUnwrappers;
+	private final Map<Class<?>, Resolution<Unwrapper<?>>> unwrapperResolutions = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Resolution<Converter<?, ?>>> converterResolutions = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates a new Default jdbc parameter source converter.
@@ -178,6 +184,10 @@ public class DefaultJdbcParameterSourceConverter implements JdbcParameterSourceC
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	private @Nullable Object convert(@Nullable Object value) {
+		if (value == null) {
+			return null;
+		}
+
 		Unwrapper unwrapper = resolveUnwrapper(value);
 		if (unwrapper != null) {
 			value = unwrapper.unwrap(value);
@@ -206,57 +216,130 @@ public class DefaultJdbcParameterSourceConverter implements JdbcParameterSourceC
 		return value;
 	}
 
-	@SuppressWarnings("rawtypes")
-	@Nullable
-	private Unwrapper resolveUnwrapper(@Nullable Object value) {
-		if (value == null) {
-			return null;
+	private @Nullable Unwrapper<?> resolveUnwrapper(Object value) {
+		Resolution<Unwrapper<?>> resolution = this.unwrapperResolutions.get(value.getClass());
+		if (resolution == null) {
+			resolution = this.unwrapperResolutions.computeIfAbsent(value.getClass(), type ->
+				Resolution.of(value, this.unwrappers.get(type), this.conditionalUnwrappers));
 		}
+		return resolution.resolve(value);
+	}
 
-		Class<?> clazz = value.getClass();
-		Unwrapper unwrapper = this.unwrappers.get(clazz);
-		if (unwrapper != null) {
-			return unwrapper;
+	private @Nullable Converter<?, ?> resolveConverter(Object value) {
+		Resolution<Converter<?, ?>> resolution = this.converterResolutions.get(value.getClass());
+		if (resolution == null) {
+			resolution = this.converterResolutions.computeIfAbsent(value.getClass(), type ->
+				Resolution.of(value, this.converters.get(type), this.conditionalConverters));
 		}
+		return resolution.resolve(value);
+	}
 
-		for (ConditionalUnwrapper each : this.conditionalUnwrappers) {
-			if (each.matches(value)) {
-				return each;
-			}
+	/**
+	 * Evaluates if the values of the type are returned as they are, without any element to convert.
+	 * Only final types already resolved are regarded, so that the elements are not scanned.
+	 */
+	private boolean isPassThrough(Class<?> type) {
+		if (!Modifier.isFinal(type.getModifiers())
+			|| type.isArray() || type.isEnum() || Iterable.class.isAssignableFrom(type)) {
+			return false;
 		}
-		return null;
+
+		Resolution<Unwrapper<?>> unwrapperResolution = this.unwrapperResolutions.get(type);
+		Resolution<Converter<?, ?>> converterResolution = this.converterResolutions.get(type);
+		return unwrapperResolution != null && unwrapperResolution.isEmpty()
+			&& converterResolution != null && converterResolution.isEmpty();
 	}
 
-	@SuppressWarnings("rawtypes")
-	@Nullable
-	private Converter resolveConverter(Object value) {
-		Class<?> clazz = value.getClass();
-		Converter converter = this.converters.get(clazz);
-		if (converter != null) {
-			return converter;
+	/**
+	 * The array is copied only if any element is converted.
+	 */
+	private @Nullable Object[] convertElements(Object[] array) {
+		if (isPassThrough(array.getClass().getComponentType())) {
+			return array;
 		}
 
-		for (ConditionalConverter each : this.conditionalConverters) {
-			if (each.matches(value)) {
-				return each;
+		@Nullable Object[] result = null;
+		for (int i = 0; i < array.length; i++) {
+			Object converted = this.convert(array[i]);
+			if (result == null && converted != array[i]) {
+				result = new Object[array.length];
+				System.arraycopy(array, 0, result, 0, i);
+			}
+			if (result != null) {
+				result[i] = converted;
 			}
 		}
-		return null;
+		return result != null ? result : array;
 	}
 
-	private @Nullable Object[] convertElements(Object[] array) {
-		@Nullable Object[] result = new Object[array.length];
-		for (int i = 0; i < array.length; i++) {
-			result[i] = this.convert(array[i]);
+	/**
+	 * The collection is copied only if any element is converted, the other iterables are always copied to a list.
+	 */
+	private Iterable<?> convertElements(Iterable<?> iterable) {
+		if (!(iterable instanceof Collection<?> collection)) {
+			List<@Nullable Object> result = new ArrayList<>();
+			for (Object element : iterable) {
+				result.add(this.convert(element));
+			}
+			return result;
 		}
-		return result;
+
+		List<@Nullable Object> result = null;
+		int index = 0;
+		for (Object element : collection) {
+			Object converted = this.convert(element);
+			if (result == null && converted != element) {
+				result = new ArrayList<>(collection.size());
+				Iterator<?> unconverted = collection.iterator();
+				for (int i = 0; i < index; i++) {
+					result.add(unconverted.next());
+				}
+			}
+			if (result != null) {
+				result.add(converted);
+			}
+			index++;
+		}
+		return result != null ? result : collection;
 	}
 
-	private List<?> convertElements(Iterable<?> iterable) {
-		List<@Nullable Object> result = new ArrayList<>();
-		for (Object element : iterable) {
-			result.add(this.convert(element));
+	/**
+	 * The resolution of a value class.
+	 * The candidates depending on the value are matched in order, before the resolved one of the class.
+	 *
+	 * @param candidates the candidates depending on the value
+	 * @param resolved   the resolved one of the class
+	 * @param <T>        the unwrapper or converter type
+	 */
+	private record Resolution<T>(List<T> candidates, @Nullable T resolved) {
+		static <T> Resolution<T> of(Object value, @Nullable T exact, List<? extends T> conditionals) {
+			if (exact != null) {
+				return new Resolution<>(List.of(), exact);
+			}
+
+			List<T> candidates = new ArrayList<>();
+			for (T conditional : conditionals) {
+				ValueMatcher matcher = (ValueMatcher)conditional;
+				if (matcher.dependsOnValue()) {
+					candidates.add(conditional);
+				} else if (matcher.matches(value)) {
+					return new Resolution<>(List.copyOf(candidates), conditional);
+				}
+			}
+			return new Resolution<>(List.copyOf(candidates), null);
+		}
+
+		@Nullable T resolve(Object value) {
+			for (T candidate : this.candidates) {
+				if (((ValueMatcher)candidate).matches(value)) {
+					return candidate;
+				}
+			}
+			return this.resolved;
+		}
+
+		boolean isEmpty() {
+			return this.candidates.isEmpty() && this.resolved == null;
 		}
-		return result;
 	}
 }
@@ -32,4 +32,14 @@ public interface ValueMatcher {
 	 * @return true if matched, false otherwise
 	 */
 	boolean matches(Object value);
+
+	/**
+	 * Evaluates if {@link #matches(Object)} depends on the value itself, not only on the class of the value.
+	 * The matches of the matchers not depending on the value are cached per class of the value.
+	 *
+	 * @return true if the match must be evaluated for each value, false otherwise
+	 */
+	default boolean dependsOnValue() {
+		return true;
+	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.support.parametersource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.DefaultJdbcParameterSourceConverter;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class ColumnarBatchSqlParameterSourceTest {
+	private final ConvertibleParameterSourceFactory factory = new ConvertibleParameterSourceFactory(
+		new DefaultJdbcParameterSourceConverter(List.of()), null);
+
+	@Test
+	@DisplayName("Bean 목록을 column 단위로 읽어 row 별 SqlParameterSource 로 반환합니다.")
+	void beanBatchParameterSource() {
+		// given
+		List<Member> members = List.of(Member.of("jack", 20), Member.of("jill", 30));
+
+		// when
+		SqlParameterSource[] actual = this.factory.beanBatchParameterSource(members);
+
+		// then
+		assertThat(actual).hasSize(2);
+		assertThat(actual[0].getValue("name")).isEqualTo("jack");
+		assertThat(actual[1].getValue("name")).isEqualTo("jill");
+		assertThat(actual[1].getValue("age")).isEqualTo(30);
+		assertThat(actual[0].getSqlType("name")).isEqualTo(Types.VARCHAR);
+		assertThat(actual[0].getSqlType("age")).isEqualTo(Types.INTEGER);
+	}
+
+	@Test
+	@DisplayName("column 은 처음 조회할 때 한 번만 모든 row 에 대해 resolve 합니다.")
+	void resolveColumnOnce() {
+		// given
+		int[] resolveCount = new int[1];
+		ColumnarBatchSqlParameterSource sut = new ColumnarBatchSqlParameterSource(2, paramName -> {
+			resolveCount[0]++;
+			return "name".equals(paramName)
+				? new ColumnarBatchSqlParameterSource.Column(
+					new Object[] {"jack", "jill"}, new int[] {Types.VARCHAR, Types.VARCHAR}, true)
+				: null;
+		});
+
+		// when
+		SqlParameterSource[] rows = sut.getRows();
+		Object first = rows[0].getValue("name");
+		Object second = rows[1].getValue("name");
+
+		// then
+		assertThat(first).isEqualTo("jack");
+		assertThat(second).isEqualTo("jill");
+		assertThat(resolveCount[0]).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("없는 파라미터는 hasValue 가 false 이고, getValue 가 IllegalArgumentException 을 던집니다.")
+	void absentParameter() {
+		// given
+		SqlParameterSource[] rows = this.factory.beanBatchParameterSource(List.of(Member.of("jack", 20)));
+
+		// when
+		boolean actual = rows[0].hasValue("none");
+
+		// then
+		assertThat(actual).isFalse();
+		assertThat(rows[0].getSqlType("none")).isEqualTo(SqlParameterSource.TYPE_UNKNOWN);
+		assertThatThrownBy(() -> rows[0].getValue("none"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("none");
+	}
+
+	static class Member {
+		private String name;
+		private int age;
+
+		static Member of(String name, int age) {
+			Member member = new Member();
+			member.name = name;
+			member.age = age;
+			return member;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.support.parametersource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.DefaultJdbcParameterSourceConverter;
+import com.navercorp.spring.jdbc.plus.support.parametersource.converter.JdbcParameterSourceConverter;
+
+/**
+ * @author Myeonghyeon Lee
+ */
+class CompositeSqlParameterSourceTest {
+	private final JdbcParameterSourceConverter converter = new DefaultJdbcParameterSourceConverter(List.of());
+
+	@Test
+	@DisplayName("먼저 값을 가진 source 의 값을 반환합니다.")
+	void getValue() {
+		// given
+		CompositeSqlParameterSource sut = new CompositeSqlParameterSource(
+			new ConvertibleMapSqlParameterSource(Map.of("name", "first"), this.converter),
+			new MapSqlParameterSource(Map.of("name", "second", "age", 20)),
+			new ConvertibleMapSqlParameterSource(Map.of("age", 30, "grade", "A"), this.converter)
+		);
+
+		// when
+		Object name = sut.getValue("name");
+		Object age = sut.getValue("age");
+		Object grade = sut.getValue("grade");
+
+		// then
+		assertThat(name).isEqualTo("first");
+		assertThat(age).isEqualTo(20);
+		assertThat(grade).isEqualTo("A");
+	}
+
+	@Test
+	@DisplayName("어느 source 에도 없는 파라미터는 probeValue 가 ABSENT 를, getValue 가 IllegalArgumentException 을 반환합니다.")
+	void probeValueAbsent() {
+		// given
+		CompositeSqlParameterSource sut = new CompositeSqlParameterSource(
+			new ConvertibleMapSqlParameterSource(Map.of("name", "first"), this.converter),
+			new MapSqlParameterSource(Map.of("age", 20))
+		);
+
+		// when
+		Object actual = sut.probeValue("none");
+
+		// then
+		assertThat(actual).isSameAs(ProbingSqlParameterSource.ABSENT);
+		assertThat(sut.hasValue("none")).isFalse();
+		assertThatThrownBy(() -> sut.getValue("none"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("none");
+	}
+}
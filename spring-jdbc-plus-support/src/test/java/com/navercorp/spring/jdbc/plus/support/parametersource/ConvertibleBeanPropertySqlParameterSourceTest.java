@@ -34,6 +34,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 
 import com.navercorp.spring.jdbc.plus.support.parametersource.converter.DefaultJdbcParameterSourceConverter;
 import com.navercorp.spring.jdbc.plus.support.parametersource.converter.JdbcParameterSourceConverter;
+import com.navercorp.spring.jdbc.plus.support.parametersource.external.ExternalBeans;
 import com.navercorp.spring.jdbc.plus.support.parametersource.fallback.FallbackParameterSource;
 
 /**
@@ -212,6 +213,29 @@ class ConvertibleBeanPropertySqlParameterSourceTest {
 		assertThat(sut.hasValue(paramName)).isFalse();
 	}
 
+	@Test
+	@DisplayName("probeValue 는 Exception 없이 hasValue 가 true 인 값만 반환하고, 없는 파라미터는 ABSENT 를 반환합니다.")
+	void probeValue() {
+		// given
+		Instant now = Instant.now();
+		Criteria criteria = Criteria.of(null, now);
+		ConvertibleBeanPropertySqlParameterSource sut = new ConvertibleBeanPropertySqlParameterSource(
+			"test.", criteria, this.converter, new TestFallbackParamSource());
+
+		// when
+		Object occurrenceTime = sut.probeValue("test.occurrenceTime");
+		Object notPrefixed = sut.probeValue("occurrenceTime");
+		Object fallback = sut.probeValue("none");
+		Object absent = sut.probeValue("test.none");
+
+		// then
+		assertThat(occurrenceTime).isEqualTo(Timestamp.from(now));
+		assertThat(notPrefixed).isSameAs(ProbingSqlParameterSource.ABSENT);
+		assertThat(fallback).isSameAs(ProbingSqlParameterSource.ABSENT);
+		assertThat(absent).isSameAs(ProbingSqlParameterSource.ABSENT);
+		assertThat(sut.getValue("test.none")).isEqualTo("fallback");
+	}
+
 	@DisplayName("Iterable 한 값은, element 를 컨버팅한 후 expand padding 을 수행한다.")
 	@ParameterizedTest
 	@AutoSource
@@ -262,6 +286,57 @@ class ConvertibleBeanPropertySqlParameterSourceTest {
 		assertThat(list).hasSize(5);
 	}
 
+	@Test
+	@DisplayName("같은 class 의 bean 은 property accessor 를 공유한다.")
+	void accessorsPerClass() {
+		// given
+		Criteria criteria = Criteria.of("sample", Instant.now());
+		Criteria other = Criteria.of("other", Instant.now());
+
+		// when
+		BeanPropertyAccessors accessors = BeanPropertyAccessors.of(criteria.getClass());
+
+		// then
+		assertThat(BeanPropertyAccessors.of(other.getClass())).isSameAs(accessors);
+		assertThat(accessors.get("name")).isNotNull();
+		assertThat(accessors.get("none")).isNull();
+	}
+
+	@Test
+	@DisplayName("접근할 수 없는 private nested class 의 getter 는 BeanWrapper 로 조회합니다.")
+	void getValueOfInaccessibleClass() {
+		// given
+		Object bean = ExternalBeans.privateBean("sample");
+		ConvertibleBeanPropertySqlParameterSource sut = new ConvertibleBeanPropertySqlParameterSource(
+			bean, this.converter);
+
+		// when
+		Object actual = sut.getValue("name");
+
+		// then
+		assertThat(BeanPropertyAccessors.of(bean.getClass()).get("name")).isNull();
+		assertThat(sut.hasValue("name")).isTrue();
+		assertThat(sut.probeValue("name")).isEqualTo("sample");
+		assertThat(actual).isEqualTo("sample");
+	}
+
+	@Test
+	@DisplayName("Nested property path 는 BeanWrapper 로 조회합니다.")
+	void getNestedValue() {
+		// given
+		Instant now = Instant.now();
+		CriteriaHolder holder = CriteriaHolder.of(Criteria.of("sample", now));
+		ConvertibleBeanPropertySqlParameterSource sut = new ConvertibleBeanPropertySqlParameterSource(
+			holder, this.converter);
+
+		// when
+		Object actual = sut.getValue("criteria.occurrenceTime");
+
+		// then
+		assertThat(sut.hasValue("criteria.name")).isTrue();
+		assertThat(actual).isEqualTo(Timestamp.from(now));
+	}
+
 	static class Criteria {
 		private String name;
 		private Instant occurrenceTime;
@@ -302,6 +377,20 @@ class ConvertibleBeanPropertySqlParameterSourceTest {
 		}
 	}
 
+	static class CriteriaHolder {
+		private Criteria criteria;
+
+		static CriteriaHolder of(Criteria criteria) {
+			CriteriaHolder holder = new CriteriaHolder();
+			holder.criteria = criteria;
+			return holder;
+		}
+
+		public Criteria getCriteria() {
+			return this.criteria;
+		}
+	}
+
 	static class TestFallbackParamSource implements FallbackParameterSource {
 		@Override
 		public boolean isFallback(@NotNull String paramName) {
@@ -308,6 +308,47 @@ class DefaultJdbcParameterSourceConverterTest {
 		assertThat(actual).isEqualTo("conditional converted conditional unwrapped hello");
 	}
 
+	@Test
+	@DisplayName("변환할 element 가 없는 Collection 과 Array 는 복사하지 않고 그대로 반환합니다.")
+	void convertElementsPassThrough() {
+		// given
+		DefaultJdbcParameterSourceConverter sut = new DefaultJdbcParameterSourceConverter(List.of());
+		List<String> collection = Arrays.asList("1", "2", "3");
+		String[] array = new String[] {"1", "2", "3"};
+		List<Object> mixed = Arrays.asList("1", Season.SPRING);
+
+		// when
+		Object actualCollection = sut.convert("name", collection);
+		Object actualArray = sut.convert("name", array);
+		Object actualMixed = sut.convert("name", mixed);
+
+		// then
+		assertThat(actualCollection).isSameAs(collection);
+		assertThat(actualArray).isSameAs(array);
+		assertThat(actualMixed).isNotSameAs(mixed).isEqualTo(List.of("1", "SPRING"));
+	}
+
+	@Test
+	@DisplayName("Value 에 의존하지 않는 ConditionalConverter 는 타입별로 한 번만 match 합니다.")
+	void convertConditionalConverterMatchesPerType() {
+		// given
+		CountingConditionalConverter typeMatcher = new CountingConditionalConverter(false);
+		CountingConditionalConverter valueMatcher = new CountingConditionalConverter(true);
+		DefaultJdbcParameterSourceConverter typeSut = new DefaultJdbcParameterSourceConverter(List.of(typeMatcher));
+		DefaultJdbcParameterSourceConverter valueSut = new DefaultJdbcParameterSourceConverter(List.of(valueMatcher));
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			typeSut.convert("name", new JsonValue("value" + i));
+			valueSut.convert("name", new JsonValue("value" + i));
+		}
+
+		// then
+		assertThat(typeMatcher.matchCount).isEqualTo(1);
+		assertThat(valueMatcher.matchCount).isEqualTo(3);
+		assertThat(typeSut.convert("name", new JsonValue("hello"))).isEqualTo("counted hello");
+	}
+
 	@Test
 	void constructorDuplicatedConverter() {
 		List<Converter<?, ?>> converters = new ArrayList<>();
@@ -461,6 +502,31 @@ class DefaultJdbcParameterSourceConverterTest {
 
 	}
 
+	private static class CountingConditionalConverter implements ConditionalConverter<JsonNode, String> {
+		private final boolean dependsOnValue;
+		private int matchCount = 0;
+
+		CountingConditionalConverter(boolean dependsOnValue) {
+			this.dependsOnValue = dependsOnValue;
+		}
+
+		@Override
+		public boolean matches(Object value) {
+			this.matchCount++;
+			return value instanceof JsonNode;
+		}
+
+		@Override
+		public boolean dependsOnValue() {
+			return this.dependsOnValue;
+		}
+
+		@Override
+		public String convert(JsonNode source) {
+			return "counted " + source;
+		}
+	}
+
 	static class JsonNode {
 		private String value;
 
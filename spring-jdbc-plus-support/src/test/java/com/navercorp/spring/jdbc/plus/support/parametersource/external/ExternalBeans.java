@@ -0,0 +1,45 @@
+/*
+ * Spring JDBC Plus
+ *
+ * Copyright 2020-2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.spring.jdbc.plus.support.parametersource.external;
+
+/**
+ * Beans of a package other than the parameter sources.
+ *
+ * @author Myeonghyeon Lee
+ */
+public final class ExternalBeans {
+	private ExternalBeans() {
+	}
+
+	public static Object privateBean(String name) {
+		return new PrivateBean(name);
+	}
+
+	private static class PrivateBean {
+		private final String name;
+
+		PrivateBean(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}